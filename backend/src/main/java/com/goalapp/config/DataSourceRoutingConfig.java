@@ -0,0 +1,55 @@
+package com.goalapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 연결 풀 분리 설정 (jobs.datasource.enabled=true 일 때만 적용)
+ * - interactive 풀: spring.datasource.hikari.* (API 요청)
+ * - background 풀: jobs.datasource.hikari.* (스케줄/관리자 작업, 알림 폴러)
+ *   RoutingDataSource.runInBackground를 쓰는 스레드마다 연결 하나가 필요하므로 풀 크기는 그 수 이상으로 둔다
+ * 단일 연결 풀 환경(prod)에서 긴 작업이 API 요청의 연결을 점유하지 않도록 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jobs.datasource.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource interactiveDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("jobs.datasource.hikari")
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * JPA/JdbcTemplate이 사용하는 기본 DataSource
+     * LazyConnectionDataSourceProxy로 감싸 실제 쿼리 시점의 스레드 기준으로 풀을 선택한다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("interactiveDataSource") DataSource interactiveDataSource,
+                                 @Qualifier("backgroundDataSource") DataSource backgroundDataSource) {
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                RoutingDataSource.Route.INTERACTIVE, interactiveDataSource,
+                RoutingDataSource.Route.BACKGROUND, backgroundDataSource));
+        routingDataSource.setDefaultTargetDataSource(interactiveDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
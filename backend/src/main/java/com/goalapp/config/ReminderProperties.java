@@ -0,0 +1,53 @@
+package com.goalapp.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * 목표 알림 발송 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "reminders")
+@Validated
+@Data
+public class ReminderProperties {
+
+    // 발송 채널: log | file
+    private String sink = "log";
+
+    // file 채널 사용 시 기록할 파일 경로
+    private String filePath = "logs/reminders.log";
+
+    // 알림 발송 시각 (HH:mm)
+    private String timeOfDay = "09:00";
+
+    // 한 번에 조회/발송하는 알림 수 (힙 사용량 상한)
+    @Min(1)
+    @Max(500)
+    private int batchSize = 50;
+
+    // 폴링 1회당 최대 배치 수
+    @Min(1)
+    private int maxBatchesPerPoll = 10;
+
+    // 발송 실패 시 최대 재시도 횟수 (초과 시 해당 회차는 건너뛰고 다음 주기로)
+    @Min(0)
+    private int maxAttempts = 5;
+
+    // 첫 재시도 대기 시간 (이후 2배씩 증가)
+    private Duration initialBackoff = Duration.ofMinutes(1);
+
+    // 재시도 대기 시간 상한
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    public LocalTime getTime() {
+        return LocalTime.parse(timeOfDay);
+    }
+}
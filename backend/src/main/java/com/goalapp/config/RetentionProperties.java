@@ -0,0 +1,64 @@
+package com.goalapp.config;
+
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.RetentionAction;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목표 데이터 보존 정책 설정
+ *
+ * <pre>
+ * retention:
+ *   rules:
+ *     - status: EXPIRED
+ *       action: ARCHIVE
+ *       after-days: 1
+ *     - status: COMPLETED
+ *       type: DAILY        # 생략 시 해당 상태의 나머지 모든 타입
+ *       action: DELETE
+ *       after-days: 365
+ * </pre>
+ * 경과 일수는 마지막 수정 시각(updatedAt) 기준이다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "retention")
+@Validated
+@Data
+public class RetentionProperties {
+
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        @NotNull
+        private GoalStatus status;
+
+        // null이면 같은 상태의 타입 지정 규칙이 없는 모든 타입에 적용
+        private GoalType type;
+
+        @NotNull
+        private RetentionAction action;
+
+        @Min(0)
+        private int afterDays;
+
+        /**
+         * 워터마크 저장 키 - 규칙 정의가 바뀌면 새 키로 처음부터 처리
+         */
+        public String checkpointKey() {
+            return "retention:" + status + ":" + (type != null ? type : "*") + ":" + action;
+        }
+    }
+}
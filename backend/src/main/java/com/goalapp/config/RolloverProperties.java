@@ -0,0 +1,36 @@
+package com.goalapp.config;
+
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.RolloverMode;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 기간 종료 시 미완료 목표 이월 설정
+ *
+ * <pre>
+ * rollover:
+ *   modes:
+ *     DAILY: CARRY_FORWARD
+ *     WEEKLY: CLONE
+ * </pre>
+ * 지정하지 않은 타입은 이월하지 않는다 (기본 설정은 비어 있어 이월은 명시적으로 켜야 함).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rollover")
+@Validated
+@Data
+public class RolloverProperties {
+
+    private Map<GoalType, RolloverMode> modes = new EnumMap<>(GoalType.class);
+
+    // 다운타임 후 한 번에 보충 처리할 최대 기간 수
+    @Min(1)
+    private int maxCatchUpPeriods = 31;
+}
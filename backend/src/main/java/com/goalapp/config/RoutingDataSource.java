@@ -0,0 +1,39 @@
+package com.goalapp.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 대화형 요청과 백그라운드 작업의 연결 풀을 분리하는 라우팅 DataSource
+ * 백그라운드로 표시된 스레드에서 얻는 연결은 별도의 작은 풀에서 가져온다.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<Route> CURRENT = ThreadLocal.withInitial(() -> Route.INTERACTIVE);
+
+    /**
+     * 작업을 백그라운드 풀 연결로 실행
+     */
+    public static void runInBackground(Runnable task) {
+        Route previous = CURRENT.get();
+        CURRENT.set(Route.BACKGROUND);
+        try {
+            task.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static boolean isBackground() {
+        return CURRENT.get() == Route.BACKGROUND;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+}
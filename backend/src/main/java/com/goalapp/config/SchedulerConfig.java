@@ -1,15 +1,34 @@
 package com.goalapp.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Spring Scheduler 설정
- * @Scheduled 어노테이션을 사용한 스케줄러를 활성화합니다.
+ * cron 작업은 JobScheduler가 JobType 정의를 기반으로 등록하며,
+ * 실제 실행은 단일 스레드 jobExecutor에서 비동기로 처리한다.
  */
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
-    // @EnableScheduling 만으로도 충분
-    // 필요시 TaskScheduler bean을 커스터마이징할 수 있음
+
+    /**
+     * 백그라운드 작업 실행기
+     * 단일 스레드로 작업을 직렬화하여 DB 연결을 동시에 하나만 사용하도록 한다.
+     */
+    @Bean(name = "jobExecutor")
+    public ThreadPoolTaskExecutor jobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("job-");
+        // 작업 스레드의 DB 연결은 background 풀에서 가져온다 (풀 분리 비활성화 시 기본 풀)
+        executor.setTaskDecorator(task -> () -> RoutingDataSource.runInBackground(task));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
 }
@@ -0,0 +1,84 @@
+package com.goalapp.controller;
+
+import com.goalapp.dto.response.JobInfoResponse;
+import com.goalapp.dto.response.JobRunResponse;
+import com.goalapp.entity.JobRun;
+import com.goalapp.entity.JobTrigger;
+import com.goalapp.entity.JobType;
+import com.goalapp.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 백그라운드 작업 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminJobController {
+
+    private final JobService jobService;
+
+    /**
+     * 작업 목록 (스케줄, 다음 실행 시각, 마지막 실행)
+     */
+    @GetMapping
+    public ResponseEntity<List<JobInfoResponse>> getJobs() {
+        List<JobInfoResponse> responses = Arrays.stream(JobType.values())
+                .map(type -> JobInfoResponse.builder()
+                        .jobType(type)
+                        .description(type.getDescription())
+                        .cron(type.getCron())
+                        .nextFireAt(jobService.getNextFireTime(type))
+                        .lastRun(jobService.getLastRun(type)
+                                .map(this::toResponse)
+                                .orElse(null))
+                        .build())
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 실행 이력 조회 - {runId}보다 먼저 정의
+     * @param type 작업 종류 (생략 시 전체)
+     * @param limit 최대 조회 건수 (기본 20, 최대 100)
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<List<JobRunResponse>> getRuns(
+            @RequestParam(required = false) JobType type,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<JobRunResponse> responses = jobService.getHistory(type, limit).stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 실행 진행 상황 조회 (처리 행 수, 청크 수, 경과 시간)
+     */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<JobRunResponse> getRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(toResponse(jobService.getRun(runId)));
+    }
+
+    /**
+     * 작업 비동기 실행
+     */
+    @PostMapping("/{jobType}/run")
+    public ResponseEntity<JobRunResponse> runJob(@PathVariable JobType jobType) {
+        log.info("Triggering job: {}", jobType);
+        JobRun run = jobService.submit(jobType, JobTrigger.MANUAL);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(JobRunResponse.from(run));
+    }
+
+    private JobRunResponse toResponse(JobRun run) {
+        return JobRunResponse.from(run, jobService.getProgress(run.getId()).orElse(null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.goalapp.controller;
+
+import com.goalapp.dto.response.CompletionPartitionResponse;
+import com.goalapp.service.CompletionPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 루틴 완료 기록 연도 파티션 관리 API
+ * 봉인은 작업 API(ROUTINE_COMPLETION_SEAL)로 실행한다.
+ */
+@RestController
+@RequestMapping("/api/admin/partitions")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminPartitionController {
+
+    private final CompletionPartitionService partitionService;
+
+    /**
+     * 파티션 카탈로그 조회
+     */
+    @GetMapping
+    public ResponseEntity<List<CompletionPartitionResponse>> getPartitions() {
+        List<CompletionPartitionResponse> responses = partitionService.getPartitions().stream()
+                .map(CompletionPartitionResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 파티션 분리 (조회에서 제외, 테이블 유지)
+     */
+    @PostMapping("/{year}/detach")
+    public ResponseEntity<CompletionPartitionResponse> detach(@PathVariable int year) {
+        log.info("Detaching completion partition: {}", year);
+        return ResponseEntity.ok(CompletionPartitionResponse.from(partitionService.detach(year)));
+    }
+
+    /**
+     * 분리한 파티션 다시 연결
+     */
+    @PostMapping("/{year}/attach")
+    public ResponseEntity<CompletionPartitionResponse> attach(@PathVariable int year) {
+        log.info("Attaching completion partition: {}", year);
+        return ResponseEntity.ok(CompletionPartitionResponse.from(partitionService.attach(year)));
+    }
+
+    /**
+     * 분리한 파티션 테이블 삭제
+     */
+    @DeleteMapping("/{year}")
+    public ResponseEntity<CompletionPartitionResponse> drop(@PathVariable int year) {
+        log.info("Dropping completion partition: {}", year);
+        return ResponseEntity.ok(CompletionPartitionResponse.from(partitionService.drop(year)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.goalapp.controller;
+
+import com.goalapp.dto.response.DashboardSummaryResponse;
+import com.goalapp.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 홈 화면 대시보드 API
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 목표 상태/타입별 수, 기한 초과·만료 임박 수, 오늘 루틴 완료율
+     * @param hours 만료 임박 기준 시간 (기본: 24시간)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryResponse> getSummary(@RequestParam(defaultValue = "24") int hours) {
+        return ResponseEntity.ok(DashboardSummaryResponse.from(dashboardService.getSummary(hours)));
+    }
+}
@@ -1,7 +1,10 @@
 package com.goalapp.controller;
 
+import com.goalapp.dto.request.ArchivedGoalCursor;
 import com.goalapp.dto.request.CreateGoalRequest;
 import com.goalapp.dto.request.UpdateGoalRequest;
+import com.goalapp.dto.response.ArchivedGoalPageResponse;
+import com.goalapp.dto.response.GoalProgressPointResponse;
 import com.goalapp.dto.response.GoalResponse;
 import com.goalapp.entity.Goal;
 import com.goalapp.entity.GoalStatus;
@@ -10,10 +13,12 @@ import com.goalapp.service.GoalService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +137,23 @@ public class GoalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 목표 진행률 이력 (번업 차트, 기본: 최근 90일)
+     * 첫 항목은 시작일 시점의 값이며, 이후 항목은 진행률이 바뀐 날만 포함한다.
+     */
+    @GetMapping("/{goalId}/progress/history")
+    public ResponseEntity<List<GoalProgressPointResponse>> getGoalProgressHistory(
+            @PathVariable Long goalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(89);
+        List<GoalProgressPointResponse> responses = goalService.getProgressHistory(goalId, start, end).stream()
+                .map(GoalProgressPointResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 목표 생성
      */
@@ -240,7 +262,7 @@ public class GoalController {
     }
 
     /**
-     * 보관된 목표들 조회
+     * 보관된 목표들 조회 (기존 클라이언트 호환용, 새 화면은 /archived/page 사용)
      */
     @GetMapping("/archived")
     public ResponseEntity<List<GoalResponse>> getArchivedGoals() {
@@ -251,6 +273,17 @@ public class GoalController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 보관된 목표 페이지 조회 (최근 보관 순, 커서 기반)
+     */
+    @GetMapping("/archived/page")
+    public ResponseEntity<ArchivedGoalPageResponse> getArchivedGoalPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size) {
+        ArchivedGoalCursor decoded = (cursor != null && !cursor.isBlank()) ? ArchivedGoalCursor.decode(cursor) : null;
+        return ResponseEntity.ok(ArchivedGoalPageResponse.from(goalService.getArchivedGoalPage(decoded, size)));
+    }
+
     /**
      * 목표 수동 만료 처리
      */
@@ -271,6 +304,16 @@ public class GoalController {
         return ResponseEntity.ok(GoalResponse.fromWithoutSubGoals(archivedGoal));
     }
 
+    /**
+     * 보관된 목표 복원
+     */
+    @PostMapping("/{goalId}/restore")
+    public ResponseEntity<GoalResponse> restoreGoal(@PathVariable Long goalId) {
+        log.info("Restoring goal: {}", goalId);
+        Goal restoredGoal = goalService.restoreGoal(goalId);
+        return ResponseEntity.ok(GoalResponse.fromWithoutSubGoals(restoredGoal));
+    }
+
     /**
      * 목표 기간 연장
      * @param goalId 목표 ID
@@ -0,0 +1,60 @@
+package com.goalapp.controller;
+
+import com.goalapp.entity.ReviewPeriod;
+import com.goalapp.entity.ReviewReport;
+import com.goalapp.service.ReviewReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 주간/월간 회고 리포트 API
+ * 소급 변경으로 리포트가 다시 만들어질 수 있으므로 캐시는 매번 ETag로 재검증하게 하고 (304는 키 조회 한 번),
+ * 다시 만든 리포트는 내용이 달라져 새 ETag를 받는다.
+ */
+@RestController
+@RequestMapping("/api/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private static final String CACHE_CONTROL = "public, no-cache";
+
+    private final ReviewReportService reviewReportService;
+
+    /**
+     * 끝난 기간의 회고 리포트 (start: 주는 월요일, 월은 1일)
+     * gzip을 받는 클라이언트에는 저장된 압축 문서를 그대로 보낸다.
+     */
+    @GetMapping("/{period}/{start}")
+    public ResponseEntity<byte[]> getReview(
+            @PathVariable ReviewPeriod period,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ReviewReport report = reviewReportService.getReport(period, start);
+        String etag = "\"" + report.getEtag() + "\"";
+
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(report.getContent());
+        }
+        return response.body(ReviewReportService.decompress(report.getContent()));
+    }
+}
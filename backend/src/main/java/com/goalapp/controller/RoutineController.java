@@ -2,20 +2,31 @@ package com.goalapp.controller;
 
 import com.goalapp.dto.request.CreateRoutineRequest;
 import com.goalapp.dto.request.UpdateRoutineRequest;
+import com.goalapp.dto.request.BatchCompleteRoutinesRequest;
 import com.goalapp.dto.request.CompleteRoutineRequest;
+import com.goalapp.dto.request.CompletionCursor;
+import com.goalapp.dto.request.LinkRoutineGoalRequest;
+import com.goalapp.dto.response.BatchCompletionResponse;
+import com.goalapp.dto.response.CompletionBucketResponse;
+import com.goalapp.dto.response.CompletionPageResponse;
+import com.goalapp.dto.response.HeatmapResponse;
 import com.goalapp.dto.response.RoutineResponse;
 import com.goalapp.dto.response.RoutineCompletionResponse;
+import com.goalapp.entity.BucketUnit;
 import com.goalapp.entity.Routine;
 import com.goalapp.entity.RoutineCompletion;
 import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.service.CompletionEntry;
 import com.goalapp.service.RoutineService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -56,15 +67,16 @@ public class RoutineController {
     }
 
     /**
-     * 오늘의 루틴 조회
+     * 오늘의 루틴 조회 (현재 주기 미달성 루틴 + 오늘 완료한 루틴)
      */
     @GetMapping("/today")
     public ResponseEntity<List<RoutineResponse>> getTodayRoutines() {
-        List<Routine> routines = routineService.getTodayRoutines();
-        List<RoutineResponse> responses = routines.stream()
-                .map(routine -> {
-                    RoutineResponse response = RoutineResponse.from(routine);
-                    response.setCompletedToday(routineService.isCompletedToday(routine.getId()));
+        List<RoutineResponse> responses = routineService.getTodayRoutineStatuses().stream()
+                .map(status -> {
+                    RoutineResponse response = RoutineResponse.from(status.getRoutine());
+                    response.setCompletedToday(status.isCompletedToday());
+                    response.setCompletedInPeriod(status.isSatisfied());
+                    response.setPeriodCount(Math.toIntExact(status.getPeriodCompletions()));
                     return response;
                 })
                 .toList();
@@ -96,7 +108,7 @@ public class RoutineController {
     }
 
     /**
-     * 루틴 완료 히스토리 조회
+     * 루틴 완료 히스토리 전체 조회 (기존 클라이언트 호환용, 새 화면은 /completions/page 사용)
      */
     @GetMapping("/{routineId}/completions")
     public ResponseEntity<List<RoutineCompletionResponse>> getRoutineCompletions(
@@ -108,6 +120,48 @@ public class RoutineController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 루틴 완료 히스토리 페이지 조회 (최신순, 커서 기반)
+     */
+    @GetMapping("/{routineId}/completions/page")
+    public ResponseEntity<CompletionPageResponse> getRoutineCompletionPage(
+            @PathVariable Long routineId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size) {
+        CompletionCursor decoded = (cursor != null && !cursor.isBlank()) ? CompletionCursor.decode(cursor) : null;
+        List<RoutineCompletion> fetched = routineService.getRoutineCompletionPage(routineId, decoded, size);
+        return ResponseEntity.ok(CompletionPageResponse.of(fetched, size));
+    }
+
+    /**
+     * 루틴 완료 횟수 구간별 집계 (기본: 최근 1년)
+     */
+    @GetMapping("/{routineId}/completions/buckets")
+    public ResponseEntity<List<CompletionBucketResponse>> getRoutineCompletionBuckets(
+            @PathVariable Long routineId,
+            @RequestParam(defaultValue = "DAY") BucketUnit unit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusYears(1).plusDays(1);
+        List<CompletionBucketResponse> responses = routineService.getCompletionBuckets(routineId, unit, start, end)
+                .entrySet().stream()
+                .map(entry -> new CompletionBucketResponse(unit, entry.getKey(), entry.getValue()))
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 루틴 연도별 완료 히트맵 (기본: 올해)
+     */
+    @GetMapping("/{routineId}/heatmap")
+    public ResponseEntity<HeatmapResponse> getRoutineHeatmap(
+            @PathVariable Long routineId,
+            @RequestParam(required = false) Integer year) {
+        int targetYear = (year != null) ? year : LocalDate.now().getYear();
+        return ResponseEntity.ok(HeatmapResponse.from(routineService.getHeatmap(routineId, targetYear)));
+    }
+
     /**
      * 루틴 생성
      */
@@ -120,6 +174,7 @@ public class RoutineController {
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .frequency(request.getFrequency())
+                .targetCount(request.getTargetCount() != null ? request.getTargetCount() : 1)
                 .isActive(true)
                 .build();
 
@@ -141,6 +196,7 @@ public class RoutineController {
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .frequency(request.getFrequency())
+                .targetCount(request.getTargetCount())
                 .build();
 
         Routine updatedRoutine = routineService.updateRoutine(routineId, updateData);
@@ -157,6 +213,37 @@ public class RoutineController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 루틴 비활성화 (삭제 대신 기록을 보존)
+     */
+    @PatchMapping("/{routineId}/deactivate")
+    public ResponseEntity<RoutineResponse> deactivateRoutine(@PathVariable Long routineId) {
+        log.info("루틴 비활성화: {}", routineId);
+        Routine routine = routineService.deactivateRoutine(routineId);
+        return ResponseEntity.ok(RoutineResponse.from(routine));
+    }
+
+    /**
+     * 루틴을 목표에 연결 (이후 완료가 목표 진행도로 반영)
+     */
+    @PutMapping("/{routineId}/goal")
+    public ResponseEntity<RoutineResponse> linkGoal(
+            @PathVariable Long routineId,
+            @Valid @RequestBody LinkRoutineGoalRequest request) {
+        log.info("루틴 목표 연결: {} -> {}", routineId, request.getGoalId());
+        Routine routine = routineService.linkGoal(routineId, request.getGoalId(), request.getProgressTarget());
+        return ResponseEntity.ok(RoutineResponse.from(routine));
+    }
+
+    /**
+     * 루틴 목표 연결 해제
+     */
+    @DeleteMapping("/{routineId}/goal")
+    public ResponseEntity<RoutineResponse> unlinkGoal(@PathVariable Long routineId) {
+        log.info("루틴 목표 연결 해제: {}", routineId);
+        return ResponseEntity.ok(RoutineResponse.from(routineService.unlinkGoal(routineId)));
+    }
+
     /**
      * 루틴 활성화/비활성화
      */
@@ -182,6 +269,26 @@ public class RoutineController {
         return ResponseEntity.ok(RoutineCompletionResponse.from(completion));
     }
 
+    /**
+     * 여러 루틴/날짜 일괄 완료 (지난 날짜 소급 입력 포함, 이미 완료된 날짜는 건너뜀)
+     */
+    @PostMapping("/completions/batch")
+    public ResponseEntity<BatchCompletionResponse> completeRoutinesBatch(
+            @Valid @RequestBody BatchCompleteRoutinesRequest request) {
+        log.info("루틴 일괄 완료: {}건", request.getItems().size());
+
+        List<CompletionEntry> entries = request.getItems().stream()
+                .map(item -> new CompletionEntry(item.getRoutineId(), item.getDate(), item.getNote()))
+                .toList();
+        int inserted = routineService.completeRoutinesBatch(entries);
+
+        return ResponseEntity.ok(BatchCompletionResponse.builder()
+                .requested(entries.size())
+                .inserted(inserted)
+                .skipped(entries.size() - inserted)
+                .build());
+    }
+
     /**
      * 루틴 완료 취소
      */
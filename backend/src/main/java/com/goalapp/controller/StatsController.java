@@ -0,0 +1,58 @@
+package com.goalapp.controller;
+
+import com.goalapp.dto.response.CompletionTimeStatsResponse;
+import com.goalapp.dto.response.GoalStatsResponse;
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.service.CompletionSketchService;
+import com.goalapp.service.GoalStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 통계 API
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final GoalStatsService goalStatsService;
+    private final CompletionSketchService completionSketchService;
+
+    /**
+     * 목표 생성/완료/만료 수, 완료율, 루틴 완료 수 구간·타입별 집계 (기본: 최근 1년)
+     */
+    @GetMapping("/goals")
+    public ResponseEntity<List<GoalStatsResponse>> getGoalStats(
+            @RequestParam(defaultValue = "DAY") BucketUnit unit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusYears(1).plusDays(1);
+        List<GoalStatsResponse> responses = goalStatsService.getGoalBuckets(unit, start, end).stream()
+                .map(GoalStatsResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 타입별 생성→완료 소요 시간, 마감일 대비 완료 시점의 p50/p90 (완료 월 기준, 기본: 최근 12개월)
+     */
+    @GetMapping("/completion-times")
+    public ResponseEntity<List<CompletionTimeStatsResponse>> getCompletionTimes(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        YearMonth end = (to != null) ? to : YearMonth.now();
+        YearMonth start = (from != null) ? from : end.minusMonths(11);
+        List<CompletionTimeStatsResponse> responses = completionSketchService.getStats(start, end).stream()
+                .map(CompletionTimeStatsResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -0,0 +1,37 @@
+package com.goalapp.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCompleteRoutinesRequest {
+
+    @NotEmpty(message = "완료 항목은 필수입니다")
+    @Size(max = 500, message = "한 번에 최대 500건까지 처리할 수 있습니다")
+    @Valid
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "루틴 ID는 필수입니다")
+        private Long routineId;
+
+        @NotNull(message = "완료 날짜는 필수입니다")
+        private LocalDate date;
+
+        private String note;
+    }
+}
@@ -1,6 +1,7 @@
 package com.goalapp.dto.request;
 
 import com.goalapp.entity.RoutineFrequency;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -19,4 +20,8 @@ public class CreateRoutineRequest {
 
     @NotNull(message = "반복 주기는 필수입니다")
     private RoutineFrequency frequency;
+
+    // 주기당 목표 횟수 (미입력 시 1)
+    @Min(value = 1, message = "목표 횟수는 1 이상이어야 합니다")
+    private Integer targetCount;
 }
@@ -0,0 +1,20 @@
+package com.goalapp.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LinkRoutineGoalRequest {
+
+    @NotNull(message = "목표 ID는 필수입니다")
+    private Long goalId;
+
+    // 목표 달성 횟수 (생략 시 목표에 설정된 값 사용)
+    @Min(value = 1, message = "목표 달성 횟수는 1 이상이어야 합니다")
+    private Integer progressTarget;
+}
@@ -1,6 +1,7 @@
 package com.goalapp.dto.request;
 
 import com.goalapp.entity.RoutineFrequency;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,7 @@ public class UpdateRoutineRequest {
     private String title;
     private String description;
     private RoutineFrequency frequency;
+
+    @Min(value = 1, message = "목표 횟수는 1 이상이어야 합니다")
+    private Integer targetCount;
 }
@@ -0,0 +1,28 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.service.ArchivedGoalPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedGoalPageResponse {
+
+    private List<GoalResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static ArchivedGoalPageResponse from(ArchivedGoalPage page) {
+        return ArchivedGoalPageResponse.builder()
+                .items(page.getGoals().stream().map(GoalResponse::from).toList())
+                .nextCursor(page.getNextCursor() != null ? page.getNextCursor().encode() : null)
+                .hasNext(page.getNextCursor() != null)
+                .build();
+    }
+}
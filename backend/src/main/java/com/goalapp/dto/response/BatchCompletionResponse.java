@@ -0,0 +1,17 @@
+package com.goalapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCompletionResponse {
+
+    private int requested;
+    private int inserted;
+    private int skipped;
+}
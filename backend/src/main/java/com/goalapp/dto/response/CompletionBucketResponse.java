@@ -0,0 +1,20 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.BucketUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionBucketResponse {
+
+    private BucketUnit unit;
+    private LocalDate bucketStart;
+    private long count;
+}
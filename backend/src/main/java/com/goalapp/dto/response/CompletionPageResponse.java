@@ -0,0 +1,39 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.dto.request.CompletionCursor;
+import com.goalapp.entity.RoutineCompletion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionPageResponse {
+
+    private List<RoutineCompletionResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * @param fetched size + 1 개까지 조회한 결과 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static CompletionPageResponse of(List<RoutineCompletion> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<RoutineCompletion> page = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = null;
+        if (hasNext) {
+            RoutineCompletion last = page.get(page.size() - 1);
+            nextCursor = new CompletionCursor(last.getCompletedAt(), last.getId()).encode();
+        }
+        return CompletionPageResponse.builder()
+                .items(page.stream().map(RoutineCompletionResponse::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.CompletionPartition;
+import com.goalapp.entity.CompletionPartitionState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionPartitionResponse {
+
+    private int year;
+    private String tableName;
+    private CompletionPartitionState state;
+    private long rowCount;
+    private LocalDateTime sealedAt;
+    private LocalDateTime updatedAt;
+
+    public static CompletionPartitionResponse from(CompletionPartition partition) {
+        return CompletionPartitionResponse.builder()
+                .year(partition.getYear())
+                .tableName(partition.getTableName())
+                .state(partition.getState())
+                .rowCount(partition.getRowCount())
+                .sealedAt(partition.getSealedAt())
+                .updatedAt(partition.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.GoalType;
+import com.goalapp.service.CompletionTimeStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionTimeStatsResponse {
+
+    private GoalType type;
+    private YearMonth from;
+    private YearMonth to;
+    private long completedCount;
+    // 생성 → 완료 소요 시간 (분)
+    private Double durationP50Minutes;
+    private Double durationP90Minutes;
+    private long withDueDateCount;
+    // 마감일 대비 완료 시점 (분, 음수: 마감 전)
+    private Double dueOffsetP50Minutes;
+    private Double dueOffsetP90Minutes;
+
+    public static CompletionTimeStatsResponse from(CompletionTimeStats stats) {
+        return CompletionTimeStatsResponse.builder()
+                .type(stats.getType())
+                .from(stats.getFrom())
+                .to(stats.getTo())
+                .completedCount(stats.getCompletedCount())
+                .durationP50Minutes(stats.getDurationP50Minutes())
+                .durationP90Minutes(stats.getDurationP90Minutes())
+                .withDueDateCount(stats.getWithDueDateCount())
+                .dueOffsetP50Minutes(stats.getDueOffsetP50Minutes())
+                .dueOffsetP90Minutes(stats.getDueOffsetP90Minutes())
+                .build();
+    }
+}
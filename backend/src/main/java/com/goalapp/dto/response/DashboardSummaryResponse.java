@@ -0,0 +1,46 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.service.DashboardSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryResponse {
+
+    private Map<GoalStatus, Long> goalsByStatus;
+    private Map<GoalType, Long> goalsByType;
+    private long totalGoals;
+    private long overdueGoals;
+    private long expiringSoonGoals;
+    private int expiringSoonHours;
+    private long activeRoutines;
+    private long completedRoutinesToday;
+    private double routineCompletionRate;
+    // 마지막으로 DB와 대조한 시각
+    private LocalDateTime reconciledAt;
+
+    public static DashboardSummaryResponse from(DashboardSummary summary) {
+        return DashboardSummaryResponse.builder()
+                .goalsByStatus(summary.getGoalsByStatus())
+                .goalsByType(summary.getGoalsByType())
+                .totalGoals(summary.getTotalGoals())
+                .overdueGoals(summary.getOverdueGoals())
+                .expiringSoonGoals(summary.getExpiringSoonGoals())
+                .expiringSoonHours(summary.getExpiringSoonHours())
+                .activeRoutines(summary.getActiveRoutines())
+                .completedRoutinesToday(summary.getCompletedRoutinesToday())
+                .routineCompletionRate(summary.getRoutineCompletionRate())
+                .reconciledAt(summary.getReconciledAt())
+                .build();
+    }
+}
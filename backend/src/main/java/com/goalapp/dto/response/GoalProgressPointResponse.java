@@ -0,0 +1,33 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.GoalProgressSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalProgressPointResponse {
+
+    // 이 날부터 다음 항목 전까지 유지되는 값
+    private LocalDate date;
+    // 완료된 하위 목표 수 (루틴 연결 목표는 진행 횟수)
+    private int done;
+    // 전체 하위 목표 수 (루틴 연결 목표는 목표 횟수)
+    private int total;
+    private double percentage;
+
+    public static GoalProgressPointResponse from(GoalProgressSnapshot snapshot) {
+        return GoalProgressPointResponse.builder()
+                .date(snapshot.getDate())
+                .done(snapshot.getDoneCount())
+                .total(snapshot.getTotalCount())
+                .percentage(snapshot.getPercentage())
+                .build();
+    }
+}
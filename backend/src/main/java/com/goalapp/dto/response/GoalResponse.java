@@ -37,6 +37,8 @@ public class GoalResponse {
     private boolean reminderEnabled;
     private String reminderFrequency;
     private double progressPercentage;
+    private Integer progressTarget;
+    private int progressCurrent;
     
     public static GoalResponse from(Goal goal) {
         // 하위 목표가 있는 경우 세션 내에서만 호출되므로 getProgressPercentage() 사용 가능
@@ -67,12 +69,14 @@ public class GoalResponse {
                 .reminderEnabled(goal.isReminderEnabled())
                 .reminderFrequency(goal.getReminderFrequency())
                 .progressPercentage(progress)
+                .progressTarget(goal.getProgressTarget())
+                .progressCurrent(goal.getProgressCurrent())
                 .build();
     }
     
     public static GoalResponse fromWithoutSubGoals(Goal goal) {
-        // progressPercentage는 별도로 계산하지 않고 완료 상태로만 판단
-        double progress = goal.isCompleted() ? 100.0 : 0.0;
+        // progressPercentage는 하위 목표를 읽지 않고 완료 상태(루틴 연결 목표는 기여 횟수)로만 판단
+        double progress = goal.hasProgressTarget() ? goal.getContributionPercentage() : (goal.isCompleted() ? 100.0 : 0.0);
         
         return GoalResponse.builder()
                 .id(goal.getId())
@@ -91,6 +95,8 @@ public class GoalResponse {
                 .reminderEnabled(goal.isReminderEnabled())
                 .reminderFrequency(goal.getReminderFrequency())
                 .progressPercentage(progress)
+                .progressTarget(goal.getProgressTarget())
+                .progressCurrent(goal.getProgressCurrent())
                 .build();
     }
     
@@ -112,6 +118,8 @@ public class GoalResponse {
                 .reminderEnabled(goal.isReminderEnabled())
                 .reminderFrequency(goal.getReminderFrequency())
                 .progressPercentage(progressPercentage)
+                .progressTarget(goal.getProgressTarget())
+                .progressCurrent(goal.getProgressCurrent())
                 .build();
     }
 }
\ No newline at end of file
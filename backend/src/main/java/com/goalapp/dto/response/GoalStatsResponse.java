@@ -0,0 +1,45 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.entity.GoalType;
+import com.goalapp.service.GoalStatsBucket;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalStatsResponse {
+
+    private BucketUnit unit;
+    private LocalDate bucketStart;
+    private GoalType type;
+    // 구간에 생성된 목표 수
+    private long created;
+    // 구간에 완료 처리된 목표 수
+    private long completed;
+    // 구간에 만료된 목표 수 (마감일 기준)
+    private long expired;
+    // 구간의 루틴 완료 수 (루틴 주기에 대응하는 타입)
+    private long routineCompletions;
+    // 구간에 생성된 목표 중 완료된 비율 (%)
+    private double completionRate;
+
+    public static GoalStatsResponse from(GoalStatsBucket bucket) {
+        return GoalStatsResponse.builder()
+                .unit(bucket.getUnit())
+                .bucketStart(bucket.getBucketStart())
+                .type(bucket.getType())
+                .created(bucket.getCreated())
+                .completed(bucket.getCompleted())
+                .expired(bucket.getExpired())
+                .routineCompletions(bucket.getRoutineCompletions())
+                .completionRate(bucket.getCompletionRate())
+                .build();
+    }
+}
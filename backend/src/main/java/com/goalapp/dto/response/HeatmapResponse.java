@@ -0,0 +1,35 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.RoutineYearBitmap;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapResponse {
+
+    private Long routineId;
+    private int year;
+    private int completedDays;
+    private List<LocalDate> completedDates;
+    // 46바이트 비트맵 (Base64, 비트 i = 그 해 i+1번째 날, 바이트 내 하위 비트부터)
+    private String bitmap;
+
+    public static HeatmapResponse from(RoutineYearBitmap bitmap) {
+        return HeatmapResponse.builder()
+                .routineId(bitmap.getRoutineId())
+                .year(bitmap.getYear())
+                .completedDays(bitmap.cardinality())
+                .completedDates(bitmap.completedDates())
+                .bitmap(Base64.getEncoder().encodeToString(bitmap.getDays()))
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobInfoResponse {
+
+    private JobType jobType;
+    private String description;
+    private String cron;
+    private LocalDateTime nextFireAt;
+    private JobRunResponse lastRun;
+}
@@ -0,0 +1,64 @@
+package com.goalapp.dto.response;
+
+import com.goalapp.entity.JobRun;
+import com.goalapp.entity.JobRunStatus;
+import com.goalapp.entity.JobTrigger;
+import com.goalapp.entity.JobType;
+import com.goalapp.service.JobProgress;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunResponse {
+
+    private Long id;
+    private JobType jobType;
+    private JobTrigger trigger;
+    private JobRunStatus status;
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long processedCount;
+    private int chunkCount;
+    private long elapsedMillis;
+    private String message;
+
+    public static JobRunResponse from(JobRun run) {
+        return JobRunResponse.builder()
+                .id(run.getId())
+                .jobType(run.getJobType())
+                .trigger(run.getTriggerType())
+                .status(run.getStatus())
+                .queuedAt(run.getQueuedAt())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .processedCount(run.getProcessedCount())
+                .chunkCount(run.getChunkCount())
+                .elapsedMillis(run.getElapsedMillis())
+                .message(run.getMessage())
+                .build();
+    }
+
+    /**
+     * 실행 중인 작업은 메모리의 실시간 진행 상황으로 덮어쓴다
+     */
+    public static JobRunResponse from(JobRun run, JobProgress progress) {
+        JobRunResponse response = from(run);
+        if (progress != null && response.getStatus().isActive()) {
+            response.setProcessedCount(progress.getProcessed());
+            response.setChunkCount(progress.getChunks());
+            response.setElapsedMillis(progress.getElapsedMillis());
+            if (progress.getMessage() != null) {
+                response.setMessage(progress.getMessage());
+            }
+        }
+        return response;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
@@ -19,10 +20,18 @@ public class RoutineResponse {
     private String title;
     private String description;
     private RoutineFrequency frequency;
+    private int targetCount;
+    private int periodCount;
+    private long completionCount;
+    private Long goalId;
+    private LocalDateTime lastCompletedAt;
+    private int currentStreak;
+    private int longestStreak;
     private boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean completedToday;
+    private boolean completedInPeriod;
 
     public static RoutineResponse from(Routine routine) {
         return RoutineResponse.builder()
@@ -30,10 +39,17 @@ public class RoutineResponse {
                 .title(routine.getTitle())
                 .description(routine.getDescription())
                 .frequency(routine.getFrequency())
+                .targetCount(routine.getTargetCount())
+                .completionCount(routine.getCompletionCount())
+                .goalId(routine.getGoalId())
+                .lastCompletedAt(routine.getLastCompletedAt())
+                .currentStreak(routine.currentStreakAsOf(LocalDate.now()))
+                .longestStreak(routine.getLongestStreak())
                 .isActive(routine.isActive())
                 .createdAt(routine.getCreatedAt())
                 .updatedAt(routine.getUpdatedAt())
                 .completedToday(false) // 기본값, 컨트롤러에서 설정
+                .completedInPeriod(false)
                 .build();
     }
 }
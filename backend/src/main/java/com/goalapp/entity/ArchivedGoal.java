@@ -0,0 +1,107 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콜드 보관 목표 (goals_archive)
+ * 보관(ARCHIVED) 목표와 그 하위 목표를 goals 테이블에서 옮겨 두는 곳으로, 컬럼은 goals와 같고
+ * 상위 목표는 외래 키 없이 ID로만 가진다. 보관 화면과 복원에서만 읽는다.
+ */
+@Entity
+@Table(name = "goals_archive", indexes = {
+        @Index(name = "idx_goals_archive_parent_goal_id", columnList = "parent_goal_id"),
+        @Index(name = "idx_goals_archive_archived_at", columnList = "archived_at"),
+        // 보관 화면 키셋 페이지
+        @Index(name = "idx_goals_archive_status_archived_at", columnList = "status, archived_at, id"),
+        @Index(name = "idx_goals_archive_created_at", columnList = "created_at"),
+        @Index(name = "idx_goals_archive_completed_at", columnList = "completed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedGoal {
+
+    // goals 테이블의 ID를 그대로 유지 (복원 시 같은 ID로 되돌림)
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GoalType type;
+
+    @Enumerated(EnumType.STRING)
+    private GoalStatus status;
+
+    @Column(name = "parent_goal_id")
+    private Long parentGoalId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime expiredAt;
+
+    private boolean isCompleted;
+
+    private int priority;
+
+    private boolean reminderEnabled;
+
+    private String reminderFrequency;
+
+    private LocalDateTime nextReminderAt;
+
+    private int reminderAttempts;
+
+    private Integer progressTarget;
+
+    private int progressCurrent;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 조회 응답용 목표 (영속 상태 아님, 하위 목표 없음)
+     */
+    public Goal toGoal() {
+        return Goal.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .type(type)
+                .status(status)
+                .parentGoal(parentGoalId != null ? Goal.builder().id(parentGoalId).build() : null)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .dueDate(dueDate)
+                .completedAt(completedAt)
+                .expiredAt(expiredAt)
+                .isCompleted(isCompleted)
+                .priority(priority)
+                .reminderEnabled(reminderEnabled)
+                .reminderFrequency(reminderFrequency)
+                .nextReminderAt(nextReminderAt)
+                .reminderAttempts(reminderAttempts)
+                .progressTarget(progressTarget)
+                .progressCurrent(progressCurrent)
+                .build();
+    }
+}
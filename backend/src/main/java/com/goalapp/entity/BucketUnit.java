@@ -0,0 +1,32 @@
+package com.goalapp.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 완료 기록 집계 단위 (히스토리/통계 화면용)
+ */
+public enum BucketUnit {
+    DAY(RoutineFrequency.DAILY),
+    WEEK(RoutineFrequency.WEEKLY),
+    MONTH(RoutineFrequency.MONTHLY);
+
+    private final RoutineFrequency frequency;
+
+    BucketUnit(RoutineFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    /**
+     * 날짜가 속한 구간의 시작일 (주는 월요일 시작)
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return frequency.periodStart(date);
+    }
+
+    /**
+     * 다음 구간 시작일
+     */
+    public LocalDate nextBucketStart(LocalDate date) {
+        return frequency.nextPeriodStart(date);
+    }
+}
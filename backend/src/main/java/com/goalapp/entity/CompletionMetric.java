@@ -0,0 +1,11 @@
+package com.goalapp.entity;
+
+/**
+ * 완료 시점 분포 지표 (분 단위)
+ */
+public enum CompletionMetric {
+    // 생성 → 완료까지 걸린 시간
+    DURATION,
+    // 마감일 대비 완료 시점 (음수: 마감 전, 양수: 마감 후)
+    DUE_OFFSET
+}
@@ -0,0 +1,85 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 루틴 완료 기록 연도 파티션 카탈로그
+ * 봉인된 연도의 완료 기록은 routine_completions에서 routine_completions_y{연도} 테이블로 옮겨지고,
+ * 이후 그 연도는 읽기 전용이 된다. 분리/삭제는 카탈로그 갱신과 테이블 하나의 DROP으로 끝난다.
+ */
+@Entity
+@Table(name = "completion_partitions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_completion_partitions_year", columnNames = "partition_year")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionPartition {
+
+    private static final String TABLE_PREFIX = "routine_completions_y";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partition_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false, length = 63)
+    private String tableName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CompletionPartitionState state;
+
+    // 봉인 완료 시점의 행 수
+    private long rowCount;
+
+    private LocalDateTime sealedAt;
+
+    private LocalDateTime updatedAt;
+
+    public static CompletionPartition sealing(int year) {
+        return CompletionPartition.builder()
+                .year(year)
+                .tableName(tableNameFor(year))
+                .state(CompletionPartitionState.SEALING)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 파티션 테이블 이름 (연도 숫자로만 만들어지므로 SQL에 그대로 사용 가능)
+     */
+    public static String tableNameFor(int year) {
+        return TABLE_PREFIX + year;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return LocalDate.ofYearDay(year, 1).atStartOfDay();
+    }
+
+    public LocalDateTime getEndsAt() {
+        return getStartsAt().plusYears(1);
+    }
+
+    /**
+     * 구간 [from, until)과 겹치는지
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime until) {
+        return getStartsAt().isBefore(until) && getEndsAt().isAfter(from);
+    }
+
+    public void changeState(CompletionPartitionState state) {
+        this.state = state;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,25 @@
+package com.goalapp.entity;
+
+/**
+ * 루틴 완료 기록 연도 파티션 상태
+ */
+public enum CompletionPartitionState {
+    SEALING,    // 봉인 중 (완료 기록을 청크 단위로 옮기는 중, 이미 옮긴 행은 조회에 포함)
+    SEALED,     // 봉인 완료 (읽기 전용, 조회에 포함)
+    DETACHED,   // 분리됨 (테이블은 남아 있지만 조회에서 제외)
+    DROPPED;    // 삭제됨 (테이블 삭제, 카탈로그 기록만 유지)
+
+    /**
+     * 히스토리 조회에 포함되는지
+     */
+    public boolean isReadable() {
+        return this == SEALING || this == SEALED;
+    }
+
+    /**
+     * 파티션 테이블이 존재하는지
+     */
+    public boolean hasTable() {
+        return this != DROPPED;
+    }
+}
@@ -0,0 +1,63 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월/타입/지표별 완료 시점 분위수 스케치
+ * 완료 월 기준으로 목표의 소요 시간·마감일 대비 시점을 로그 버킷 개수로 누적한 압축 바이트열이며,
+ * 여러 달을 병합해 p50/p90 등을 목표 테이블을 읽지 않고 계산한다.
+ */
+@Entity
+@Table(name = "completion_sketches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_completion_sketches_month_type_metric",
+                columnNames = {"sketch_month", "goal_type", "metric"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionSketch {
+
+    // 버킷이 가장 넓게 퍼진 경우(분 단위, 부호 양쪽)에도 수 KB 이내
+    public static final int MAX_BYTES = 8192;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 완료 월의 1일
+    @Column(name = "sketch_month", nullable = false)
+    private LocalDate month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "goal_type", nullable = false)
+    private GoalType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CompletionMetric metric;
+
+    @Column(nullable = false)
+    private long sampleCount;
+
+    @Column(nullable = false, length = MAX_BYTES)
+    private byte[] data;
+
+    private LocalDateTime updatedAt;
+
+    public static CompletionSketch empty(LocalDate month, GoalType type, CompletionMetric metric) {
+        return CompletionSketch.builder()
+                .month(month)
+                .type(type)
+                .metric(metric)
+                .data(new byte[0])
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별/타입별 통계 롤업 (daily_stats)
+ * 쓰기 경로와 만료 작업이 증감하여 장기간 통계를 원본 테이블 대신 날짜×타입 행으로 조회한다.
+ * 루틴 완료 수는 루틴 주기에 대응하는 타입(DAILY/WEEKLY/MONTHLY) 행에 센다.
+ */
+@Entity
+@Table(name = "daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_stats_date_type", columnNames = {"stat_date", "goal_type"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "goal_type", nullable = false)
+    private GoalType type;
+
+    // 이 날짜에 생성된 목표 수
+    @Column(nullable = false)
+    private long createdCount;
+
+    // 이 날짜에 생성된 목표 중 (현재) 완료된 수
+    @Column(nullable = false)
+    private long createdCompletedCount;
+
+    // 이 날짜에 완료 처리된 목표 수
+    @Column(nullable = false)
+    private long completedCount;
+
+    // 이 날짜에 만료된 목표 수 (마감일 기준, 마감일이 없으면 마지막 수정일)
+    @Column(nullable = false)
+    private long expiredCount;
+
+    @Column(nullable = false)
+    private long routineCompletionCount;
+
+    private LocalDateTime updatedAt;
+}
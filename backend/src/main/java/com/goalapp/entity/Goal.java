@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,7 +17,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "goals")
+@Table(name = "goals", indexes = {
+        @Index(name = "idx_goals_status_updated_at", columnList = "status, updated_at"),
+        @Index(name = "idx_goals_next_reminder_at", columnList = "next_reminder_at"),
+        @Index(name = "idx_goals_created_at", columnList = "created_at"),
+        @Index(name = "idx_goals_completed_at", columnList = "completed_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -62,6 +68,9 @@ public class Goal {
     private LocalDateTime dueDate;
     
     private LocalDateTime completedAt;
+
+    // 만료 처리된 시각 (보관/콜드 이동 후에도 유지, 다시 진행중이 되거나 완료되면 null)
+    private LocalDateTime expiredAt;
     
     @JsonProperty("isCompleted")
     @Builder.Default
@@ -74,6 +83,23 @@ public class Goal {
     private boolean reminderEnabled = false;
     
     private String reminderFrequency;
+
+    // 다음 알림 발송 예정 시각 (null이면 알림 스케줄러가 계산)
+    private LocalDateTime nextReminderAt;
+
+    // 현재 알림의 연속 발송 실패 횟수 (재시도 backoff 계산용)
+    @Builder.Default
+    @ColumnDefault("0")
+    private int reminderAttempts = 0;
+
+    // 연결된 루틴 완료로 채우는 목표 횟수 (null이면 하위 목표/완료 여부로 진행률 계산)
+    private Integer progressTarget;
+
+    // 연결된 루틴 완료로 누적된 횟수 (완료/취소 시 증감)
+    @Builder.Default
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int progressCurrent = 0;
     
     // 목표 타입에 따른 유효성 검증 - switch 문으로 최적화
     public boolean isValidParentChildRelation(Goal child) {
@@ -133,7 +159,7 @@ public class Goal {
     // 진행률 계산 (하위 목표 기반) - 최적화
     public double getProgressPercentage() {
         if (subGoals.isEmpty()) {
-            return isCompleted ? 100.0 : 0.0;
+            return hasProgressTarget() ? getContributionPercentage() : (isCompleted ? 100.0 : 0.0);
         }
 
         // Stream API 최적화: count() 사용
@@ -144,6 +170,19 @@ public class Goal {
         return (double) completedSubGoals / subGoals.size() * 100.0;
     }
 
+    // 루틴 완료 횟수로 진행률을 채우는 목표인지 확인
+    public boolean hasProgressTarget() {
+        return progressTarget != null && progressTarget > 0;
+    }
+
+    // 루틴 완료 기여 진행률 (목표 횟수 초과분은 100%)
+    public double getContributionPercentage() {
+        if (isCompleted) {
+            return 100.0;
+        }
+        return Math.min(100.0, (double) progressCurrent / progressTarget * 100.0);
+    }
+
     // 만료 여부 확인
     public boolean isExpired() {
         return dueDate != null &&
@@ -167,6 +206,7 @@ public class Goal {
         if (!isCompleted) {
             this.status = GoalStatus.EXPIRED;
             this.updatedAt = LocalDateTime.now();
+            this.expiredAt = this.updatedAt;
         }
     }
 
@@ -176,12 +216,20 @@ public class Goal {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 보관 해제 (완료 여부에 따라 완료/진행중으로 복귀)
+    public void restore() {
+        this.status = isCompleted ? GoalStatus.COMPLETED : GoalStatus.ACTIVE;
+        this.updatedAt = LocalDateTime.now();
+        this.expiredAt = null;
+    }
+
     // 기간 연장
     public void extendDueDate(int days) {
         if (this.dueDate != null) {
             this.dueDate = this.dueDate.plusDays(days);
             this.status = GoalStatus.ACTIVE; // 연장 시 다시 활성화
             this.updatedAt = LocalDateTime.now();
+            this.expiredAt = null;
         }
     }
 }
@@ -0,0 +1,46 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 목표 진행률 일별 스냅샷 (번업 차트용)
+ * 값이 바뀐 날만 저장하므로(델타 인코딩) 한 행의 값은 다음 행 날짜 전까지 유지된다.
+ * 하위 목표가 있으면 완료된 하위 목표 수/전체 하위 목표 수, 루틴 연결 목표는 진행 횟수/목표 횟수를 담는다.
+ */
+@Entity
+@Table(name = "goal_progress_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_goal_progress_snapshots_goal_date", columnNames = {"goal_id", "snapshot_date"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalProgressSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "goal_id", nullable = false)
+    private Long goalId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int doneCount;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    // 진행률 (%)
+    public double getPercentage() {
+        return totalCount == 0 ? 0.0 : (double) doneCount / totalCount * 100.0;
+    }
+}
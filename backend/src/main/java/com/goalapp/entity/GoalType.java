@@ -1,5 +1,9 @@
 package com.goalapp.entity;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
 public enum GoalType {
     LIFETIME("평생목표"),
     LIFETIME_SUB("평생목표 하위목표"),
@@ -17,4 +21,31 @@ public enum GoalType {
     public String getDescription() {
         return description;
     }
+
+    // 기간 단위 목표인지 (평생 목표는 기간 경계가 없음)
+    public boolean isPeriodic() {
+        return this == YEARLY || this == MONTHLY || this == WEEKLY || this == DAILY;
+    }
+
+    // 날짜가 속한 기간의 시작일 (주는 월요일 시작)
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case YEARLY -> date.withDayOfYear(1);
+            case MONTHLY -> date.withDayOfMonth(1);
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case DAILY -> date;
+            case LIFETIME, LIFETIME_SUB -> throw new IllegalStateException("Lifetime goals have no period: " + this);
+        };
+    }
+
+    // 기간 단위로 날짜 이동
+    public LocalDate plusPeriods(LocalDate date, long periods) {
+        return switch (this) {
+            case YEARLY -> date.plusYears(periods);
+            case MONTHLY -> date.plusMonths(periods);
+            case WEEKLY -> date.plusWeeks(periods);
+            case DAILY -> date.plusDays(periods);
+            case LIFETIME, LIFETIME_SUB -> throw new IllegalStateException("Lifetime goals have no period: " + this);
+        };
+    }
 }
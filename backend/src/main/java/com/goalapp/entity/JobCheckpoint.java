@@ -0,0 +1,49 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 처리 작업의 워터마크
+ * (watermark, lastId) 키셋 이후의 행만 다음 실행에서 처리한다.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(length = 150)
+    private String name;
+
+    private LocalDateTime watermark;
+
+    private Long lastId;
+
+    private LocalDateTime updatedAt;
+
+    public static JobCheckpoint initial(String name) {
+        return JobCheckpoint.builder()
+                .name(name)
+                .watermark(LocalDateTime.of(1970, 1, 1, 0, 0))
+                .lastId(0L)
+                .build();
+    }
+
+    /**
+     * 처리한 마지막 행으로 워터마크 전진
+     */
+    public void advance(LocalDateTime watermark, Long lastId) {
+        this.watermark = watermark;
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
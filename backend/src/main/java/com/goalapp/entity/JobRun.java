@@ -0,0 +1,67 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업 실행 이력
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+        @Index(name = "idx_job_runs_type_started_at", columnList = "job_type, started_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 더 이상 존재하지 않는 작업 종류의 이력은 null
+    @Convert(converter = JobTypeConverter.class)
+    @Column(nullable = false, length = 50)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobTrigger triggerType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobRunStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime queuedAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Builder.Default
+    private long processedCount = 0;
+
+    @Builder.Default
+    private int chunkCount = 0;
+
+    @Column(length = 1000)
+    private String message;
+
+    /**
+     * 실행 소요 시간 (밀리초), 시작 전이면 0
+     */
+    public long getElapsedMillis() {
+        if (startedAt == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        return java.time.Duration.between(startedAt, end).toMillis();
+    }
+}
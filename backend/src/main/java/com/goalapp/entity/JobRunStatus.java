@@ -0,0 +1,15 @@
+package com.goalapp.entity;
+
+/**
+ * 작업 실행 상태
+ */
+public enum JobRunStatus {
+    QUEUED,     // 실행 대기
+    RUNNING,    // 실행 중
+    SUCCEEDED,  // 성공
+    FAILED;     // 실패 (재시작으로 중단된 경우 포함)
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -0,0 +1,10 @@
+package com.goalapp.entity;
+
+/**
+ * 작업 실행 계기
+ */
+public enum JobTrigger {
+    SCHEDULED,  // cron 스케줄
+    MANUAL,     // 관리자 API
+    CATCH_UP    // 다운타임 동안 놓친 스케줄을 부팅 시 보충 실행
+}
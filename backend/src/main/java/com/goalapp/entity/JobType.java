@@ -0,0 +1,42 @@
+package com.goalapp.entity;
+
+/**
+ * 백그라운드 작업 종류
+ * cron이 null이면 관리자 API로만 실행되는 수동 작업
+ */
+public enum JobType {
+    GOAL_EXPIRE("만료 목표 감지", "0 0 * * * *"),
+    GOAL_RETENTION("목표 보존 정책 적용", "0 0 2 * * *"),
+    GOAL_ROLLOVER("기간 종료 미완료 목표 이월", "0 5 0 * * *"),
+    ROUTINE_COUNTER_REBUILD("루틴 완료 카운터 재구성", null),
+    ROUTINE_STREAK_REPAIR("루틴 연속 달성 기록 재계산", null),
+    ROUTINE_COMPLETION_SEAL("지난 연도 루틴 완료 기록 파티션 봉인", "0 30 3 2 * *"),
+    ROUTINE_COMPLETION_COMPACT("오래된 루틴 완료 기록 월별 요약 압축", "0 0 4 * * *"),
+    GOAL_ARCHIVE_MOVE("보관 목표 콜드 테이블 이동", "0 30 2 * * *"),
+    DASHBOARD_RECONCILE("대시보드 카운터 DB 대조", "0 15 * * * *"),
+    DAILY_STATS_REBUILD("일별 통계 롤업 재구성", null),
+    COMPLETION_SKETCH_REBUILD("완료 시간 분위수 스케치 재구성", null),
+    GOAL_PROGRESS_SNAPSHOT("목표 진행률 일별 스냅샷", "0 55 23 * * *"),
+    REVIEW_REPORT_GENERATE("주간/월간 회고 리포트 생성", "0 10 0 * * *"),
+    ROUTINE_BITMAP_BACKFILL("루틴 연도별 완료 비트맵 생성", "0 1 0 * * *");
+
+    private final String description;
+    private final String cron;
+
+    JobType(String description, String cron) {
+        this.description = description;
+        this.cron = cron;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public boolean isScheduled() {
+        return cron != null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JobType 컬럼 변환기
+ * {@code @Enumerated}는 PostgreSQL에 CHECK 제약 조건을 생성하여 작업 종류가 추가될 때마다
+ * 제약 조건 위반이 발생하므로(STATUS_CONSTRAINT_FIX_GUIDE 참고) 문자열로 직접 변환한다.
+ * 더 이상 존재하지 않는 작업 종류는 null로 읽어 과거 실행 이력을 지우지 않고도 조회할 수 있게 한다.
+ */
+@Converter
+public class JobTypeConverter implements AttributeConverter<JobType, String> {
+
+    @Override
+    public String convertToDatabaseColumn(JobType attribute) {
+        return attribute != null ? attribute.name() : null;
+    }
+
+    @Override
+    public JobType convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        try {
+            return JobType.valueOf(dbData);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
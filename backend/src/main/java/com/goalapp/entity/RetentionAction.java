@@ -0,0 +1,20 @@
+package com.goalapp.entity;
+
+/**
+ * 보존 정책 처리 방식
+ */
+public enum RetentionAction {
+    ARCHIVE("보관"),     // ARCHIVED 상태로 전환
+    COMPACT("압축"),     // 통계에 필요한 필드만 남기고 설명/알림 정보 제거
+    DELETE("삭제");      // 하위 목표와 함께 삭제
+
+    private final String description;
+
+    RetentionAction(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,38 @@
+package com.goalapp.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 회고 리포트 기간 단위
+ */
+public enum ReviewPeriod {
+    WEEK(RoutineFrequency.WEEKLY),
+    MONTH(RoutineFrequency.MONTHLY);
+
+    private final RoutineFrequency frequency;
+
+    ReviewPeriod(RoutineFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    /**
+     * 날짜가 속한 기간의 시작일 (주는 월요일 시작)
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return frequency.periodStart(date);
+    }
+
+    /**
+     * 다음 기간 시작일 (기간 끝, 미포함)
+     */
+    public LocalDate nextPeriodStart(LocalDate date) {
+        return frequency.nextPeriodStart(date);
+    }
+
+    /**
+     * 날짜가 속한 기간의 직전 기간 시작일
+     */
+    public LocalDate previousPeriodStart(LocalDate date) {
+        return frequency.previousPeriodStart(date);
+    }
+}
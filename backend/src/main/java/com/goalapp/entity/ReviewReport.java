@@ -0,0 +1,54 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기간이 끝난 뒤 한 번 만들어 두는 주간/월간 회고 리포트
+ * 내용은 gzip으로 압축한 JSON 문서이며 (기간, 시작일) 키 조회 한 번으로 ETag와 함께 그대로 내려보낸다.
+ * 끝난 기간에 소급 변경이 들어오면 행을 지우고 다시 만든다 (ReviewReportService.invalidate).
+ */
+@Entity
+@Table(name = "review_reports", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_reports_period_start", columnNames = {"review_period", "period_start"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewReport {
+
+    public static final int MAX_BYTES = 1024 * 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "review_period", nullable = false)
+    private ReviewPeriod period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    // 다음 기간 시작일 (미포함)
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    // gzip 압축된 JSON (ReviewDocument)
+    @Column(nullable = false, length = MAX_BYTES)
+    private byte[] content;
+
+    // 압축된 내용의 SHA-256 앞 16바이트 (hex)
+    @Column(nullable = false, length = 32)
+    private String etag;
+
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,10 @@
+package com.goalapp.entity;
+
+/**
+ * 기간 종료 시 미완료 목표 처리 방식
+ */
+public enum RolloverMode {
+    NONE,           // 처리하지 않음
+    CARRY_FORWARD,  // 마감일을 다음 기간으로 이동 (extendDueDate와 동일하게 ACTIVE로 복귀)
+    CLONE           // 같은 상위 목표 아래 다음 기간 목표로 복제 (원본은 그대로 유지)
+}
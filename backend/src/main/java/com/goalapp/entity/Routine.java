@@ -4,22 +4,30 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "routines")
+@Table(name = "routines", indexes = {
+        @Index(name = "idx_routines_goal_id", columnList = "goal_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate  // 바뀐 컬럼만 UPDATE (벌크 쿼리로 갱신하는 집계 컬럼을 덮어쓰지 않도록)
 public class Routine {
 
     @Id
@@ -36,10 +44,43 @@ public class Routine {
     @Column(nullable = false)
     private RoutineFrequency frequency;
 
+    // 주기당 목표 완료 횟수 (예: 주 3회)
+    @Builder.Default
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private Integer targetCount = 1;
+
     @Builder.Default
     @Column(nullable = false)
     private boolean isActive = true;
 
+    // 완료가 진행도로 반영되는 목표 (null이면 연결 없음)
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    // 완료 기록 수/마지막 완료 시각 (완료/취소 시 갱신, completions 컬렉션을 읽지 않기 위한 비정규화)
+    // 아래 집계 컬럼은 벌크 쿼리로만 갱신 (엔티티에서 바꾸지 않으므로 @DynamicUpdate 저장 시 제외됨)
+    @Builder.Default
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long completionCount = 0;
+
+    private LocalDateTime lastCompletedAt;
+
+    // 연속 달성 주기 수 (목표 횟수를 채운 주기가 끊김 없이 이어진 수)
+    @Builder.Default
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int currentStreak = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int longestStreak = 0;
+
+    // 현재 연속 기록의 마지막 달성 주기 시작일
+    private LocalDate lastStreakPeriod;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -49,6 +90,8 @@ public class Routine {
 
     @OneToMany(mappedBy = "routine", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<RoutineCompletion> completions = new ArrayList<>();
 
     /**
@@ -82,10 +125,18 @@ public class Routine {
     }
 
     /**
-     * 완료 횟수 조회
+     * 기준일 시점의 연속 달성 수
+     * 마지막 달성 주기가 이번 주기나 직전 주기가 아니면 이미 끊긴 기록이므로 0
      */
-    public int getCompletionCount() {
-        return completions != null ? completions.size() : 0;
+    public int currentStreakAsOf(LocalDate today) {
+        if (lastStreakPeriod == null) {
+            return 0;
+        }
+        LocalDate currentPeriod = frequency.periodStart(today);
+        if (lastStreakPeriod.equals(currentPeriod) || lastStreakPeriod.equals(frequency.previousPeriodStart(today))) {
+            return currentStreak;
+        }
+        return 0;
     }
 
     /**
@@ -98,5 +149,9 @@ public class Routine {
         if (frequency == null) {
             throw new IllegalArgumentException("반복 주기는 필수입니다");
         }
+        if (targetCount == null || targetCount < 1 || targetCount > frequency.maxTargetCount()) {
+            throw new IllegalArgumentException(
+                    "목표 횟수는 1 이상 " + frequency.maxTargetCount() + " 이하여야 합니다");
+        }
     }
 }
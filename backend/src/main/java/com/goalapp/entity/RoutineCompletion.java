@@ -9,10 +9,17 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "routine_completions")
+@Table(name = "routine_completions", indexes = {
+        @Index(name = "idx_routine_completions_routine_completed_at", columnList = "routine_id, completed_at"),
+        // 가장 오래된 기록 연도 확인과 연도 단위 봉인 이동용
+        @Index(name = "idx_routine_completions_completed_at", columnList = "completed_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_routine_completions_routine_date", columnNames = {"routine_id", "completion_date"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,6 +40,21 @@ public class RoutineCompletion {
     @Column(nullable = false, updatable = false)
     private LocalDateTime completedAt;
 
+    // 완료 날짜 (루틴당 하루 1건을 유니크 키로 보장, 컬럼 추가 이전 기록은 부팅 시 채움 - 같은 날 중복 기록만 null)
+    @Column(name = "completion_date")
+    private LocalDate completionDate;
+
     @Column(length = 500)
     private String note;
+
+    // 이 완료가 진행도로 반영된 목표 (취소 시 같은 목표에서 차감, 이후 연결이 바뀌어도 유지)
+    @Column(name = "contributed_goal_id")
+    private Long contributedGoalId;
+
+    @PrePersist
+    void fillCompletionDate() {
+        if (completionDate == null) {
+            completionDate = (completedAt != null ? completedAt : LocalDateTime.now()).toLocalDate();
+        }
+    }
 }
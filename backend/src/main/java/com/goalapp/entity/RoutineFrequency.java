@@ -1,10 +1,55 @@
 package com.goalapp.entity;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
 /**
  * 루틴 반복 주기
  */
 public enum RoutineFrequency {
     DAILY,      // 매일
     WEEKLY,     // 주간
-    MONTHLY     // 월간
+    MONTHLY;    // 월간
+
+    /**
+     * 날짜가 속한 주기의 시작일 (주간은 월요일 시작)
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 주기당 설정 가능한 최대 목표 횟수 (하루 1회 완료 기준, 월간은 2월 기준)
+     */
+    public int maxTargetCount() {
+        return switch (this) {
+            case DAILY -> 1;
+            case WEEKLY -> 7;
+            case MONTHLY -> 28;
+        };
+    }
+
+    /**
+     * 날짜가 속한 주기의 직전 주기 시작일
+     */
+    public LocalDate previousPeriodStart(LocalDate date) {
+        return periodStart(periodStart(date).minusDays(1));
+    }
+
+    /**
+     * 날짜가 속한 주기의 다음 주기 시작일 (구간 끝, 미포함)
+     */
+    public LocalDate nextPeriodStart(LocalDate date) {
+        LocalDate start = periodStart(date);
+        return switch (this) {
+            case DAILY -> start.plusDays(1);
+            case WEEKLY -> start.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(1);
+        };
+    }
 }
@@ -0,0 +1,83 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 압축된 루틴 완료 기록의 월별 요약
+ * 보존 기간이 지난 완료 기록은 행 단위(시각/메모)를 버리고 월별 완료 수와 일자 비트마스크만 남긴다.
+ * 비트 d - 1은 그 달 d일의 완료 여부다.
+ */
+@Entity
+@Table(name = "routine_monthly_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_routine_monthly_summaries_routine_month", columnNames = {"routine_id", "summary_month"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutineMonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "routine_id", nullable = false)
+    private Long routineId;
+
+    // 요약 월의 1일
+    @Column(name = "summary_month", nullable = false)
+    private LocalDate month;
+
+    @Column(nullable = false)
+    private int completionCount;
+
+    @Column(nullable = false)
+    private int dayMask;
+
+    private LocalDateTime updatedAt;
+
+    public static RoutineMonthlySummary empty(Long routineId, LocalDate month) {
+        return RoutineMonthlySummary.builder()
+                .routineId(routineId)
+                .month(month.withDayOfMonth(1))
+                .build();
+    }
+
+    /**
+     * 완료 기록 한 건 반영
+     */
+    public void add(LocalDate date) {
+        if (date.getYear() != month.getYear() || date.getMonth() != month.getMonth()) {
+            throw new IllegalArgumentException(month + " 요약에 다른 달 날짜입니다: " + date);
+        }
+        dayMask |= 1 << (date.getDayOfMonth() - 1);
+        completionCount++;
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isSet(LocalDate date) {
+        return date.withDayOfMonth(1).equals(month) && (dayMask & (1 << (date.getDayOfMonth() - 1))) != 0;
+    }
+
+    /**
+     * 완료한 날짜 목록 (오름차순)
+     */
+    public List<LocalDate> completedDates() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if ((dayMask & (1 << (day - 1))) != 0) {
+                dates.add(month.withDayOfMonth(day));
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,41 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 루틴 주기별 완료 횟수 카운터
+ * 완료/취소 시 증감하여 목표 횟수 대비 진행도를 완료 기록 집계 없이 조회한다.
+ */
+@Entity
+@Table(name = "routine_period_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_routine_period_counters_routine_period", columnNames = {"routine_id", "period_start"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutinePeriodCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "routine_id", nullable = false)
+    private Long routineId;
+
+    // 주기 시작일 (일간: 당일, 주간: 월요일, 월간: 1일)
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private int completionCount;
+
+    private LocalDateTime updatedAt;
+}
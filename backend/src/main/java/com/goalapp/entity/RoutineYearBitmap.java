@@ -0,0 +1,100 @@
+package com.goalapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 루틴의 연도별 완료 비트맵 (1년 = 366비트 = 46바이트)
+ * 비트 i는 그 해 (i + 1)번째 날의 완료 여부이며, 바이트 안에서는 하위 비트부터 채운다.
+ * 히트맵/특정 날짜 완료 여부를 완료 기록 테이블을 읽지 않고 한 행으로 조회한다.
+ */
+@Entity
+@Table(name = "routine_year_bitmaps", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_routine_year_bitmaps_routine_year", columnNames = {"routine_id", "bitmap_year"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutineYearBitmap {
+
+    public static final int BYTES = 46;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "routine_id", nullable = false)
+    private Long routineId;
+
+    @Column(name = "bitmap_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false, length = BYTES)
+    private byte[] days;
+
+    private LocalDateTime updatedAt;
+
+    public static RoutineYearBitmap empty(Long routineId, int year) {
+        return RoutineYearBitmap.builder()
+                .routineId(routineId)
+                .year(year)
+                .days(new byte[BYTES])
+                .build();
+    }
+
+    public boolean isSet(LocalDate date) {
+        int index = indexOf(date);
+        return (days[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    public void set(LocalDate date, boolean completed) {
+        int index = indexOf(date);
+        if (completed) {
+            days[index >> 3] |= (byte) (1 << (index & 7));
+        } else {
+            days[index >> 3] &= (byte) ~(1 << (index & 7));
+        }
+    }
+
+    /**
+     * 완료한 날 수
+     */
+    public int cardinality() {
+        int count = 0;
+        for (byte b : days) {
+            count += Integer.bitCount(b & 0xFF);
+        }
+        return count;
+    }
+
+    /**
+     * 완료한 날짜 목록 (오름차순)
+     */
+    public List<LocalDate> completedDates() {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        int length = first.lengthOfYear();
+        for (int i = 0; i < length; i++) {
+            if ((days[i >> 3] & (1 << (i & 7))) != 0) {
+                dates.add(first.plusDays(i));
+            }
+        }
+        return dates;
+    }
+
+    private int indexOf(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException(year + "년 비트맵에 다른 연도 날짜입니다: " + date);
+        }
+        return date.getDayOfYear() - 1;
+    }
+}
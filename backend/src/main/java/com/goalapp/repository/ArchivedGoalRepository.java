@@ -0,0 +1,95 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.ArchivedGoal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedGoalRepository extends JpaRepository<ArchivedGoal, Long> {
+
+    // 보관 화면에 보이는 목표: 보관 상태이면서 보관된 상위 목표 아래에 있지 않은 것
+    String ARCHIVED_ROOTS = "SELECT a FROM ArchivedGoal a WHERE a.status = 'ARCHIVED' " +
+            "AND (a.parentGoalId IS NULL OR NOT EXISTS (SELECT p.id FROM ArchivedGoal p " +
+            "WHERE p.id = a.parentGoalId AND p.status = 'ARCHIVED')) ";
+
+    /**
+     * 보관 목표 전체 (archivedAt, id 내림차순)
+     */
+    @Query(ARCHIVED_ROOTS + "ORDER BY a.archivedAt DESC, a.id DESC")
+    List<ArchivedGoal> findArchivedRoots();
+
+    /**
+     * 보관 목표 첫 페이지 (archivedAt, id 내림차순)
+     */
+    @Query(ARCHIVED_ROOTS + "ORDER BY a.archivedAt DESC, a.id DESC")
+    List<ArchivedGoal> findArchivedRootsFirstPage(Pageable pageable);
+
+    /**
+     * 보관 목표 키셋 페이지 (커서 이후)
+     */
+    @Query(ARCHIVED_ROOTS + "AND (a.archivedAt < :archivedAt OR (a.archivedAt = :archivedAt AND a.id < :id)) " +
+           "ORDER BY a.archivedAt DESC, a.id DESC")
+    List<ArchivedGoal> findArchivedRootsBefore(@Param("archivedAt") LocalDateTime archivedAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    /**
+     * 타입/상태별 보관 목표 수 [type, status, count]
+     */
+    @Query("SELECT a.type, a.status, COUNT(a) FROM ArchivedGoal a GROUP BY a.type, a.status")
+    List<Object[]> countByTypeAndStatus();
+
+    /**
+     * 기간 [from, until) 생성 목표의 일별/타입별 수 [date, type, created, createdAndCompleted]
+     */
+    @Query("SELECT cast(a.createdAt as LocalDate), a.type, COUNT(a), " +
+           "SUM(CASE WHEN a.isCompleted = true THEN 1 ELSE 0 END) FROM ArchivedGoal a " +
+           "WHERE a.createdAt >= :from AND a.createdAt < :until " +
+           "GROUP BY cast(a.createdAt as LocalDate), a.type")
+    List<Object[]> countCreatedByDay(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    /**
+     * 기간 [from, until) 완료 목표의 일별/타입별 수 [date, type, completed]
+     */
+    @Query("SELECT cast(a.completedAt as LocalDate), a.type, COUNT(a) FROM ArchivedGoal a " +
+           "WHERE a.isCompleted = true AND a.completedAt >= :from AND a.completedAt < :until " +
+           "GROUP BY cast(a.completedAt as LocalDate), a.type")
+    List<Object[]> countCompletedByDay(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    /**
+     * 만료된 적 있는 목표의 만료일(마감일, 없으면 만료 시각)별/타입별 수 [date, type, expired]
+     */
+    @Query("SELECT cast(coalesce(a.dueDate, a.expiredAt) as LocalDate), a.type, COUNT(a) FROM ArchivedGoal a " +
+           "WHERE a.expiredAt IS NOT NULL GROUP BY cast(coalesce(a.dueDate, a.expiredAt) as LocalDate), a.type")
+    List<Object[]> countExpiredByDay();
+
+    /**
+     * 기간 [from, until) 완료 목표 [id, title, type, completedAt]
+     */
+    @Query("SELECT a.id, a.title, a.type, a.completedAt FROM ArchivedGoal a " +
+           "WHERE a.isCompleted = true AND a.completedAt >= :from AND a.completedAt < :until ORDER BY a.completedAt")
+    List<Object[]> findCompletedRows(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    /**
+     * 기간 [from, until) 만료 목표 (마감일, 없으면 만료 시각 기준, 보관 상태여도 포함) [id, title, type, 기준 시각]
+     */
+    @Query("SELECT a.id, a.title, a.type, coalesce(a.dueDate, a.expiredAt) FROM ArchivedGoal a " +
+           "WHERE a.expiredAt IS NOT NULL AND coalesce(a.dueDate, a.expiredAt) >= :from " +
+           "AND coalesce(a.dueDate, a.expiredAt) < :until ORDER BY coalesce(a.dueDate, a.expiredAt)")
+    List<Object[]> findExpiredRows(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    /**
+     * expired_at 도입 이전 만료 목표의 만료 시각 채우기
+     */
+    @Modifying
+    @Query("UPDATE ArchivedGoal a SET a.expiredAt = coalesce(a.updatedAt, a.createdAt) " +
+           "WHERE a.status = 'EXPIRED' AND a.expiredAt IS NULL")
+    int backfillExpiredAt();
+}
@@ -0,0 +1,20 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.CompletionPartition;
+import com.goalapp.entity.CompletionPartitionState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CompletionPartitionRepository extends JpaRepository<CompletionPartition, Long> {
+
+    Optional<CompletionPartition> findByYear(int year);
+
+    List<CompletionPartition> findAllByOrderByYearDesc();
+
+    List<CompletionPartition> findByStateInOrderByYearDesc(Collection<CompletionPartitionState> states);
+}
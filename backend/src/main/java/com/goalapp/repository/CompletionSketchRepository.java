@@ -0,0 +1,33 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.CompletionMetric;
+import com.goalapp.entity.CompletionSketch;
+import com.goalapp.entity.GoalType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CompletionSketchRepository extends JpaRepository<CompletionSketch, Long> {
+
+    /**
+     * 월 [from, to] 스케치
+     */
+    List<CompletionSketch> findByMonthGreaterThanEqualAndMonthLessThanEqual(LocalDate from, LocalDate to);
+
+    /**
+     * 갱신용 조회 (동시 완료/취소 시 버킷 손실 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CompletionSketch s WHERE s.month = :month AND s.type = :type AND s.metric = :metric")
+    Optional<CompletionSketch> findForUpdate(@Param("month") LocalDate month,
+                                             @Param("type") GoalType type,
+                                             @Param("metric") CompletionMetric metric);
+}
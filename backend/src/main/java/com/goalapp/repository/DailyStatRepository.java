@@ -0,0 +1,17 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.DailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyStatRepository extends JpaRepository<DailyStat, Long> {
+
+    /**
+     * 날짜 [from, until) 롤업 행 (날짜 순)
+     */
+    List<DailyStat> findByDateGreaterThanEqualAndDateLessThanOrderByDate(LocalDate from, LocalDate until);
+}
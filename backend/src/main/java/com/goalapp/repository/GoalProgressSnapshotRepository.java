@@ -0,0 +1,38 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.GoalProgressSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GoalProgressSnapshotRepository extends JpaRepository<GoalProgressSnapshot, Long> {
+
+    /**
+     * 기간 [from, to] 스냅샷 (날짜 순)
+     */
+    List<GoalProgressSnapshot> findByGoalIdAndDateBetweenOrderByDate(Long goalId, LocalDate from, LocalDate to);
+
+    /**
+     * 날짜 이전 마지막 스냅샷 (기간 시작 시점의 값)
+     */
+    Optional<GoalProgressSnapshot> findFirstByGoalIdAndDateBeforeOrderByDateDesc(Long goalId, LocalDate date);
+
+    /**
+     * 목표별 마지막 스냅샷 [goalId, date, doneCount, totalCount]
+     */
+    @Query("SELECT s.goalId, s.date, s.doneCount, s.totalCount FROM GoalProgressSnapshot s " +
+           "WHERE s.date = (SELECT MAX(t.date) FROM GoalProgressSnapshot t WHERE t.goalId = s.goalId)")
+    List<Object[]> findLatestRows();
+
+    @Modifying
+    @Query("DELETE FROM GoalProgressSnapshot s WHERE s.goalId IN :goalIds")
+    int deleteByGoalIdIn(@Param("goalIds") Collection<Long> goalIds);
+}
@@ -3,6 +3,7 @@ package com.goalapp.repository;
 import com.goalapp.entity.Goal;
 import com.goalapp.entity.GoalStatus;
 import com.goalapp.entity.GoalType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +48,68 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
     
     // 상태별 목표 개수 조회 - EntityGraph 불필요
     long countByStatus(GoalStatus status);
+
+    // ===== 대시보드 카운터 =====
+
+    // 타입/상태별 목표 수 - 결과: [type, status, count]
+    @Query("SELECT g.type, g.status, COUNT(g) FROM Goal g GROUP BY g.type, g.status")
+    List<Object[]> countByTypeAndStatus();
+
+    // 마감일별 진행중 미완료 목표 수 - 결과: [dueDate, count]
+    @Query("SELECT g.dueDate, COUNT(g) FROM Goal g " +
+           "WHERE g.status = 'ACTIVE' AND g.isCompleted = false AND g.dueDate IS NOT NULL GROUP BY g.dueDate")
+    List<Object[]> countOpenByDueDate();
+
+    // 카운터/롤업 상태만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    // 결과: [type, status, isCompleted, dueDate, createdAt, completedAt, updatedAt, expiredAt]
+    @Query("SELECT g.type, g.status, g.isCompleted, g.dueDate, g.createdAt, g.completedAt, g.updatedAt, g.expiredAt " +
+           "FROM Goal g WHERE g.id IN :ids")
+    List<Object[]> findSnapshotRows(@Param("ids") Collection<Long> ids);
+
+    // ===== 목표 통계 롤업 재구성 (구간 집계, 엔티티 로드 없음) =====
+
+    // 기간 [from, until) 생성 목표의 일별/타입별 수 - 결과: [date, type, created, createdAndCompleted]
+    @Query("SELECT cast(g.createdAt as LocalDate), g.type, COUNT(g), " +
+           "SUM(CASE WHEN g.isCompleted = true THEN 1 ELSE 0 END) FROM Goal g " +
+           "WHERE g.createdAt >= :from AND g.createdAt < :until " +
+           "GROUP BY cast(g.createdAt as LocalDate), g.type")
+    List<Object[]> countCreatedByDay(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    // 기간 [from, until) 완료 목표의 일별/타입별 수 - 결과: [date, type, completed]
+    @Query("SELECT cast(g.completedAt as LocalDate), g.type, COUNT(g) FROM Goal g " +
+           "WHERE g.isCompleted = true AND g.completedAt >= :from AND g.completedAt < :until " +
+           "GROUP BY cast(g.completedAt as LocalDate), g.type")
+    List<Object[]> countCompletedByDay(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    // 만료된 적 있는 목표의 만료일(마감일, 없으면 만료 시각)별/타입별 수 (이후 보관되어도 포함) - 결과: [date, type, expired]
+    @Query("SELECT cast(coalesce(g.dueDate, g.expiredAt) as LocalDate), g.type, COUNT(g) FROM Goal g " +
+           "WHERE g.expiredAt IS NOT NULL GROUP BY cast(coalesce(g.dueDate, g.expiredAt) as LocalDate), g.type")
+    List<Object[]> countExpiredByDay();
+
+    // ===== 진행률 스냅샷 (엔티티 로드 없음) =====
+
+    // 하위 목표가 있는 목표별 진행 - 결과: [parentId, 하위 목표 수, 완료된 하위 목표 수]
+    @Query("SELECT g.parentGoal.id, COUNT(g), SUM(CASE WHEN g.isCompleted = true THEN 1 ELSE 0 END) " +
+           "FROM Goal g WHERE g.parentGoal IS NOT NULL GROUP BY g.parentGoal.id")
+    List<Object[]> countSubGoalProgress();
+
+    // 루틴 완료로 진행률을 채우는 목표 - 결과: [id, progressCurrent, progressTarget, isCompleted]
+    @Query("SELECT g.id, g.progressCurrent, g.progressTarget, g.isCompleted FROM Goal g WHERE g.progressTarget > 0")
+    List<Object[]> findProgressTargetRows();
+
+    // ===== 회고 리포트 (엔티티 로드 없음) =====
+
+    // 기간 [from, until) 완료 목표 - 결과: [id, title, type, completedAt]
+    @Query("SELECT g.id, g.title, g.type, g.completedAt FROM Goal g " +
+           "WHERE g.isCompleted = true AND g.completedAt >= :from AND g.completedAt < :until ORDER BY g.completedAt")
+    List<Object[]> findCompletedRows(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    // 기간 [from, until) 만료 목표 (마감일, 없으면 만료 시각 기준, 이후 보관되어도 포함) - 결과: [id, title, type, 기준 시각]
+    @Query("SELECT g.id, g.title, g.type, coalesce(g.dueDate, g.expiredAt) FROM Goal g " +
+           "WHERE g.expiredAt IS NOT NULL AND coalesce(g.dueDate, g.expiredAt) >= :from " +
+           "AND coalesce(g.dueDate, g.expiredAt) < :until ORDER BY coalesce(g.dueDate, g.expiredAt)")
+    List<Object[]> findExpiredRows(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
     
     // 마감일이 지난 미완료 목표들 조회 (EntityGraph 제거)
     @Query("SELECT g FROM Goal g WHERE g.dueDate < :currentDate AND g.status = 'ACTIVE'")
@@ -109,18 +173,82 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
     @Query("SELECT g FROM Goal g WHERE g.dueDate > :now AND g.dueDate <= :threshold AND g.status = 'ACTIVE' AND g.isCompleted = false")
     List<Goal> findExpiringSoonGoals(@Param("now") LocalDateTime now, @Param("threshold") LocalDateTime threshold);
 
-    // EXPIRED 상태이고 일정 시간 경과한 목표 조회 (EntityGraph 제거)
-    @Query("SELECT g FROM Goal g WHERE g.status = 'EXPIRED' AND g.updatedAt < :archiveThreshold")
-    List<Goal> findExpiredGoalsForArchiving(@Param("archiveThreshold") LocalDateTime archiveThreshold);
+    // ===== 백그라운드 작업용 청크 처리 메서드 =====
+
+    // 만료 대상 목표 조회 (청크 단위)
+    // 결과: [id, type, dueDate]
+    @Query("SELECT g.id, g.type, g.dueDate FROM Goal g " +
+           "WHERE g.dueDate < :now AND g.status = 'ACTIVE' AND g.isCompleted = false ORDER BY g.id")
+    List<Object[]> findExpiredGoalRows(@Param("now") LocalDateTime now, Pageable pageable);
 
-    // 완료된 지 일정 시간 경과한 목표 조회 (EntityGraph 제거)
-    @Query("SELECT g FROM Goal g WHERE g.status = 'COMPLETED' AND g.completedAt < :deleteThreshold")
-    List<Goal> findOldCompletedGoals(@Param("deleteThreshold") LocalDateTime deleteThreshold);
+    // 보존 정책 대상 조회 - (status, updatedAt) 인덱스 범위 스캔, 워터마크 이후 행만 (청크 단위)
+    // 결과: [id, updatedAt]
+    @Query("SELECT g.id, g.updatedAt FROM Goal g WHERE g.status = :status AND g.type IN :types " +
+           "AND g.updatedAt <= :cutoff " +
+           "AND (g.updatedAt > :watermark OR (g.updatedAt = :watermark AND g.id > :lastId)) " +
+           "ORDER BY g.updatedAt, g.id")
+    List<Object[]> findRetentionCandidates(@Param("status") GoalStatus status,
+                                           @Param("types") Collection<GoalType> types,
+                                           @Param("cutoff") LocalDateTime cutoff,
+                                           @Param("watermark") LocalDateTime watermark,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
+
+    // 콜드 보관 이동 대상 - 상위 목표가 보관 상태가 아닌 보관 목표 (하위 트리는 함께 이동, 청크 단위)
+    @Query("SELECT g.id FROM Goal g LEFT JOIN g.parentGoal p " +
+           "WHERE g.status = 'ARCHIVED' AND (p IS NULL OR p.status <> 'ARCHIVED') ORDER BY g.id")
+    List<Long> findArchivedRootIds(Pageable pageable);
+
+    // 만료 일괄 처리 - 엔티티 로드 없이 직접 업데이트
+    @Query("UPDATE Goal g SET g.status = 'EXPIRED', g.updatedAt = :now, g.expiredAt = :now " +
+           "WHERE g.id IN :ids AND g.isCompleted = false")
+    @org.springframework.data.jpa.repository.Modifying
+    int markGoalsExpired(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // expired_at 도입 이전 만료 목표의 만료 시각 채우기
+    @Query("UPDATE Goal g SET g.expiredAt = coalesce(g.updatedAt, g.createdAt) " +
+           "WHERE g.status = 'EXPIRED' AND g.expiredAt IS NULL")
+    @org.springframework.data.jpa.repository.Modifying
+    int backfillExpiredAt();
+
+    // 보관 일괄 처리 - 엔티티 로드 없이 직접 업데이트
+    @Query("UPDATE Goal g SET g.status = 'ARCHIVED', g.updatedAt = :now WHERE g.id IN :ids")
+    @org.springframework.data.jpa.repository.Modifying
+    int markGoalsArchived(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // 압축 일괄 처리 - 통계용 필드(타입/상태/일시)만 남기고 부가 정보 제거
+    @Query("UPDATE Goal g SET g.description = null, g.reminderEnabled = false, g.reminderFrequency = null WHERE g.id IN :ids")
+    @org.springframework.data.jpa.repository.Modifying
+    int compactGoals(@Param("ids") List<Long> ids);
+
+    // 루틴 완료 기여 진행도 증감 - 0 미만으로 내려가지 않음
+    @Query("UPDATE Goal g SET g.progressCurrent = g.progressCurrent + :delta " +
+           "WHERE g.id = :id AND g.progressCurrent + :delta >= 0")
+    @org.springframework.data.jpa.repository.Modifying
+    int adjustProgress(@Param("id") Long id, @Param("delta") int delta);
+
+    // ===== 알림 관련 쿼리 메서드 =====
+
+    // 발송 시각이 된 알림 대상 조회 - next_reminder_at 인덱스 순서대로 (배치 단위)
+    @Query("SELECT g FROM Goal g WHERE g.reminderEnabled = true AND g.status = 'ACTIVE' AND g.isCompleted = false " +
+           "AND g.nextReminderAt <= :now ORDER BY g.nextReminderAt, g.id")
+    List<Goal> findDueReminders(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 알림이 켜져 있지만 다음 발송 시각이 계산되지 않은 목표 조회
+    @Query("SELECT g FROM Goal g WHERE g.reminderEnabled = true AND g.status = 'ACTIVE' AND g.nextReminderAt IS NULL ORDER BY g.id")
+    List<Goal> findUnscheduledReminders(Pageable pageable);
+
+    // 알림 스케줄 갱신 - updatedAt은 변경하지 않음 (보존 정책 워터마크 영향 없음)
+    @Query("UPDATE Goal g SET g.nextReminderAt = :nextReminderAt, g.reminderAttempts = :attempts WHERE g.id = :id")
+    @org.springframework.data.jpa.repository.Modifying
+    int updateReminderSchedule(@Param("id") Long id,
+                               @Param("nextReminderAt") LocalDateTime nextReminderAt,
+                               @Param("attempts") int attempts);
 
     // ===== 성능 최적화: 상태 변경 전용 메서드 =====
 
     // 목표 완료 처리 - EntityGraph 없이 직접 업데이트 (빠른 성능)
-    @Query("UPDATE Goal g SET g.isCompleted = true, g.completedAt = :completedAt, g.status = 'COMPLETED', g.updatedAt = :updatedAt WHERE g.id = :id")
+    @Query("UPDATE Goal g SET g.isCompleted = true, g.completedAt = :completedAt, g.status = 'COMPLETED', g.updatedAt = :updatedAt, g.expiredAt = null WHERE g.id = :id")
     @org.springframework.data.jpa.repository.Modifying
     @org.springframework.transaction.annotation.Transactional
     int updateGoalAsCompleted(@Param("id") Long id,
@@ -128,7 +256,7 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
                               @Param("updatedAt") LocalDateTime updatedAt);
 
     // 목표 완료 취소 - EntityGraph 없이 직접 업데이트 (빠른 성능)
-    @Query("UPDATE Goal g SET g.isCompleted = false, g.completedAt = null, g.status = 'ACTIVE', g.updatedAt = :updatedAt WHERE g.id = :id")
+    @Query("UPDATE Goal g SET g.isCompleted = false, g.completedAt = null, g.status = 'ACTIVE', g.updatedAt = :updatedAt, g.expiredAt = null WHERE g.id = :id")
     @org.springframework.data.jpa.repository.Modifying
     @org.springframework.transaction.annotation.Transactional
     int updateGoalAsIncomplete(@Param("id") Long id,
@@ -0,0 +1,55 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.JobRun;
+import com.goalapp.entity.JobRunStatus;
+import com.goalapp.entity.JobType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * 최근 실행 이력 조회
+     */
+    List<JobRun> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * 작업 종류별 최근 실행 이력 조회
+     */
+    List<JobRun> findByJobTypeOrderByIdDesc(JobType jobType, Pageable pageable);
+
+    /**
+     * 작업 종류별 마지막 실행 조회 (상태 무관)
+     */
+    Optional<JobRun> findTopByJobTypeOrderByIdDesc(JobType jobType);
+
+    /**
+     * 작업 종류별 마지막 성공 실행 조회 (부팅 시 놓친 스케줄 판단용)
+     */
+    Optional<JobRun> findTopByJobTypeAndStatusOrderByStartedAtDesc(JobType jobType, JobRunStatus status);
+
+    /**
+     * 대기/실행 중인 동일 작업이 있는지 확인
+     */
+    boolean existsByJobTypeAndStatusIn(JobType jobType, Collection<JobRunStatus> statuses);
+
+    /**
+     * 재시작으로 중단된 실행 이력을 실패 처리
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobRun r SET r.status = 'FAILED', r.finishedAt = :now, r.message = :message " +
+           "WHERE r.status IN ('QUEUED', 'RUNNING')")
+    int markInterrupted(@Param("now") LocalDateTime now, @Param("message") String message);
+}
@@ -0,0 +1,27 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.ReviewPeriod;
+import com.goalapp.entity.ReviewReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long> {
+
+    Optional<ReviewReport> findByPeriodAndPeriodStart(ReviewPeriod period, LocalDate periodStart);
+
+    boolean existsByPeriodAndPeriodStart(ReviewPeriod period, LocalDate periodStart);
+
+    /**
+     * 리포트 무효화 (내용을 읽지 않고 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewReport r WHERE r.period = :period AND r.periodStart = :periodStart")
+    int deleteReport(@Param("period") ReviewPeriod period, @Param("periodStart") LocalDate periodStart);
+}
@@ -1,14 +1,19 @@
 package com.goalapp.repository;
 
 import com.goalapp.entity.RoutineCompletion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface RoutineCompletionRepository extends JpaRepository<RoutineCompletion, Long> {
@@ -31,13 +36,116 @@ public interface RoutineCompletionRepository extends JpaRepository<RoutineComple
     );
 
     /**
-     * 오늘 완료한 루틴인지 확인 (오늘 자정 이후 완료된 기록 조회)
+     * 특정 시점 이후 가장 최근 완료 기록 (현재 주기 완료 여부 확인용)
+     */
+    Optional<RoutineCompletion> findFirstByRoutineIdAndCompletedAtGreaterThanEqualOrderByCompletedAtDesc(
+            Long routineId, LocalDateTime since);
+
+    /**
+     * 루틴의 완료 기록 일괄 삭제 (컬렉션 로드 없이 한 문장)
+     */
+    @Modifying
+    @Query("DELETE FROM RoutineCompletion rc WHERE rc.routine.id = :routineId")
+    int deleteAllByRoutineId(@Param("routineId") Long routineId);
+
+    /**
+     * 특정 날짜의 완료 기록
+     */
+    Optional<RoutineCompletion> findByRoutineIdAndCompletionDate(Long routineId, LocalDate completionDate);
+
+    /**
+     * 기간 [from, until) 완료 횟수 (주기 카운터 초기값 계산용)
+     */
+    long countByRoutineIdAndCompletedAtGreaterThanEqualAndCompletedAtLessThan(
+            Long routineId, LocalDateTime from, LocalDateTime until);
+
+    /**
+     * 여러 루틴의 기간 [from, until) 완료 시각 [routineId, completedAt] (일괄 완료 중복 확인용)
+     */
+    @Query("SELECT rc.routine.id, rc.completedAt FROM RoutineCompletion rc " +
+           "WHERE rc.routine.id IN :routineIds AND rc.completedAt >= :from AND rc.completedAt < :until")
+    List<Object[]> findCompletionTimes(
+            @Param("routineIds") Collection<Long> routineIds,
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
+    );
+
+    /**
+     * 기간 [start, end) 안에 완료 기록이 있는 루틴 ID 일괄 조회
+     * 목록 화면에서 루틴마다 완료 여부를 조회하는 N+1을 한 번의 쿼리로 대체한다.
+     */
+    @Query("SELECT DISTINCT rc.routine.id FROM RoutineCompletion rc " +
+           "WHERE rc.routine.id IN :routineIds " +
+           "AND rc.completedAt >= :start AND rc.completedAt < :end")
+    Set<Long> findCompletedRoutineIds(
+            @Param("routineIds") Collection<Long> routineIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * 루틴별 오늘/이번 주/이번 달 완료 횟수를 한 번에 집계
+     * [routineId, dayCount, weekCount, monthCount] 반환, 완료 기록이 없는 루틴은 결과에 없다.
+     * (routine_id, completed_at) 인덱스로 범위 스캔한다.
+     */
+    @Query("SELECT rc.routine.id, " +
+           "SUM(CASE WHEN rc.completedAt >= :dayStart THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN rc.completedAt >= :weekStart THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN rc.completedAt >= :monthStart THEN 1 ELSE 0 END) " +
+           "FROM RoutineCompletion rc " +
+           "WHERE rc.routine.id IN :routineIds " +
+           "AND rc.completedAt >= :from AND rc.completedAt < :until " +
+           "GROUP BY rc.routine.id")
+    List<Object[]> countCompletionsByPeriod(
+            @Param("routineIds") Collection<Long> routineIds,
+            @Param("dayStart") LocalDateTime dayStart,
+            @Param("weekStart") LocalDateTime weekStart,
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
+    );
+
+    /**
+     * 완료 히스토리 첫 페이지 (completedAt, id 내림차순)
      */
     @Query("SELECT rc FROM RoutineCompletion rc WHERE rc.routine.id = :routineId " +
-           "AND rc.completedAt >= :startOfDay " +
-           "ORDER BY rc.completedAt DESC")
-    Optional<RoutineCompletion> findTodayCompletion(
+           "ORDER BY rc.completedAt DESC, rc.id DESC")
+    List<RoutineCompletion> findFirstPage(@Param("routineId") Long routineId, Pageable pageable);
+
+    /**
+     * 완료 히스토리 다음 페이지 (커서 (completedAt, id) 이전 기록)
+     */
+    @Query("SELECT rc FROM RoutineCompletion rc WHERE rc.routine.id = :routineId " +
+           "AND (rc.completedAt < :completedAt OR (rc.completedAt = :completedAt AND rc.id < :id)) " +
+           "ORDER BY rc.completedAt DESC, rc.id DESC")
+    List<RoutineCompletion> findPageBefore(
+            @Param("routineId") Long routineId,
+            @Param("completedAt") LocalDateTime completedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 기간 [from, until) 의 일별 완료 횟수 [date, count]
+     */
+    @Query("SELECT cast(rc.completedAt as LocalDate), COUNT(rc) FROM RoutineCompletion rc " +
+           "WHERE rc.routine.id = :routineId AND rc.completedAt >= :from AND rc.completedAt < :until " +
+           "GROUP BY cast(rc.completedAt as LocalDate)")
+    List<Object[]> countByDay(
+            @Param("routineId") Long routineId,
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
+    );
+
+    /**
+     * 기간 [from, until) 의 월별 완료 횟수 [year, month, count]
+     */
+    @Query("SELECT year(rc.completedAt), month(rc.completedAt), COUNT(rc) FROM RoutineCompletion rc " +
+           "WHERE rc.routine.id = :routineId AND rc.completedAt >= :from AND rc.completedAt < :until " +
+           "GROUP BY year(rc.completedAt), month(rc.completedAt)")
+    List<Object[]> countByMonth(
             @Param("routineId") Long routineId,
-            @Param("startOfDay") LocalDateTime startOfDay
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
     );
 }
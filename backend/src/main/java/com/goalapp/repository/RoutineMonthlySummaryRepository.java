@@ -0,0 +1,47 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.RoutineMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoutineMonthlySummaryRepository extends JpaRepository<RoutineMonthlySummary, Long> {
+
+    /**
+     * 루틴의 월 [from, until) 요약 (월 순)
+     */
+    List<RoutineMonthlySummary> findByRoutineIdAndMonthGreaterThanEqualAndMonthLessThanOrderByMonth(
+            Long routineId, LocalDate from, LocalDate until);
+
+    List<RoutineMonthlySummary> findByRoutineIdOrderByMonth(Long routineId);
+
+    /**
+     * 압축 청크에 해당하는 요약 일괄 조회
+     */
+    List<RoutineMonthlySummary> findByRoutineIdInAndMonthIn(Collection<Long> routineIds, Collection<LocalDate> months);
+
+    /**
+     * 전체 요약 (루틴, 월 순, 연속 기록 전체 재계산용)
+     */
+    List<RoutineMonthlySummary> findAllByOrderByRoutineIdAscMonthAsc();
+
+    /**
+     * 루틴 누적 완료 수에 압축된 완료 수 반영 (완료 기록 기준 재계산 직후 호출)
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.completionCount = r.completionCount + " +
+           "COALESCE((SELECT SUM(s.completionCount) FROM RoutineMonthlySummary s WHERE s.routineId = r.id), 0) " +
+           "WHERE r.id IN :routineIds")
+    int addSummaryCounts(@Param("routineIds") Collection<Long> routineIds);
+
+    @Modifying
+    @Query("DELETE FROM RoutineMonthlySummary s WHERE s.routineId = :routineId")
+    int deleteByRoutineId(@Param("routineId") Long routineId);
+}
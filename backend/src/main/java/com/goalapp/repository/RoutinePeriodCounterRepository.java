@@ -0,0 +1,44 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.RoutinePeriodCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoutinePeriodCounterRepository extends JpaRepository<RoutinePeriodCounter, Long> {
+
+    Optional<RoutinePeriodCounter> findByRoutineIdAndPeriodStart(Long routineId, LocalDate periodStart);
+
+    /**
+     * 여러 루틴의 주기 카운터 일괄 조회
+     */
+    List<RoutinePeriodCounter> findByRoutineIdInAndPeriodStartIn(Collection<Long> routineIds,
+                                                                  Collection<LocalDate> periodStarts);
+
+    /**
+     * 카운터 증감 (0 미만이 되면 0으로 고정)
+     * @return 갱신된 행 수 (카운터 행이 없을 때만 0)
+     */
+    @Modifying
+    @Query("UPDATE RoutinePeriodCounter c SET c.completionCount = " +
+           "CASE WHEN c.completionCount + :delta < 0 THEN 0 ELSE c.completionCount + :delta END, " +
+           "c.updatedAt = :now " +
+           "WHERE c.routineId = :routineId AND c.periodStart = :periodStart")
+    int adjustCount(@Param("routineId") Long routineId,
+                    @Param("periodStart") LocalDate periodStart,
+                    @Param("delta") int delta,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RoutinePeriodCounter c WHERE c.routineId = :routineId")
+    int deleteByRoutineId(@Param("routineId") Long routineId);
+}
@@ -2,10 +2,16 @@ package com.goalapp.repository;
 
 import com.goalapp.entity.Routine;
 import com.goalapp.entity.RoutineFrequency;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,6 +22,12 @@ public interface RoutineRepository extends JpaRepository<Routine, Long> {
      */
     List<Routine> findByIsActiveTrueOrderByCreatedAtDesc();
 
+    /**
+     * 활성화된 루틴 ID 조회
+     */
+    @Query("SELECT r.id FROM Routine r WHERE r.isActive = true")
+    List<Long> findActiveIds();
+
     /**
      * 주기별 루틴 조회
      */
@@ -25,4 +37,76 @@ public interface RoutineRepository extends JpaRepository<Routine, Long> {
      * 전체 루틴 조회 (활성/비활성 모두)
      */
     List<Routine> findAllByOrderByCreatedAtDesc();
+
+    /**
+     * ID 순 청크 조회 (배치 작업용)
+     */
+    @Query("SELECT r FROM Routine r WHERE r.id > :lastId ORDER BY r.id")
+    List<Routine> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 루틴 삭제 (완료 기록은 먼저 일괄 삭제해야 함)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Routine r WHERE r.id = :routineId")
+    int deleteRoutineById(@Param("routineId") Long routineId);
+
+    /**
+     * 완료 기록 추가 시 완료 수 증가 및 마지막 완료 시각 갱신
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.completionCount = r.completionCount + 1, " +
+           "r.lastCompletedAt = CASE WHEN r.lastCompletedAt IS NULL OR r.lastCompletedAt < :completedAt " +
+           "THEN :completedAt ELSE r.lastCompletedAt END " +
+           "WHERE r.id = :routineId")
+    int incrementCompletionCount(@Param("routineId") Long routineId, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 완료 기록 여러 건 추가 시 완료 수 증가 및 마지막 완료 시각 갱신
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.completionCount = r.completionCount + :count, " +
+           "r.lastCompletedAt = CASE WHEN r.lastCompletedAt IS NULL OR r.lastCompletedAt < :latestCompletedAt " +
+           "THEN :latestCompletedAt ELSE r.lastCompletedAt END " +
+           "WHERE r.id = :routineId")
+    int addCompletionCount(@Param("routineId") Long routineId,
+                           @Param("count") long count,
+                           @Param("latestCompletedAt") LocalDateTime latestCompletedAt);
+
+    /**
+     * 완료 기록 삭제 후 완료 수 감소 및 마지막 완료 시각 재계산
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Routine r SET r.completionCount = CASE WHEN r.completionCount > 0 THEN r.completionCount - 1 ELSE 0 END, " +
+           "r.lastCompletedAt = (SELECT MAX(rc.completedAt) FROM RoutineCompletion rc WHERE rc.routine.id = :routineId) " +
+           "WHERE r.id = :routineId")
+    int decrementCompletionCount(@Param("routineId") Long routineId);
+
+    /**
+     * 연속 달성 기록 갱신
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.currentStreak = :currentStreak, r.longestStreak = :longestStreak, " +
+           "r.lastStreakPeriod = :lastStreakPeriod WHERE r.id = :routineId")
+    int updateStreak(@Param("routineId") Long routineId,
+                     @Param("currentStreak") int currentStreak,
+                     @Param("longestStreak") int longestStreak,
+                     @Param("lastStreakPeriod") LocalDate lastStreakPeriod);
+
+    /**
+     * 완료 기록으로부터 완료 수/마지막 완료 시각 재계산 (카운터 재구성 작업용)
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET " +
+           "r.completionCount = (SELECT COUNT(rc) FROM RoutineCompletion rc WHERE rc.routine.id = r.id), " +
+           "r.lastCompletedAt = (SELECT MAX(rc.completedAt) FROM RoutineCompletion rc WHERE rc.routine.id = r.id) " +
+           "WHERE r.id IN :routineIds")
+    int recalculateCompletionStats(@Param("routineIds") Collection<Long> routineIds);
+
+    /**
+     * 목표 삭제 시 연결된 루틴의 목표 연결 해제
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.goalId = null WHERE r.goalId IN :goalIds")
+    int unlinkGoals(@Param("goalIds") Collection<Long> goalIds);
 }
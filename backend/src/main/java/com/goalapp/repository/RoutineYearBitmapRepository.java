@@ -0,0 +1,33 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.RoutineYearBitmap;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoutineYearBitmapRepository extends JpaRepository<RoutineYearBitmap, Long> {
+
+    Optional<RoutineYearBitmap> findByRoutineIdAndYear(Long routineId, int year);
+
+    List<RoutineYearBitmap> findByYearAndRoutineIdIn(int year, Collection<Long> routineIds);
+
+    /**
+     * 갱신용 조회 (동시 완료/취소 시 비트 손실 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RoutineYearBitmap b WHERE b.routineId = :routineId AND b.year = :year")
+    Optional<RoutineYearBitmap> findForUpdate(@Param("routineId") Long routineId, @Param("year") int year);
+
+    @Modifying
+    @Query("DELETE FROM RoutineYearBitmap b WHERE b.routineId = :routineId")
+    int deleteByRoutineId(@Param("routineId") Long routineId);
+}
@@ -0,0 +1,17 @@
+package com.goalapp.service;
+
+import com.goalapp.dto.request.ArchivedGoalCursor;
+import com.goalapp.entity.Goal;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 보관 목표 한 페이지
+ */
+@Value
+public class ArchivedGoalPage {
+    List<Goal> goals;
+    // 다음 페이지가 없으면 null
+    ArchivedGoalCursor nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.goalapp.service;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 일괄 완료/소급 입력 한 건
+ */
+@Value
+public class CompletionEntry {
+    Long routineId;
+    LocalDate date;
+    String note;
+}
@@ -0,0 +1,413 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.CompletionPartition;
+import com.goalapp.entity.CompletionPartitionState;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.RoutineCompletion;
+import com.goalapp.repository.CompletionPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 완료 기록 연도 파티션 관리
+ * - routine_completions는 최근 연도(올해 + jobs.partitions.hot-years)만 담는 hot 파티션으로 유지하여
+ *   오늘/이번 주기 조회와 완료 삽입이 작은 인덱스만 사용하도록 한다.
+ * - 그보다 오래된 연도는 봉인 작업(ROUTINE_COMPLETION_SEAL)이 routine_completions_y{연도}로 청크 단위 이동
+ *   (청크마다 복사와 삭제를 한 트랜잭션으로 커밋하므로 각 행은 항상 한 테이블에만 있음)
+ * - 봉인된 연도는 읽기 전용이며, 히스토리 조회는 기간이 겹치는 파티션만 추가로 읽는다.
+ *   조회 대상 파티션 목록은 메모리에 두고 카탈로그가 바뀐 트랜잭션이 끝날 때 다시 읽는다 (인스턴스 하나 기준).
+ * - 분리(조회 제외)는 카탈로그 갱신, 삭제는 DROP TABLE 한 번으로 행 수와 무관하게 끝난다.
+ * - 수명 주기: hot 파티션 → 봉인(이 작업) → 월 요약 압축(ROUTINE_COMPLETION_COMPACT)
+ *   압축은 봉인 완료된 파티션만 대상으로 하므로 봉인 전에 hot 기록이 요약으로 사라지지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompletionPartitionService implements Job {
+
+    private static final String HOT_TABLE = "routine_completions";
+    private static final String COLUMNS = "id, routine_id, completed_at, completion_date, note, contributed_goal_id";
+    private static final Set<CompletionPartitionState> READABLE =
+            EnumSet.of(CompletionPartitionState.SEALING, CompletionPartitionState.SEALED);
+
+    private static final RowMapper<RoutineCompletion> COMPLETION_MAPPER = (rs, rowNum) -> RoutineCompletion.builder()
+            .id(rs.getLong("id"))
+            .completedAt(rs.getTimestamp("completed_at").toLocalDateTime())
+            .completionDate(rs.getDate("completion_date").toLocalDate())
+            .note(rs.getString("note"))
+            .contributedGoalId(rs.getObject("contributed_goal_id", Long.class))
+            .build();
+
+    private final CompletionPartitionRepository partitionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    // hot 파티션에 남겨 둘 지난 연도 수 (연말연시에 걸친 주/월 주기가 hot 파티션 안에서 계산되도록 최소 1)
+    @Value("${jobs.partitions.hot-years:1}")
+    private int hotYears = 1;
+
+    // 조회 대상 파티션 (null이면 다음 조회 때 카탈로그에서 읽음)
+    private List<CompletionPartition> readable;
+    private long catalogVersion;
+
+    /**
+     * 파티션 카탈로그 (최근 연도부터)
+     */
+    public List<CompletionPartition> getPartitions() {
+        return partitionRepository.findAllByOrderByYearDesc();
+    }
+
+    /**
+     * 파티션으로 옮겨졌거나 옮기는 중인 연도 (완료 기록 추가 불가)
+     */
+    public Set<Integer> getPartitionedYears() {
+        return partitionRepository.findAll().stream()
+                .map(CompletionPartition::getYear)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 기간 [from, until) 의 파티션 완료 기록 (completedAt, id 내림차순)
+     */
+    public List<RoutineCompletion> findCompletions(Long routineId, LocalDateTime from, LocalDateTime until) {
+        List<RoutineCompletion> completions = new ArrayList<>();
+        for (CompletionPartition partition : readablePartitions()) {
+            if (!partition.overlaps(from, until)) {
+                continue;
+            }
+            completions.addAll(jdbcTemplate.query(
+                    "SELECT " + COLUMNS + " FROM " + partition.getTableName() +
+                    " WHERE routine_id = ? AND completed_at >= ? AND completed_at < ?" +
+                    " ORDER BY completed_at DESC, id DESC",
+                    COMPLETION_MAPPER, routineId, Timestamp.valueOf(from), Timestamp.valueOf(until)));
+        }
+        return completions;
+    }
+
+    /**
+     * 파티션 완료 기록 전체 (completedAt, id 내림차순)
+     */
+    public List<RoutineCompletion> findCompletions(Long routineId) {
+        return findCompletions(routineId, LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.now());
+    }
+
+    /**
+     * 히스토리 키셋 페이지의 파티션 부분 (hot 파티션 기록이 모두 더 최근이므로 그 뒤에 이어 붙인다)
+     * @param completedAt 커서 (null이면 가장 최근 파티션부터)
+     */
+    public List<RoutineCompletion> findPageBefore(Long routineId, LocalDateTime completedAt, Long id, int limit) {
+        List<RoutineCompletion> page = new ArrayList<>();
+        for (CompletionPartition partition : readablePartitions()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            if (completedAt != null && partition.getStartsAt().isAfter(completedAt)) {
+                continue;
+            }
+            StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM " + partition.getTableName() +
+                    " WHERE routine_id = :routineId");
+            MapSqlParameterSource params = new MapSqlParameterSource("routineId", routineId)
+                    .addValue("limit", limit - page.size());
+            if (completedAt != null) {
+                sql.append(" AND (completed_at < :completedAt OR (completed_at = :completedAt AND id < :id))");
+                params.addValue("completedAt", Timestamp.valueOf(completedAt)).addValue("id", id);
+            }
+            sql.append(" ORDER BY completed_at DESC, id DESC LIMIT :limit");
+            page.addAll(namedJdbcTemplate.query(sql.toString(), params, COMPLETION_MAPPER));
+        }
+        return page;
+    }
+
+    /**
+     * hot 파티션과 조회 대상 파티션을 합친 SELECT (전체 이력 스트리밍용)
+     */
+    public String unionAll(String columns) {
+        StringBuilder sql = new StringBuilder("SELECT " + columns + " FROM " + HOT_TABLE);
+        for (CompletionPartition partition : readablePartitions()) {
+            sql.append(" UNION ALL SELECT ").append(columns).append(" FROM ").append(partition.getTableName());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * hot 파티션과 조회 대상 파티션 테이블 이름
+     */
+    public List<String> readableTables() {
+        List<String> tables = new ArrayList<>();
+        tables.add(HOT_TABLE);
+        readablePartitions().forEach(partition -> tables.add(partition.getTableName()));
+        return tables;
+    }
+
+    /**
+     * 봉인 완료된 파티션 테이블 이름 (압축 대상)
+     */
+    public List<String> sealedTables() {
+        return readablePartitions().stream()
+                .filter(partition -> partition.getState() == CompletionPartitionState.SEALED)
+                .map(CompletionPartition::getTableName)
+                .toList();
+    }
+
+    /**
+     * 루틴 누적 완료 수/마지막 완료 시각에 파티션 기록 반영 (hot 파티션 기준 재계산 직후 호출)
+     */
+    public void addPartitionedStats(Collection<Long> routineIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("routineIds", routineIds);
+        for (CompletionPartition partition : readablePartitions()) {
+            String table = partition.getTableName();
+            namedJdbcTemplate.update(
+                    "UPDATE routines SET " +
+                    "completion_count = completion_count + (SELECT COUNT(*) FROM " + table + " p WHERE p.routine_id = routines.id), " +
+                    "last_completed_at = COALESCE(last_completed_at, " +
+                    "(SELECT MAX(p.completed_at) FROM " + table + " p WHERE p.routine_id = routines.id)) " +
+                    "WHERE id IN (:routineIds)", params);
+        }
+    }
+
+    /**
+     * 루틴 삭제 시 파티션(분리된 것 포함)의 완료 기록 삭제
+     */
+    public int deleteByRoutineId(Long routineId) {
+        int deleted = 0;
+        for (CompletionPartition partition : partitionRepository.findAllByOrderByYearDesc()) {
+            if (partition.getState().hasTable()) {
+                deleted += jdbcTemplate.update("DELETE FROM " + partition.getTableName() + " WHERE routine_id = ?", routineId);
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ROUTINE_COMPLETION_SEAL;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return sealExpiredYears(progress);
+    }
+
+    /**
+     * hot 보존 기간이 지난 연도를 파티션으로 봉인 (중단된 봉인부터 이어서 처리)
+     * @return 옮긴 완료 기록 수
+     */
+    public long sealExpiredYears(JobProgress progress) {
+        int lastSealableYear = LocalDate.now().getYear() - hotYears - 1;
+        long total = 0;
+
+        for (CompletionPartition partition : partitionRepository.findByStateInOrderByYearDesc(
+                EnumSet.of(CompletionPartitionState.SEALING))) {
+            total += seal(partition.getYear(), progress);
+        }
+        // 가장 오래된 hot 기록의 연도부터 한 해씩 (옮기고 나면 다음 연도가 가장 오래된 기록이 됨)
+        Integer year;
+        while ((year = oldestHotYear()) != null && year <= lastSealableYear) {
+            total += seal(year, progress);
+        }
+
+        progress.setMessage("hotFrom=" + (lastSealableYear + 1));
+        return total;
+    }
+
+    /**
+     * 파티션 분리 (테이블은 유지하고 조회에서 제외)
+     */
+    @Transactional
+    public CompletionPartition detach(int year) {
+        CompletionPartition partition = getPartition(year);
+        if (partition.getState() != CompletionPartitionState.SEALED) {
+            throw new IllegalStateException("봉인 완료된 파티션만 분리할 수 있습니다: " + year + " (" + partition.getState() + ")");
+        }
+        partition.changeState(CompletionPartitionState.DETACHED);
+        invalidateAfterCommit();
+        log.info("📦 Completion partition {} detached", year);
+        return partitionRepository.save(partition);
+    }
+
+    /**
+     * 분리한 파티션 다시 연결
+     */
+    @Transactional
+    public CompletionPartition attach(int year) {
+        CompletionPartition partition = getPartition(year);
+        if (partition.getState() != CompletionPartitionState.DETACHED) {
+            throw new IllegalStateException("분리된 파티션만 연결할 수 있습니다: " + year + " (" + partition.getState() + ")");
+        }
+        partition.changeState(CompletionPartitionState.SEALED);
+        invalidateAfterCommit();
+        log.info("📦 Completion partition {} attached", year);
+        return partitionRepository.save(partition);
+    }
+
+    /**
+     * 분리한 파티션 테이블 삭제 (실수로 조회 중인 연도를 지우지 않도록 분리 후에만 허용)
+     */
+    @Transactional
+    public CompletionPartition drop(int year) {
+        CompletionPartition partition = getPartition(year);
+        if (partition.getState() != CompletionPartitionState.DETACHED) {
+            throw new IllegalStateException("분리된 파티션만 삭제할 수 있습니다: " + year + " (" + partition.getState() + ")");
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.getTableName());
+        partition.changeState(CompletionPartitionState.DROPPED);
+        log.info("🗑️ Completion partition {} dropped ({} rows)", year, partition.getRowCount());
+        return partitionRepository.save(partition);
+    }
+
+    private CompletionPartition getPartition(int year) {
+        return partitionRepository.findByYear(year)
+                .orElseThrow(() -> new IllegalArgumentException("파티션을 찾을 수 없습니다: " + year));
+    }
+
+    /**
+     * 컬럼 추가 이전에 만든 파티션 테이블에 새 컬럼 추가
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void addMissingColumns() {
+        for (CompletionPartition partition : partitionRepository.findAllByOrderByYearDesc()) {
+            if (partition.getState().hasTable()) {
+                jdbcTemplate.execute("ALTER TABLE " + partition.getTableName() +
+                        " ADD COLUMN IF NOT EXISTS contributed_goal_id BIGINT");
+            }
+        }
+    }
+
+    private List<CompletionPartition> readablePartitions() {
+        long version;
+        synchronized (this) {
+            if (readable != null) {
+                return readable;
+            }
+            version = catalogVersion;
+        }
+        List<CompletionPartition> loaded = List.copyOf(partitionRepository.findByStateInOrderByYearDesc(READABLE));
+        synchronized (this) {
+            // 읽는 동안 카탈로그가 바뀌었으면 이번 결과는 저장하지 않는다
+            if (version == catalogVersion) {
+                readable = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized void invalidate() {
+        catalogVersion++;
+        readable = null;
+    }
+
+    /**
+     * 카탈로그를 바꾼 트랜잭션이 끝난 뒤 목록을 다시 읽도록 (트랜잭션 밖이면 바로)
+     */
+    private void invalidateAfterCommit() {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    private Integer oldestHotYear() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(completed_at) FROM " + HOT_TABLE, Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime().getYear() : null;
+    }
+
+    private long seal(int year, JobProgress progress) {
+        CompletionPartition opened = transactionTemplate.execute(status -> open(year));
+        // 행을 옮기기 전에 새 파티션이 조회 대상에 들어가도록
+        invalidate();
+        String table = opened.getTableName();
+        Timestamp from = Timestamp.valueOf(opened.getStartsAt());
+        Timestamp until = Timestamp.valueOf(opened.getEndsAt());
+
+        long moved = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> moveChunk(table, from, until));
+            if (count == null || count == 0) {
+                break;
+            }
+            moved += count;
+            progress.chunkCompleted(count);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            CompletionPartition partition = getPartition(year);
+            partition.setRowCount(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+            partition.setSealedAt(LocalDateTime.now());
+            partition.changeState(CompletionPartitionState.SEALED);
+            partitionRepository.save(partition);
+        });
+        invalidate();
+        log.info("📦 Sealed completion partition {} ({} rows moved)", year, moved);
+        return moved;
+    }
+
+    private CompletionPartition open(int year) {
+        CompletionPartition existing = partitionRepository.findByYear(year).orElse(null);
+        if (existing != null) {
+            if (!existing.getState().isReadable()) {
+                throw new IllegalStateException("분리/삭제된 연도에 hot 완료 기록이 남아 있습니다: " + year);
+            }
+            return existing;
+        }
+        String table = CompletionPartition.tableNameFor(year);
+        // 읽기 전용이므로 유니크 키 없이 조회용 인덱스만 둔다
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " (" +
+                "id BIGINT PRIMARY KEY, " +
+                "routine_id BIGINT NOT NULL, " +
+                "completed_at TIMESTAMP NOT NULL, " +
+                "completion_date DATE NOT NULL, " +
+                "note VARCHAR(500), " +
+                "contributed_goal_id BIGINT)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_routine_completed_at " +
+                "ON " + table + " (routine_id, completed_at)");
+        return partitionRepository.save(CompletionPartition.sealing(year));
+    }
+
+    private int moveChunk(String table, Timestamp from, Timestamp until) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM " + HOT_TABLE + " WHERE completed_at >= ? AND completed_at < ? LIMIT ?",
+                Long.class, from, until, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        // completion_date 컬럼 추가 이전 기록은 완료 시각의 날짜로 채운다
+        namedJdbcTemplate.update("INSERT INTO " + table + " (" + COLUMNS + ") " +
+                "SELECT id, routine_id, completed_at, COALESCE(completion_date, CAST(completed_at AS DATE)), note, " +
+                "contributed_goal_id " +
+                "FROM " + HOT_TABLE + " WHERE id IN (:ids)", params);
+        namedJdbcTemplate.update("DELETE FROM " + HOT_TABLE + " WHERE id IN (:ids)", params);
+        return ids.size();
+    }
+}
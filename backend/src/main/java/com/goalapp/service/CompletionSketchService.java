@@ -0,0 +1,303 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.CompletionMetric;
+import com.goalapp.entity.CompletionSketch;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobType;
+import com.goalapp.repository.CompletionSketchRepository;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목표 완료 시점 분위수 스케치 관리 (완료 월 × 타입 × 지표)
+ * - 완료/완료 취소/수정/삭제 시 변경 전후 표본 차이만큼 스케치를 갱신 (호출자의 트랜잭션에 참여)
+ * - 조회는 기간의 월 스케치만 병합하므로 목표 수와 무관하게 타입×지표×월 행만 읽는다
+ *   행이 없으면 빈 행을 만든 뒤 잠가서 갱신 (PostgreSQL은 ON CONFLICT DO NOTHING, 그 외(H2)는 유니크 위반 무시)
+ * - 일별 통계와 같이 goals와 goals_archive의 완료 목표를 대상으로 하며, COMPLETION_SKETCH_REBUILD 작업이 전체를 다시 만든다
+ *   재구성은 완료 목표를 커서로 스트리밍해 월×타입×지표 스케치만 메모리에 두고, 집계와 교체를 한 트랜잭션(REPEATABLE READ)에서 한다.
+ *   PostgreSQL에서는 먼저 completion_sketches를 잠가 그동안의 갱신이 교체 후에 반영되도록 한다.
+ */
+@Service
+@Slf4j
+public class CompletionSketchService implements Job {
+
+    private static final String INSERT =
+            "INSERT INTO completion_sketches (sketch_month, goal_type, metric, sample_count, data, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String POSTGRES_INSERT_IF_ABSENT = INSERT +
+            " ON CONFLICT (sketch_month, goal_type, metric) DO NOTHING";
+
+    private static final String COMPLETION_TIME_COLUMNS = "type, created_at, completed_at, due_date";
+
+    private static final String STREAM_COMPLETED =
+            "SELECT " + COMPLETION_TIME_COLUMNS + " FROM goals WHERE is_completed = true AND completed_at IS NOT NULL " +
+            "UNION ALL SELECT " + COMPLETION_TIME_COLUMNS + " FROM goals_archive " +
+            "WHERE is_completed = true AND completed_at IS NOT NULL";
+
+    private final CompletionSketchRepository sketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate rebuildTransaction;
+    private final boolean postgres;
+
+    @org.springframework.beans.factory.annotation.Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    public CompletionSketchService(CompletionSketchRepository sketchRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   DataSource dataSource) {
+        this.sketchRepository = sketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.postgres = RoutineCompletionWriter.isPostgres(dataSource);
+    }
+
+    /**
+     * 월 [from, to] 의 타입별 완료 시점 분위수 (완료 목표가 있는 타입만, 타입 선언 순)
+     */
+    public List<CompletionTimeStats> getStats(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 월이 종료 월보다 늦을 수 없습니다");
+        }
+
+        Map<GoalType, Map<CompletionMetric, QuantileSketch>> merged = new EnumMap<>(GoalType.class);
+        for (CompletionSketch row : sketchRepository.findByMonthGreaterThanEqualAndMonthLessThanEqual(
+                from.atDay(1), to.atDay(1))) {
+            merged.computeIfAbsent(row.getType(), type -> new EnumMap<>(CompletionMetric.class))
+                    .computeIfAbsent(row.getMetric(), metric -> new QuantileSketch())
+                    .merge(QuantileSketch.decode(row.getData()));
+        }
+
+        List<CompletionTimeStats> stats = new ArrayList<>();
+        merged.forEach((type, byMetric) -> {
+            QuantileSketch duration = byMetric.getOrDefault(CompletionMetric.DURATION, new QuantileSketch());
+            QuantileSketch dueOffset = byMetric.getOrDefault(CompletionMetric.DUE_OFFSET, new QuantileSketch());
+            if (duration.getCount() == 0 && dueOffset.getCount() == 0) {
+                return;
+            }
+            stats.add(CompletionTimeStats.builder()
+                    .type(type)
+                    .from(from)
+                    .to(to)
+                    .completedCount(duration.getCount())
+                    .durationP50Minutes(duration.quantile(0.5))
+                    .durationP90Minutes(duration.quantile(0.9))
+                    .withDueDateCount(dueOffset.getCount())
+                    .dueOffsetP50Minutes(dueOffset.quantile(0.5))
+                    .dueOffsetP90Minutes(dueOffset.quantile(0.9))
+                    .build());
+        });
+        return stats;
+    }
+
+    // ===== 목표 변경 =====
+
+    public void goalChanged(GoalSnapshot before, Goal after) {
+        goalChanged(before, GoalSnapshot.of(after));
+    }
+
+    public void goalChanged(GoalSnapshot before, GoalSnapshot after) {
+        List<Sample> removed = samplesOf(before);
+        List<Sample> added = samplesOf(after);
+        // 완료 시점과 무관한 수정은 스케치를 건드리지 않음
+        if (removed.equals(added)) {
+            return;
+        }
+        apply(removed, added);
+    }
+
+    public void goalsDeleted(Collection<GoalSnapshot> snapshots) {
+        List<Sample> removed = new ArrayList<>();
+        snapshots.forEach(snapshot -> removed.addAll(samplesOf(snapshot)));
+        apply(removed, List.of());
+    }
+
+    // ===== 재구성 =====
+
+    /**
+     * 스케치 도입 전 완료 목표가 있으면 비어 있는 스케치를 한 번 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (sketchRepository.count() == 0) {
+            rebuild(JobProgress.untracked());
+        }
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.COMPLETION_SKETCH_REBUILD;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return rebuild(progress);
+    }
+
+    /**
+     * 완료 목표 전체에서 스케치 재계산 (집계와 교체를 한 트랜잭션으로)
+     * @return 반영된 완료 목표 수
+     */
+    public long rebuild(JobProgress progress) {
+        Map<SketchKey, QuantileSketch> sketches = new HashMap<>();
+        long[] goals = new long[1];
+
+        rebuildTransaction.executeWithoutResult(status -> {
+            if (postgres) {
+                // 증감(INSERT/UPDATE)은 막고 조회는 허용, 스냅샷은 잠근 뒤 첫 조회에서 잡힌다
+                jdbcTemplate.execute("LOCK TABLE completion_sketches IN EXCLUSIVE MODE");
+            }
+            // 커서로 스트리밍 (PostgreSQL은 트랜잭션 안에서만 fetchSize 적용)
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(STREAM_COMPLETED);
+                statement.setFetchSize(chunkSize);
+                return statement;
+            }, rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                Timestamp dueDate = rs.getTimestamp("due_date");
+                for (Sample sample : samplesOf(GoalType.valueOf(rs.getString("type")),
+                        createdAt != null ? createdAt.toLocalDateTime() : null,
+                        rs.getTimestamp("completed_at").toLocalDateTime(),
+                        dueDate != null ? dueDate.toLocalDateTime() : null)) {
+                    sketches.computeIfAbsent(sample.getKey(), key -> new QuantileSketch()).add(sample.getMinutes());
+                }
+                if (++goals[0] % chunkSize == 0) {
+                    progress.chunkCompleted(chunkSize);
+                }
+            });
+            progress.chunkCompleted(goals[0] % chunkSize);
+
+            LocalDateTime now = LocalDateTime.now();
+            List<CompletionSketch> rows = new ArrayList<>();
+            sketches.forEach((key, sketch) -> {
+                CompletionSketch row = CompletionSketch.empty(key.getMonth(), key.getType(), key.getMetric());
+                write(row, sketch, now);
+                rows.add(row);
+            });
+            sketchRepository.deleteAllInBatch();
+            sketchRepository.saveAll(rows);
+        });
+
+        progress.setMessage("sketches=" + sketches.size());
+        log.info("📐 Rebuilt completion sketches: {} goals, {} sketches", goals[0], sketches.size());
+        return goals[0];
+    }
+
+    // ===== 내부 =====
+
+    private void apply(List<Sample> removed, List<Sample> added) {
+        Map<SketchKey, List<Sample>> removedByKey = new HashMap<>();
+        Map<SketchKey, List<Sample>> addedByKey = new HashMap<>();
+        removed.forEach(sample -> removedByKey.computeIfAbsent(sample.getKey(), key -> new ArrayList<>()).add(sample));
+        added.forEach(sample -> addedByKey.computeIfAbsent(sample.getKey(), key -> new ArrayList<>()).add(sample));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SketchKey> keys = new ArrayList<>(removedByKey.keySet());
+        addedByKey.keySet().stream().filter(key -> !removedByKey.containsKey(key)).forEach(keys::add);
+        for (SketchKey key : keys) {
+            CompletionSketch row = sketchRepository.findForUpdate(key.getMonth(), key.getType(), key.getMetric())
+                    .orElse(null);
+            if (row == null) {
+                // 다른 트랜잭션이 먼저 만들었으면 그 행을 잠가 이번 변경만 반영
+                insertIfAbsent(key, now);
+                row = sketchRepository.findForUpdate(key.getMonth(), key.getType(), key.getMetric())
+                        .orElseThrow(() -> new IllegalStateException("스케치 행 생성 실패: " + key));
+            }
+            QuantileSketch sketch = QuantileSketch.decode(row.getData());
+            removedByKey.getOrDefault(key, List.of()).forEach(sample -> sketch.remove(sample.getMinutes()));
+            addedByKey.getOrDefault(key, List.of()).forEach(sample -> sketch.add(sample.getMinutes()));
+            write(row, sketch, now);
+            sketchRepository.save(row);
+        }
+    }
+
+    private void insertIfAbsent(SketchKey key, LocalDateTime now) {
+        Object[] params = {Date.valueOf(key.getMonth()), key.getType().name(), key.getMetric().name(), 0L,
+                new byte[0], Timestamp.valueOf(now)};
+        if (postgres) {
+            jdbcTemplate.update(POSTGRES_INSERT_IF_ABSENT, params);
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT, params);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 행을 만든 경우 (H2는 문장 오류가 트랜잭션을 중단시키지 않음)
+        }
+    }
+
+    private static void write(CompletionSketch row, QuantileSketch sketch, LocalDateTime now) {
+        row.setData(sketch.encode());
+        row.setSampleCount(sketch.getCount());
+        row.setUpdatedAt(now);
+    }
+
+    private static List<Sample> samplesOf(GoalSnapshot snapshot) {
+        if (snapshot == null || !snapshot.isCompleted()) {
+            return List.of();
+        }
+        return samplesOf(snapshot.getType(), snapshot.getCreatedAt(), snapshot.getCompletedAt(), snapshot.getDueDate());
+    }
+
+    /**
+     * 완료 목표 한 건의 표본 (완료 월 기준: 소요 시간, 마감일이 있으면 마감일 대비 시점)
+     */
+    static List<Sample> samplesOf(GoalType type, LocalDateTime createdAt, LocalDateTime completedAt,
+                                  LocalDateTime dueDate) {
+        if (completedAt == null) {
+            return List.of();
+        }
+        LocalDate month = YearMonth.from(completedAt).atDay(1);
+        List<Sample> samples = new ArrayList<>(2);
+        if (createdAt != null) {
+            samples.add(new Sample(new SketchKey(month, type, CompletionMetric.DURATION),
+                    Math.max(0, minutesBetween(createdAt, completedAt))));
+        }
+        if (dueDate != null) {
+            samples.add(new Sample(new SketchKey(month, type, CompletionMetric.DUE_OFFSET),
+                    minutesBetween(dueDate, completedAt)));
+        }
+        return samples;
+    }
+
+    private static double minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toSeconds() / 60.0;
+    }
+
+    @Value
+    static class SketchKey {
+        LocalDate month;
+        GoalType type;
+        CompletionMetric metric;
+    }
+
+    @Value
+    static class Sample {
+        SketchKey key;
+        double minutes;
+    }
+}
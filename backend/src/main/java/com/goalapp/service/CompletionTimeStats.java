@@ -0,0 +1,25 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.GoalType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.YearMonth;
+
+/**
+ * 타입별 완료 시점 분위수 (완료 월 기준, 분 단위, 상대 오차 2% 이내)
+ * 마감일 대비 값은 음수면 마감 전, 양수면 마감 후 완료이며 마감일이 있는 목표만 센다.
+ */
+@Value
+@Builder
+public class CompletionTimeStats {
+    GoalType type;
+    YearMonth from;
+    YearMonth to;
+    long completedCount;
+    Double durationP50Minutes;
+    Double durationP90Minutes;
+    long withDueDateCount;
+    Double dueOffsetP50Minutes;
+    Double dueOffsetP90Minutes;
+}
@@ -0,0 +1,422 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.DailyStat;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.DailyStatRepository;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.RoutineRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 일별/타입별 통계 롤업 (daily_stats) 관리
+ * - 목표/루틴 쓰기 경로와 만료·이월·보존 작업이 변경 전후 차이만큼 호출자의 트랜잭션 안에서 증감
+ *   (PostgreSQL은 INSERT ... ON CONFLICT DO UPDATE, 그 외(H2)는 UPDATE 후 없으면 INSERT)
+ * - 롤업은 원본 테이블에서 다시 계산할 수 있는 값만 담으며, DAILY_STATS_REBUILD 작업이 전체를 다시 만든다.
+ *   목표는 goals와 goals_archive, 루틴 완료는 hot/봉인 파티션과 월 요약을 모두 센다.
+ *   재구성은 집계와 교체를 한 트랜잭션(REPEATABLE READ)에서 하며, PostgreSQL에서는 먼저 daily_stats를 잠가
+ *   그동안의 증감을 재구성이 끝날 때까지 기다리게 한다. 잠금 전에 커밋된 변경은 집계에 포함되고,
+ *   기다린 변경은 교체된 롤업 위에 반영되므로 어느 쪽도 빠지거나 두 번 더해지지 않는다.
+ */
+@Service
+@Slf4j
+public class DailyStatsService implements Job {
+
+    private static final int CREATED = 0;
+    private static final int CREATED_COMPLETED = 1;
+    private static final int COMPLETED = 2;
+    private static final int EXPIRED = 3;
+    private static final int ROUTINE_COMPLETIONS = 4;
+    private static final int COLUMN_COUNT = 5;
+
+    private static final String COLUMNS = "created_count, created_completed_count, completed_count, " +
+            "expired_count, routine_completion_count";
+
+    private static final String POSTGRES_UPSERT =
+            "INSERT INTO daily_stats (stat_date, goal_type, " + COLUMNS + ", updated_at) " +
+            "VALUES (:date, :type, :created, :createdCompleted, :completed, :expired, :routineCompletions, :now) " +
+            "ON CONFLICT (stat_date, goal_type) DO UPDATE SET " +
+            "created_count = daily_stats.created_count + EXCLUDED.created_count, " +
+            "created_completed_count = daily_stats.created_completed_count + EXCLUDED.created_completed_count, " +
+            "completed_count = daily_stats.completed_count + EXCLUDED.completed_count, " +
+            "expired_count = daily_stats.expired_count + EXCLUDED.expired_count, " +
+            "routine_completion_count = daily_stats.routine_completion_count + EXCLUDED.routine_completion_count, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String PORTABLE_UPDATE =
+            "UPDATE daily_stats SET " +
+            "created_count = created_count + :created, " +
+            "created_completed_count = created_completed_count + :createdCompleted, " +
+            "completed_count = completed_count + :completed, " +
+            "expired_count = expired_count + :expired, " +
+            "routine_completion_count = routine_completion_count + :routineCompletions, " +
+            "updated_at = :now " +
+            "WHERE stat_date = :date AND goal_type = :type";
+
+    private static final String INSERT =
+            "INSERT INTO daily_stats (stat_date, goal_type, " + COLUMNS + ", updated_at) " +
+            "VALUES (:date, :type, :created, :createdCompleted, :completed, :expired, :routineCompletions, :now)";
+
+    private final DailyStatRepository dailyStatRepository;
+    private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final RoutineRepository routineRepository;
+    private final CompletionPartitionService partitionService;
+    private final RoutineCompactionService compactionService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate rebuildTransaction;
+    private final boolean postgres;
+
+    public DailyStatsService(DailyStatRepository dailyStatRepository,
+                             GoalRepository goalRepository,
+                             ArchivedGoalRepository archivedGoalRepository,
+                             RoutineRepository routineRepository,
+                             CompletionPartitionService partitionService,
+                             RoutineCompactionService compactionService,
+                             NamedParameterJdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             DataSource dataSource) {
+        this.dailyStatRepository = dailyStatRepository;
+        this.goalRepository = goalRepository;
+        this.archivedGoalRepository = archivedGoalRepository;
+        this.routineRepository = routineRepository;
+        this.partitionService = partitionService;
+        this.compactionService = compactionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.postgres = RoutineCompletionWriter.isPostgres(dataSource);
+    }
+
+    /**
+     * 날짜 [from, until) 롤업 행
+     */
+    public List<DailyStat> findRange(LocalDate from, LocalDate until) {
+        return dailyStatRepository.findByDateGreaterThanEqualAndDateLessThanOrderByDate(from, until);
+    }
+
+    // ===== 목표 =====
+
+    public void goalCreated(Goal goal) {
+        goalChanged(null, goal);
+    }
+
+    public void goalChanged(GoalSnapshot before, Goal after) {
+        goalChanged(before, GoalSnapshot.of(after));
+    }
+
+    public void goalChanged(GoalSnapshot before, GoalSnapshot after) {
+        Deltas deltas = new Deltas();
+        deltas.addGoal(before, -1);
+        deltas.addGoal(after, 1);
+        upsert(deltas);
+    }
+
+    public void goalsDeleted(Collection<GoalSnapshot> snapshots) {
+        Deltas deltas = new Deltas();
+        snapshots.forEach(snapshot -> deltas.addGoal(snapshot, -1));
+        upsert(deltas);
+    }
+
+    /**
+     * 만료 작업 청크 반영
+     * @param rows [id, type, dueDate] (마감일 기준으로 만료 수 증가)
+     */
+    public void goalsExpired(List<Object[]> rows) {
+        Deltas deltas = new Deltas();
+        for (Object[] row : rows) {
+            deltas.add(((LocalDateTime) row[2]).toLocalDate(), (GoalType) row[1], EXPIRED, 1);
+        }
+        upsert(deltas);
+    }
+
+    /**
+     * 집합 단위 변경 반영 (이월 작업)
+     * @param createdToday 오늘 생성(복제)된 목표 수
+     * @param revivedExpired 다시 진행중이 된 만료 목표의 마감일별 수
+     */
+    public void goalsRolledOver(GoalType type, int createdToday, Map<LocalDate, Long> revivedExpired) {
+        Deltas deltas = new Deltas();
+        if (createdToday > 0) {
+            deltas.add(LocalDate.now(), type, CREATED, createdToday);
+        }
+        revivedExpired.forEach((date, count) -> deltas.add(date, type, EXPIRED, -count));
+        upsert(deltas);
+    }
+
+    // ===== 루틴 완료 =====
+
+    public void routineCompletionsAdded(RoutineFrequency frequency, Collection<LocalDate> dates) {
+        Deltas deltas = new Deltas();
+        dates.forEach(date -> deltas.add(date, typeOf(frequency), ROUTINE_COMPLETIONS, 1));
+        upsert(deltas);
+    }
+
+    public void routineCompletionRemoved(RoutineFrequency frequency, LocalDate date) {
+        Deltas deltas = new Deltas();
+        deltas.add(date, typeOf(frequency), ROUTINE_COMPLETIONS, -1);
+        upsert(deltas);
+    }
+
+    /**
+     * 루틴 삭제 전 호출 (모든 완료 기록을 롤업에서 제외)
+     */
+    public void routineDeleted(Long routineId) {
+        routineRepository.findById(routineId).ifPresent(routine -> {
+            GoalType type = typeOf(routine.getFrequency());
+            Deltas deltas = new Deltas();
+            routineCompletionCounts(routineId)
+                    .forEach((date, count) -> deltas.add(date, type, ROUTINE_COMPLETIONS, -count));
+            upsert(deltas);
+        });
+    }
+
+    /**
+     * 루틴 주기 변경 시 기존 완료 기록을 새 주기의 타입 행으로 이동
+     */
+    public void routineFrequencyChanged(Long routineId, RoutineFrequency from, RoutineFrequency to) {
+        Deltas deltas = new Deltas();
+        routineCompletionCounts(routineId).forEach((date, count) -> {
+            deltas.add(date, typeOf(from), ROUTINE_COMPLETIONS, -count);
+            deltas.add(date, typeOf(to), ROUTINE_COMPLETIONS, count);
+        });
+        upsert(deltas);
+    }
+
+    /**
+     * 루틴 주기에 대응하는 롤업 타입
+     */
+    static GoalType typeOf(RoutineFrequency frequency) {
+        return switch (frequency) {
+            case DAILY -> GoalType.DAILY;
+            case WEEKLY -> GoalType.WEEKLY;
+            case MONTHLY -> GoalType.MONTHLY;
+        };
+    }
+
+    // ===== 재구성 =====
+
+    /**
+     * 롤업 도입 전 데이터가 있으면 비어 있는 롤업을 한 번 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (dailyStatRepository.count() == 0 && (goalRepository.count() > 0 || archivedGoalRepository.count() > 0)) {
+            rebuild(JobProgress.untracked());
+        }
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.DAILY_STATS_REBUILD;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return rebuild(progress);
+    }
+
+    /**
+     * 원본 테이블에서 롤업 전체 재계산 (집계와 교체를 한 트랜잭션으로)
+     * @return 롤업 행 수
+     */
+    public long rebuild(JobProgress progress) {
+        Integer rows = rebuildTransaction.execute(status -> {
+            if (postgres) {
+                // 증감(INSERT/UPDATE)은 막고 조회는 허용, 스냅샷은 잠근 뒤 첫 조회에서 잡힌다
+                jdbcTemplate.update("LOCK TABLE daily_stats IN EXCLUSIVE MODE", new MapSqlParameterSource());
+            }
+            Deltas deltas = aggregate();
+            jdbcTemplate.update("DELETE FROM daily_stats", new MapSqlParameterSource());
+            return insertAll(deltas);
+        });
+        int total = rows != null ? rows : 0;
+        progress.chunkCompleted(total);
+        progress.setMessage("rows=" + total);
+        log.info("📈 Rebuilt daily_stats: {} rows", total);
+        return total;
+    }
+
+    // ===== 내부 =====
+
+    /**
+     * 원본 테이블 전체의 날짜×타입별 값
+     */
+    private Deltas aggregate() {
+        LocalDateTime from = LocalDate.EPOCH.atStartOfDay();
+        LocalDateTime until = LocalDate.now().plusDays(1).atStartOfDay();
+        Deltas deltas = new Deltas();
+
+        for (List<Object[]> rows : List.of(goalRepository.countCreatedByDay(from, until),
+                archivedGoalRepository.countCreatedByDay(from, until))) {
+            for (Object[] row : rows) {
+                LocalDate date = (LocalDate) row[0];
+                deltas.add(date, (GoalType) row[1], CREATED, ((Number) row[2]).longValue());
+                deltas.add(date, (GoalType) row[1], CREATED_COMPLETED, ((Number) row[3]).longValue());
+            }
+        }
+        for (List<Object[]> rows : List.of(goalRepository.countCompletedByDay(from, until),
+                archivedGoalRepository.countCompletedByDay(from, until))) {
+            rows.forEach(row -> deltas.add((LocalDate) row[0], (GoalType) row[1], COMPLETED, ((Number) row[2]).longValue()));
+        }
+        for (List<Object[]> rows : List.of(goalRepository.countExpiredByDay(), archivedGoalRepository.countExpiredByDay())) {
+            rows.forEach(row -> deltas.add((LocalDate) row[0], (GoalType) row[1], EXPIRED, ((Number) row[2]).longValue()));
+        }
+
+        for (String table : partitionService.readableTables()) {
+            jdbcTemplate.query("SELECT COALESCE(c.completion_date, CAST(c.completed_at AS DATE)) AS stat_day, " +
+                            "r.frequency, COUNT(*) AS cnt FROM " + table + " c JOIN routines r ON r.id = c.routine_id " +
+                            "GROUP BY COALESCE(c.completion_date, CAST(c.completed_at AS DATE)), r.frequency",
+                    rs -> {
+                        deltas.add(rs.getDate("stat_day").toLocalDate(),
+                                typeOf(RoutineFrequency.valueOf(rs.getString("frequency"))),
+                                ROUTINE_COMPLETIONS, rs.getLong("cnt"));
+                    });
+        }
+        Map<Long, RoutineFrequency> frequencies = new HashMap<>();
+        routineRepository.findAll().forEach(routine -> frequencies.put(routine.getId(), routine.getFrequency()));
+        compactionService.findAllCompactedDates().forEach((routineId, dates) -> {
+            RoutineFrequency frequency = frequencies.get(routineId);
+            if (frequency != null) {
+                dates.forEach(date -> deltas.add(date, typeOf(frequency), ROUTINE_COMPLETIONS, 1));
+            }
+        });
+
+        return deltas;
+    }
+
+    /**
+     * 루틴의 날짜별 완료 수 (hot/봉인 파티션 + 월 요약)
+     */
+    private SortedMap<LocalDate, Long> routineCompletionCounts(Long routineId) {
+        SortedMap<LocalDate, Long> counts = new TreeMap<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("routineId", routineId);
+        for (String table : partitionService.readableTables()) {
+            jdbcTemplate.query("SELECT COALESCE(completion_date, CAST(completed_at AS DATE)) AS stat_day, COUNT(*) AS cnt " +
+                            "FROM " + table + " WHERE routine_id = :routineId " +
+                            "GROUP BY COALESCE(completion_date, CAST(completed_at AS DATE))", params,
+                    rs -> {
+                        counts.merge(rs.getDate("stat_day").toLocalDate(), rs.getLong("cnt"), Long::sum);
+                    });
+        }
+        compactionService.findCompactedDates(routineId).forEach(date -> counts.merge(date, 1L, Long::sum));
+        return counts;
+    }
+
+    private void upsert(Deltas deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((date, type, values) -> {
+            MapSqlParameterSource params = params(date, type, values, now);
+            if (postgres) {
+                jdbcTemplate.update(POSTGRES_UPSERT, params);
+                return;
+            }
+            if (jdbcTemplate.update(PORTABLE_UPDATE, params) == 0) {
+                try {
+                    jdbcTemplate.update(INSERT, params);
+                } catch (DuplicateKeyException e) {
+                    // 동시에 같은 행을 만든 경우 (H2는 문장 오류가 트랜잭션을 중단시키지 않음)
+                    jdbcTemplate.update(PORTABLE_UPDATE, params);
+                }
+            }
+        });
+    }
+
+    private int insertAll(Deltas deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MapSqlParameterSource> batch = new ArrayList<>();
+        deltas.forEach((date, type, values) -> batch.add(params(date, type, values, now)));
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, batch.toArray(MapSqlParameterSource[]::new));
+        }
+        return batch.size();
+    }
+
+    private static MapSqlParameterSource params(LocalDate date, GoalType type, long[] values, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("date", Date.valueOf(date))
+                .addValue("type", type.name())
+                .addValue("created", values[CREATED])
+                .addValue("createdCompleted", values[CREATED_COMPLETED])
+                .addValue("completed", values[COMPLETED])
+                .addValue("expired", values[EXPIRED])
+                .addValue("routineCompletions", values[ROUTINE_COMPLETIONS])
+                .addValue("now", Timestamp.valueOf(now));
+    }
+
+    /**
+     * 날짜×타입별 증감 누적 (0인 행은 쓰지 않음)
+     */
+    private static final class Deltas {
+        private final SortedMap<LocalDate, Map<GoalType, long[]>> values = new TreeMap<>();
+
+        void add(LocalDate date, GoalType type, int column, long delta) {
+            if (date == null || delta == 0) {
+                return;
+            }
+            values.computeIfAbsent(date, key -> new EnumMap<>(GoalType.class))
+                    .computeIfAbsent(type, key -> new long[COLUMN_COUNT])[column] += delta;
+        }
+
+        /**
+         * 목표 한 건이 롤업에 기여하는 값 (생성일, 완료일, 만료일)
+         */
+        void addGoal(GoalSnapshot snapshot, int sign) {
+            if (snapshot == null) {
+                return;
+            }
+            LocalDate createdDate = snapshot.getCreatedAt() != null ? snapshot.getCreatedAt().toLocalDate() : null;
+            add(createdDate, snapshot.getType(), CREATED, sign);
+            if (snapshot.isCompleted()) {
+                add(createdDate, snapshot.getType(), CREATED_COMPLETED, sign);
+                if (snapshot.getCompletedAt() != null) {
+                    add(snapshot.getCompletedAt().toLocalDate(), snapshot.getType(), COMPLETED, sign);
+                }
+            }
+            add(snapshot.getExpiredDate(), snapshot.getType(), EXPIRED, sign);
+        }
+
+        void forEach(RowConsumer consumer) {
+            values.forEach((date, byType) -> byType.forEach((type, row) -> {
+                for (long value : row) {
+                    if (value != 0) {
+                        consumer.accept(date, type, row);
+                        return;
+                    }
+                }
+            }));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(LocalDate date, GoalType type, long[] values);
+    }
+}
@@ -0,0 +1,334 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 홈 화면 대시보드 카운터
+ * - 타입×상태별 목표 수는 LongAdder 배열, 진행중 미완료 목표의 마감일은 스킵 리스트(마감일 → 수)로 메모리에 유지하여
+ *   요약 조회 시 DB를 읽지 않는다 (기한 초과/만료 임박 수는 스킵 리스트의 구간 합).
+ * - 시작 시 그룹 집계 쿼리로 채우고, 목표/루틴을 변경하는 서비스와 만료 작업이 커밋 후 증감한다.
+ * - 집합 단위로 변경하는 작업(보존 정책, 이월, 콜드 보관 이동)은 끝난 뒤 다시 집계하며,
+ *   DASHBOARD_RECONCILE 작업이 주기적으로 DB와 대조해 누락된 증감을 바로잡는다.
+ * - 목표 수는 콜드 보관 테이블(goals_archive)을 포함한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService implements Job {
+
+    private static final GoalType[] TYPES = GoalType.values();
+    private static final GoalStatus[] STATUSES = GoalStatus.values();
+
+    private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final RoutineRepository routineRepository;
+    private final RoutineCompletionRepository completionRepository;
+
+    // 재집계 시 통째로 교체 (교체 도중의 증감은 다음 대조에서 보정)
+    private volatile Counters counters;
+
+    /**
+     * 요약 조회
+     * @param hours 만료 임박 기준 시간
+     */
+    public DashboardSummary getSummary(int hours) {
+        Counters current = current();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<GoalStatus, Long> byStatus = new EnumMap<>(GoalStatus.class);
+        Map<GoalType, Long> byType = new EnumMap<>(GoalType.class);
+        long total = 0;
+        for (GoalType type : TYPES) {
+            for (GoalStatus status : STATUSES) {
+                long count = current.goal(type, status).sum();
+                byStatus.merge(status, count, Long::sum);
+                byType.merge(type, count, Long::sum);
+                total += count;
+            }
+        }
+
+        LocalDate today = now.toLocalDate();
+        Set<Long> completedToday = current.completedOn(today);
+        long completedActive = current.activeRoutineIds.stream().filter(completedToday::contains).count();
+
+        return DashboardSummary.builder()
+                .goalsByStatus(byStatus)
+                .goalsByType(byType)
+                .totalGoals(total)
+                .overdueGoals(sum(current.openDueDates.headMap(now, false)))
+                .expiringSoonGoals(sum(current.openDueDates.subMap(now, false, now.plusHours(hours), true)))
+                .expiringSoonHours(hours)
+                .activeRoutines(current.activeRoutineIds.size())
+                .completedRoutinesToday(completedActive)
+                .reconciledAt(current.reconciledAt)
+                .build();
+    }
+
+    /**
+     * 메모리에 유지 중인 마감 시각 수 (완료/만료된 마감 시각이 남지 않는지 확인용)
+     */
+    int trackedDueDates() {
+        return current().openDueDates.size();
+    }
+
+    // ===== 목표 변경 반영 =====
+
+    public void goalCreated(Goal goal) {
+        goalChanged(null, goal);
+    }
+
+    public void goalChanged(GoalSnapshot before, Goal after) {
+        GoalSnapshot snapshot = GoalSnapshot.of(after);
+        afterCommit(() -> {
+            Counters current = current();
+            apply(current, before, -1);
+            apply(current, snapshot, 1);
+        });
+    }
+
+    public void goalsDeleted(Collection<GoalSnapshot> states) {
+        afterCommit(() -> states.forEach(state -> apply(current(), state, -1)));
+    }
+
+    /**
+     * 만료 작업 청크 반영
+     * @param rows [id, type, dueDate] (진행중 미완료였던 목표)
+     */
+    public void goalsExpired(List<Object[]> rows) {
+        afterCommit(() -> {
+            Counters current = current();
+            for (Object[] row : rows) {
+                GoalType type = (GoalType) row[1];
+                current.goal(type, GoalStatus.ACTIVE).decrement();
+                current.goal(type, GoalStatus.EXPIRED).increment();
+                current.openDueDates.computeIfPresent((LocalDateTime) row[2], (dueDate, count) -> plus(count, -1));
+            }
+        });
+    }
+
+    // ===== 루틴 변경 반영 =====
+
+    public void routineSaved(Routine routine) {
+        Long id = routine.getId();
+        boolean active = routine.isActive();
+        afterCommit(() -> {
+            if (active) {
+                current().activeRoutineIds.add(id);
+            } else {
+                current().activeRoutineIds.remove(id);
+            }
+        });
+    }
+
+    public void routineDeleted(Long routineId) {
+        afterCommit(() -> {
+            Counters current = current();
+            current.activeRoutineIds.remove(routineId);
+            current.completedOn(LocalDate.now()).remove(routineId);
+        });
+    }
+
+    public void routineCompleted(Long routineId, LocalDate date) {
+        afterCommit(() -> current().completedOn(date).add(routineId));
+    }
+
+    public void routineUncompleted(Long routineId, LocalDate date) {
+        afterCommit(() -> current().completedOn(date).remove(routineId));
+    }
+
+    // ===== 대조 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        refresh();
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.DASHBOARD_RECONCILE;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return reconcile(progress);
+    }
+
+    /**
+     * DB 집계로 카운터 재구성 (주기 작업)
+     * @return 보정된 목표 수 (기존 카운터와의 차이 합)
+     */
+    public long reconcile(JobProgress progress) {
+        long drift = refresh();
+        progress.setMessage("drift=" + drift);
+        return drift;
+    }
+
+    /**
+     * DB 집계로 카운터 재구성 (트랜잭션 안이면 커밋 후)
+     */
+    public void refreshAfterCommit() {
+        afterCommit(this::refresh);
+    }
+
+    synchronized long refresh() {
+        Counters rebuilt = new Counters(LocalDate.now());
+        for (Object[] row : goalRepository.countByTypeAndStatus()) {
+            rebuilt.goal((GoalType) row[0], (GoalStatus) row[1]).add((Long) row[2]);
+        }
+        for (Object[] row : archivedGoalRepository.countByTypeAndStatus()) {
+            rebuilt.goal((GoalType) row[0], (GoalStatus) row[1]).add((Long) row[2]);
+        }
+        for (Object[] row : goalRepository.countOpenByDueDate()) {
+            rebuilt.openDueDates.merge((LocalDateTime) row[0], (Long) row[1], DashboardService::plus);
+        }
+        List<Long> activeIds = routineRepository.findActiveIds();
+        rebuilt.activeRoutineIds.addAll(activeIds);
+        if (!activeIds.isEmpty()) {
+            LocalDate today = rebuilt.completionDay;
+            rebuilt.completedRoutineIds.addAll(completionRepository.findCompletedRoutineIds(activeIds,
+                    today.atStartOfDay(), RoutineFrequency.DAILY.nextPeriodStart(today).atStartOfDay()));
+        }
+
+        Counters previous = counters;
+        long drift = 0;
+        if (previous != null) {
+            for (int i = 0; i < rebuilt.goals.length; i++) {
+                drift += Math.abs(rebuilt.goals[i].sum() - previous.goals[i].sum());
+            }
+        }
+        counters = rebuilt;
+        if (drift > 0) {
+            log.warn("📊 Dashboard counters reconciled with drift {}", drift);
+        }
+        return drift;
+    }
+
+    private Counters current() {
+        Counters current = counters;
+        return current != null ? current : seed();
+    }
+
+    private synchronized Counters seed() {
+        if (counters == null) {
+            refresh();
+        }
+        return counters;
+    }
+
+    private static void apply(Counters counters, GoalSnapshot state, int delta) {
+        if (state == null) {
+            return;
+        }
+        counters.goal(state.getType(), state.getStatus()).add(delta);
+        LocalDateTime dueDate = state.getOpenDueDate();
+        if (dueDate == null) {
+            return;
+        }
+        if (delta > 0) {
+            counters.openDueDates.merge(dueDate, (long) delta, DashboardService::plus);
+        } else {
+            // 없는 마감 시각을 빼면 음수 항목이 생기므로 있는 항목만 차감
+            counters.openDueDates.computeIfPresent(dueDate, (key, count) -> plus(count, delta));
+        }
+    }
+
+    /**
+     * 마감 시각별 수 증감 (0이 되면 null을 돌려 항목을 지움)
+     */
+    private static Long plus(Long count, long delta) {
+        long updated = count + delta;
+        return updated != 0 ? updated : null;
+    }
+
+    private static long sum(ConcurrentNavigableMap<LocalDateTime, Long> range) {
+        long total = 0;
+        for (long count : range.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 롤백된 변경이 카운터에 남지 않도록 커밋 후 반영
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Counters {
+        final LongAdder[] goals = new LongAdder[TYPES.length * STATUSES.length];
+        // 마감 시각별 미완료 목표 수 (0이 된 항목은 지워 지난 마감 시각이 쌓이지 않도록)
+        final ConcurrentNavigableMap<LocalDateTime, Long> openDueDates = new ConcurrentSkipListMap<>();
+        final Set<Long> activeRoutineIds = ConcurrentHashMap.newKeySet();
+        final LocalDateTime reconciledAt = LocalDateTime.now();
+        volatile LocalDate completionDay;
+        volatile Set<Long> completedRoutineIds = ConcurrentHashMap.newKeySet();
+
+        Counters(LocalDate today) {
+            for (int i = 0; i < goals.length; i++) {
+                goals[i] = new LongAdder();
+            }
+            this.completionDay = today;
+        }
+
+        LongAdder goal(GoalType type, GoalStatus status) {
+            return goals[type.ordinal() * STATUSES.length + status.ordinal()];
+        }
+
+        /**
+         * 해당 날짜에 완료한 루틴 ID (오늘이 아닌 날짜는 버리는 집합, 날짜가 바뀌면 비움)
+         */
+        Set<Long> completedOn(LocalDate date) {
+            LocalDate today = LocalDate.now();
+            if (!date.equals(today)) {
+                return ConcurrentHashMap.newKeySet();
+            }
+            if (!today.equals(completionDay)) {
+                synchronized (this) {
+                    if (!today.equals(completionDay)) {
+                        completedRoutineIds = ConcurrentHashMap.newKeySet();
+                        completionDay = today;
+                    }
+                }
+            }
+            return completedRoutineIds;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 홈 화면 요약 (메모리 카운터 기준)
+ */
+@Value
+@Builder
+public class DashboardSummary {
+    Map<GoalStatus, Long> goalsByStatus;
+    Map<GoalType, Long> goalsByType;
+    long totalGoals;
+    long overdueGoals;
+    long expiringSoonGoals;
+    int expiringSoonHours;
+    long activeRoutines;
+    long completedRoutinesToday;
+    LocalDateTime reconciledAt;
+
+    /**
+     * 오늘 루틴 완료율 (%)
+     */
+    public double getRoutineCompletionRate() {
+        return activeRoutines == 0 ? 0.0 : (double) completedRoutinesToday / activeRoutines * 100;
+    }
+}
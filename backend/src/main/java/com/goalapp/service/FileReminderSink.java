@@ -0,0 +1,48 @@
+package com.goalapp.service;
+
+import com.goalapp.config.ReminderProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 알림을 로컬 파일에 한 줄씩 추가하는 발송 채널 (테스트/로컬 확인용)
+ * 형식: scheduledAt \t goalId \t type \t dueDate \t title
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.sink", havingValue = "file")
+public class FileReminderSink implements ReminderSink {
+
+    private final Path path;
+
+    public FileReminderSink(ReminderProperties properties) {
+        this.path = Path.of(properties.getFilePath());
+    }
+
+    @Override
+    public synchronized void send(List<ReminderMessage> reminders) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ReminderMessage reminder : reminders) {
+                    writer.write(reminder.getScheduledAt() + "\t" + reminder.getGoalId() + "\t"
+                            + reminder.getType() + "\t" + reminder.getDueDate() + "\t" + reminder.getTitle());
+                    writer.write(System.lineSeparator());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 파일 기록 실패: " + path, e);
+        }
+    }
+}
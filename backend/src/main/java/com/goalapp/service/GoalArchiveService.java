@@ -0,0 +1,222 @@
+package com.goalapp.service;
+
+import com.goalapp.dto.request.ArchivedGoalCursor;
+import com.goalapp.entity.ArchivedGoal;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.JobType;
+import com.goalapp.exception.GoalNotFoundException;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관 목표 콜드 테이블 관리
+ * - 보관(ARCHIVED) 목표를 하위 트리째 goals에서 goals_archive로 옮겨 활성 테이블과 인덱스를 작게 유지
+ * - 이동은 청크마다 INSERT ... SELECT 후 DELETE를 같은 트랜잭션으로 커밋 (한 목표는 항상 한 테이블에만 존재)
+ * - 아직 옮겨지지 않은 보관 목표는 goals에서, 옮겨진 목표는 goals_archive에서 함께 조회하고 복원한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GoalArchiveService implements Job {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // goals와 goals_archive의 공통 컬럼
+    private static final String COLUMNS = "id, title, description, type, status, parent_goal_id, created_at, " +
+            "updated_at, due_date, completed_at, expired_at, is_completed, priority, reminder_enabled, reminder_frequency, " +
+            "next_reminder_at, reminder_attempts, progress_target, progress_current";
+
+    private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardService dashboardService;
+    private final DailyStatsService dailyStatsService;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 보관된 목표 조회 (이동 전 목표 + 콜드 테이블의 최상위 목표)
+     */
+    @Transactional(readOnly = true)
+    public List<Goal> getArchivedGoals() {
+        List<Goal> goals = new ArrayList<>(goalRepository.findByStatus(GoalStatus.ARCHIVED));
+        archivedGoalRepository.findArchivedRoots().stream()
+                .map(ArchivedGoal::toGoal)
+                .forEach(goals::add);
+        return goals;
+    }
+
+    /**
+     * 보관된 목표 페이지 조회 (최근 보관 순, 커서 기반)
+     * 아직 옮겨지지 않은 보관 목표(이동 작업이 매일 비움)는 첫 페이지 앞에 모두 붙이고, 커서는 콜드 테이블에만 적용한다.
+     * @param cursor 이전 페이지 마지막 목표 (null이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public ArchivedGoalPage getArchivedGoalPage(ArchivedGoalCursor cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        PageRequest pageable = PageRequest.of(0, size + 1);
+        List<Goal> goals = new ArrayList<>();
+        List<ArchivedGoal> cold;
+        if (cursor == null) {
+            goals.addAll(goalRepository.findByStatus(GoalStatus.ARCHIVED));
+            cold = archivedGoalRepository.findArchivedRootsFirstPage(pageable);
+        } else {
+            cold = archivedGoalRepository.findArchivedRootsBefore(cursor.getArchivedAt(), cursor.getId(), pageable);
+        }
+
+        boolean hasNext = cold.size() > size;
+        List<ArchivedGoal> page = hasNext ? cold.subList(0, size) : cold;
+        page.stream().map(ArchivedGoal::toGoal).forEach(goals::add);
+        ArchivedGoalCursor nextCursor = null;
+        if (hasNext) {
+            ArchivedGoal last = page.get(page.size() - 1);
+            nextCursor = new ArchivedGoalCursor(last.getArchivedAt(), last.getId());
+        }
+        return new ArchivedGoalPage(goals, nextCursor);
+    }
+
+    /**
+     * 보관된 목표 복원
+     * 콜드 테이블에 있으면 하위 트리째 goals로 되돌린 뒤 완료 여부에 따라 완료/진행중 상태로 복귀한다.
+     * 상위 목표가 더 이상 goals에 없으면 최상위 목표로 복원한다.
+     */
+    @Transactional
+    public Goal restore(Long goalId) {
+        Optional<Goal> hot = goalRepository.findById(goalId);
+        if (hot.isPresent()) {
+            return restoreStatus(hot.get());
+        }
+
+        ArchivedGoal archived = archivedGoalRepository.findById(goalId)
+                .orElseThrow(() -> new GoalNotFoundException("Goal not found with id: " + goalId));
+        if (archived.getStatus() != GoalStatus.ARCHIVED) {
+            throw new IllegalStateException("보관된 목표가 아닙니다: " + goalId);
+        }
+        if (archived.getParentGoalId() != null && !goalRepository.existsById(archived.getParentGoalId())) {
+            namedJdbcTemplate.update("UPDATE goals_archive SET parent_goal_id = NULL WHERE id = :id",
+                    new MapSqlParameterSource("id", goalId));
+        }
+
+        // 상위 목표부터 삽입하고 콜드 테이블에서 제거
+        List<List<Long>> levels = collectLevels("goals_archive", List.of(goalId));
+        for (List<Long> level : levels) {
+            namedJdbcTemplate.update("INSERT INTO goals (" + COLUMNS + ") SELECT " + COLUMNS +
+                    " FROM goals_archive WHERE id IN (:ids)", new MapSqlParameterSource("ids", level));
+        }
+        for (List<Long> level : levels) {
+            namedJdbcTemplate.update("DELETE FROM goals_archive WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", level));
+        }
+
+        Goal goal = goalRepository.findById(goalId)
+                .orElseThrow(() -> new GoalNotFoundException("Goal not found with id: " + goalId));
+        log.info("📦 Restored {} goals from archive (root: {})", levels.stream().mapToInt(List::size).sum(), goalId);
+        Goal restored = restoreStatus(goal);
+        // 하위 목표의 마감일이 다시 진행중 목록에 들어오므로 재집계
+        dashboardService.refreshAfterCommit();
+        return restored;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.GOAL_ARCHIVE_MOVE;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return moveArchived(progress);
+    }
+
+    /**
+     * 보관 목표를 콜드 테이블로 이동
+     * 상위 목표가 보관 상태가 아닌 보관 목표를 기준으로 하위 트리 전체를 함께 옮긴다.
+     * @return 이동된 목표 수 (하위 목표 포함)
+     */
+    public long moveArchived(JobProgress progress) {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> moveChunk(now));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            progress.chunkCompleted(moved);
+        }
+
+        if (total > 0) {
+            dashboardService.refreshAfterCommit();
+        }
+        progress.setMessage("moved=" + total);
+        log.info("📦 Moved {} archived goals to goals_archive", total);
+        return total;
+    }
+
+    private int moveChunk(LocalDateTime now) {
+        List<Long> rootIds = goalRepository.findArchivedRootIds(PageRequest.of(0, chunkSize));
+        if (rootIds.isEmpty()) {
+            return 0;
+        }
+
+        List<List<Long>> levels = collectLevels("goals", rootIds);
+        List<Long> ids = levels.stream().flatMap(List::stream).toList();
+        namedJdbcTemplate.update("INSERT INTO goals_archive (" + COLUMNS + ", archived_at) SELECT " + COLUMNS +
+                        ", :archivedAt FROM goals WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids).addValue("archivedAt", Timestamp.valueOf(now)));
+
+        // 상위 목표 외래 키 때문에 가장 깊은 단계부터 삭제
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            namedJdbcTemplate.update("DELETE FROM goals WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", levels.get(i)));
+        }
+        return ids.size();
+    }
+
+    /**
+     * 트리를 단계별 ID 목록으로 수집 (첫 단계는 rootIds)
+     */
+    private List<List<Long>> collectLevels(String table, List<Long> rootIds) {
+        List<List<Long>> levels = new ArrayList<>();
+        List<Long> level = rootIds;
+        while (!level.isEmpty()) {
+            levels.add(level);
+            level = namedJdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE parent_goal_id IN (:ids)",
+                    new MapSqlParameterSource("ids", level), Long.class);
+        }
+        return levels;
+    }
+
+    private Goal restoreStatus(Goal goal) {
+        if (goal.getStatus() != GoalStatus.ARCHIVED) {
+            throw new IllegalStateException("보관된 목표가 아닙니다: " + goal.getId());
+        }
+        GoalSnapshot before = GoalSnapshot.of(goal);
+        goal.restore();
+        Goal savedGoal = goalRepository.save(goal);
+        dashboardService.goalChanged(before, savedGoal);
+        dailyStatsService.goalChanged(before, savedGoal);
+        log.info("Goal restored: {}", savedGoal.getTitle());
+        return savedGoal;
+    }
+}
@@ -1,84 +1,102 @@
 package com.goalapp.service;
 
 import com.goalapp.entity.Goal;
+import com.goalapp.entity.JobType;
+import com.goalapp.repository.ArchivedGoalRepository;
 import com.goalapp.repository.GoalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
- * 목표 만료 처리 스케줄러 서비스
- * - 매 시간 만료된 목표를 자동으로 감지하고 상태 변경
- * - EXPIRED 상태인 목표를 24시간 후 자동으로 보관(ARCHIVED)
+ * 목표 만료 처리 작업 서비스
+ * - 마감일이 지난 목표를 감지하고 EXPIRED로 상태 변경
+ * - 만료 시각(expired_at)을 함께 기록해 이후 보관/콜드 이동되어도 통계와 회고 리포트가 만료로 집계
+ * - 만료 이후의 보관/압축/삭제는 RetentionService의 보존 정책이 담당
+ *
+ * 스케줄 실행과 수동 실행은 모두 JobService를 통해 이루어지며,
+ * 각 작업은 청크 단위 트랜잭션으로 처리되어 연결을 오래 점유하지 않는다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GoalExpirationService {
+public class GoalExpirationService implements Job {
 
     private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardService dashboardService;
+    private final DailyStatsService dailyStatsService;
+    private final ReviewReportService reviewReportService;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    @Override
+    public JobType getType() {
+        return JobType.GOAL_EXPIRE;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return expireGoals(progress);
+    }
 
     /**
-     * 만료된 목표 자동 감지 및 상태 변경
-     * 매 시간 정각에 실행 (00:00, 01:00, 02:00, ...)
+     * 만료된 목표 감지 및 상태 변경
+     * @return 처리된 목표 수
      */
-    @Scheduled(cron = "0 0 * * * *")
-    @Transactional
-    public void checkAndExpireGoals() {
-        log.info("⏰ Starting scheduled task: checkAndExpireGoals");
-
+    public long expireGoals(JobProgress progress) {
         LocalDateTime now = LocalDateTime.now();
-        List<Goal> expiredGoals = goalRepository.findExpiredGoals(now);
-
-        if (expiredGoals.isEmpty()) {
-            log.info("✅ No expired goals found");
-            return;
+        long total = 0;
+
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<Object[]> rows = goalRepository.findExpiredGoalRows(now, PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                int expired = goalRepository.markGoalsExpired(rows.stream().map(row -> (Long) row[0]).toList(), now);
+                dashboardService.goalsExpired(rows);
+                dailyStatsService.goalsExpired(rows);
+                // 늦게 돈 작업이 이미 만든 리포트의 기간에 만료를 더한 경우
+                reviewReportService.goalsExpired(rows);
+                return expired;
+            });
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+            progress.chunkCompleted(updated);
         }
 
-        // 만료된 목표들의 상태를 EXPIRED로 변경
-        expiredGoals.forEach(goal -> {
-            goal.markAsExpired();
-            log.info("⚠️ Goal expired: '{}' (ID: {}, Due: {})",
-                    goal.getTitle(), goal.getId(), goal.getDueDate());
-        });
-
-        goalRepository.saveAll(expiredGoals);
-        log.info("✅ Expired {} goals successfully", expiredGoals.size());
+        log.info("✅ Expired {} goals", total);
+        return total;
     }
 
     /**
-     * EXPIRED 상태인 목표를 자동으로 보관 처리
-     * 매일 새벽 2시에 실행 (서버 부하가 적은 시간대)
-     * EXPIRED 상태가 된 지 24시간이 지난 목표를 ARCHIVED로 전환
+     * expired_at 컬럼 추가 이전에 만료된 목표는 마지막 수정 시각을 만료 시각으로 채움
+     * (이미 보관 상태가 된 목표는 만료 여부를 알 수 없으므로 제외)
+     * 일별 통계 초기 채우기가 expired_at으로 만료 수를 세므로 다른 부팅 작업보다 먼저 실행
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    @Transactional
-    public void archiveExpiredGoals() {
-        log.info("📦 Starting scheduled task: archiveExpiredGoals");
-
-        // 24시간 전 시간 계산
-        LocalDateTime archiveThreshold = LocalDateTime.now().minusHours(24);
-        List<Goal> goalsToArchive = goalRepository.findExpiredGoalsForArchiving(archiveThreshold);
-
-        if (goalsToArchive.isEmpty()) {
-            log.info("✅ No goals to archive");
-            return;
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillExpiredAt() {
+        Integer filled = transactionTemplate.execute(status ->
+                goalRepository.backfillExpiredAt() + archivedGoalRepository.backfillExpiredAt());
+        if (filled != null && filled > 0) {
+            log.info("⏰ Backfilled expired_at for {} expired goals", filled);
         }
-
-        // 보관 처리
-        goalsToArchive.forEach(goal -> {
-            goal.archive();
-            log.info("📦 Goal archived: '{}' (ID: {}, Expired at: {})",
-                    goal.getTitle(), goal.getId(), goal.getUpdatedAt());
-        });
-
-        goalRepository.saveAll(goalsToArchive);
-        log.info("✅ Archived {} expired goals successfully", goalsToArchive.size());
     }
 
     /**
@@ -95,86 +113,4 @@ public class GoalExpirationService {
 
         return expiringSoon;
     }
-
-    /**
-     * 수동으로 만료된 목표 감지 및 처리 (테스트/관리자용)
-     * @return 처리된 목표 수
-     */
-    @Transactional
-    public int manualExpireCheck() {
-        log.info("🔧 Manual expiration check triggered");
-
-        LocalDateTime now = LocalDateTime.now();
-        List<Goal> expiredGoals = goalRepository.findExpiredGoals(now);
-
-        expiredGoals.forEach(Goal::markAsExpired);
-        goalRepository.saveAll(expiredGoals);
-
-        log.info("✅ Manually expired {} goals", expiredGoals.size());
-        return expiredGoals.size();
-    }
-
-    /**
-     * 수동으로 보관 처리 (테스트/관리자용)
-     * @return 처리된 목표 수
-     */
-    @Transactional
-    public int manualArchiveCheck() {
-        log.info("🔧 Manual archive check triggered");
-
-        LocalDateTime archiveThreshold = LocalDateTime.now().minusHours(24);
-        List<Goal> goalsToArchive = goalRepository.findExpiredGoalsForArchiving(archiveThreshold);
-
-        goalsToArchive.forEach(Goal::archive);
-        goalRepository.saveAll(goalsToArchive);
-
-        log.info("✅ Manually archived {} goals", goalsToArchive.size());
-        return goalsToArchive.size();
-    }
-
-    /**
-     * 완료된 목표 자동 삭제
-     * 매일 새벽 3시에 실행
-     * 완료된 지 24시간이 지난 목표를 자동으로 삭제
-     */
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
-    public void deleteOldCompletedGoals() {
-        log.info("🗑️ Starting scheduled task: deleteOldCompletedGoals");
-
-        // 24시간 전 시간 계산
-        LocalDateTime deleteThreshold = LocalDateTime.now().minusHours(24);
-        List<Goal> goalsToDelete = goalRepository.findOldCompletedGoals(deleteThreshold);
-
-        if (goalsToDelete.isEmpty()) {
-            log.info("✅ No old completed goals to delete");
-            return;
-        }
-
-        // 삭제 처리
-        goalsToDelete.forEach(goal -> {
-            log.info("🗑️ Deleting completed goal: '{}' (ID: {}, Completed at: {})",
-                    goal.getTitle(), goal.getId(), goal.getCompletedAt());
-        });
-
-        goalRepository.deleteAll(goalsToDelete);
-        log.info("✅ Deleted {} old completed goals successfully", goalsToDelete.size());
-    }
-
-    /**
-     * 수동으로 완료된 목표 삭제 (테스트/관리자용)
-     * @return 삭제된 목표 수
-     */
-    @Transactional
-    public int manualDeleteCompletedGoals() {
-        log.info("🔧 Manual delete completed goals triggered");
-
-        LocalDateTime deleteThreshold = LocalDateTime.now().minusHours(24);
-        List<Goal> goalsToDelete = goalRepository.findOldCompletedGoals(deleteThreshold);
-
-        goalRepository.deleteAll(goalsToDelete);
-
-        log.info("✅ Manually deleted {} completed goals", goalsToDelete.size());
-        return goalsToDelete.size();
-    }
 }
@@ -0,0 +1,144 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.GoalProgressSnapshot;
+import com.goalapp.entity.JobType;
+import com.goalapp.exception.GoalNotFoundException;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalProgressSnapshotRepository;
+import com.goalapp.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목표 진행률 스냅샷 (번업 차트)
+ * - 야간 작업이 하위 목표가 있는 목표와 루틴 연결 목표의 현재 진행을 집계 쿼리로 구해,
+ *   마지막 스냅샷과 달라진 목표만 한 번의 배치 INSERT로 저장 (같은 날 다시 실행하면 그날 행을 갱신)
+ * - 조회는 저장된 변경 시점만 읽고 기간 시작 시점의 값을 앞에 붙인다 (이력을 다시 계산하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GoalProgressSnapshotService implements Job {
+
+    private static final String INSERT =
+            "INSERT INTO goal_progress_snapshots (goal_id, snapshot_date, done_count, total_count) " +
+            "VALUES (:goalId, :date, :done, :total)";
+
+    private static final String UPDATE =
+            "UPDATE goal_progress_snapshots SET done_count = :done, total_count = :total " +
+            "WHERE goal_id = :goalId AND snapshot_date = :date";
+
+    private final GoalProgressSnapshotRepository snapshotRepository;
+    private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 목표의 기간 [from, to] 진행률 변화 (첫 행은 from 시점의 값, 이후 행은 값이 바뀐 날)
+     */
+    public List<GoalProgressSnapshot> getSeries(Long goalId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+        if (!goalRepository.existsById(goalId) && !archivedGoalRepository.existsById(goalId)) {
+            throw new GoalNotFoundException("Goal not found with id: " + goalId);
+        }
+
+        List<GoalProgressSnapshot> series = new ArrayList<>();
+        snapshotRepository.findFirstByGoalIdAndDateBeforeOrderByDateDesc(goalId, from)
+                .ifPresent(previous -> series.add(GoalProgressSnapshot.builder()
+                        .goalId(goalId)
+                        .date(from)
+                        .doneCount(previous.getDoneCount())
+                        .totalCount(previous.getTotalCount())
+                        .build()));
+        series.addAll(snapshotRepository.findByGoalIdAndDateBetweenOrderByDate(goalId, from, to));
+        return series;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.GOAL_PROGRESS_SNAPSHOT;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return snapshot(progress);
+    }
+
+    /**
+     * 오늘 진행률 스냅샷 저장 (바뀐 목표만)
+     * @return 저장된 스냅샷 수
+     */
+    public long snapshot(JobProgress progress) {
+        LocalDate today = LocalDate.now();
+        Integer written = transactionTemplate.execute(status -> {
+            Map<Long, Object[]> latest = new HashMap<>();
+            for (Object[] row : snapshotRepository.findLatestRows()) {
+                latest.put((Long) row[0], row);
+            }
+
+            List<MapSqlParameterSource> inserts = new ArrayList<>();
+            List<MapSqlParameterSource> updates = new ArrayList<>();
+            currentProgress().forEach((goalId, counts) -> {
+                Object[] last = latest.get(goalId);
+                if (last != null && (Integer) last[2] == counts[0] && (Integer) last[3] == counts[1]) {
+                    return;
+                }
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("goalId", goalId)
+                        .addValue("date", Date.valueOf(today))
+                        .addValue("done", counts[0])
+                        .addValue("total", counts[1]);
+                (last != null && today.equals(last[1]) ? updates : inserts).add(params);
+            });
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, inserts.toArray(MapSqlParameterSource[]::new));
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE, updates.toArray(MapSqlParameterSource[]::new));
+            }
+
+            // 삭제된 목표의 스냅샷 정리 (콜드 보관 목표는 유지)
+            jdbcTemplate.update("DELETE FROM goal_progress_snapshots WHERE goal_id NOT IN (SELECT id FROM goals) " +
+                    "AND goal_id NOT IN (SELECT id FROM goals_archive)", new MapSqlParameterSource());
+            return inserts.size() + updates.size();
+        });
+
+        int total = written != null ? written : 0;
+        progress.chunkCompleted(total);
+        progress.setMessage("date=" + today);
+        log.info("📊 Saved {} goal progress snapshots for {}", total, today);
+        return total;
+    }
+
+    /**
+     * 목표별 현재 [완료 수, 전체 수] (하위 목표 기준이 루틴 목표 횟수보다 우선, Goal.getProgressPercentage와 같음)
+     */
+    private Map<Long, int[]> currentProgress() {
+        Map<Long, int[]> progress = new LinkedHashMap<>();
+        for (Object[] row : goalRepository.findProgressTargetRows()) {
+            int current = ((Number) row[1]).intValue();
+            int target = ((Number) row[2]).intValue();
+            boolean completed = (Boolean) row[3];
+            progress.put((Long) row[0], new int[] {completed ? target : Math.min(current, target), target});
+        }
+        for (Object[] row : goalRepository.countSubGoalProgress()) {
+            progress.put((Long) row[0], new int[] {((Number) row[2]).intValue(), ((Number) row[1]).intValue()});
+        }
+        return progress;
+    }
+}
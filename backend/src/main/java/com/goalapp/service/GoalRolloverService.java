@@ -0,0 +1,168 @@
+package com.goalapp.service;
+
+import com.goalapp.config.RolloverProperties;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.RolloverMode;
+import com.goalapp.repository.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기간 경계 이월 작업 서비스
+ * - 매일 자정 직후 실행되어, 끝난 기간(일/주/월/년)에 마감된 미완료 목표를 처리
+ * - CARRY_FORWARD: 마감일을 한 기간 뒤로 이동하고 ACTIVE로 복귀
+ * - CLONE: 같은 상위 목표 아래 다음 기간 목표로 복제
+ * - 기간 하나당 UPDATE 또는 INSERT ... SELECT 한 문장으로 처리 (행 단위 로드 없음)
+ * - 타입별로 마지막 처리한 기간 경계를 워터마크로 저장하여 중복 이월 방지 및 다운타임 보충
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GoalRolloverService implements Job {
+
+    private static final String UNFINISHED_IN_PERIOD =
+            "type = :type AND is_completed = FALSE AND status IN ('ACTIVE', 'EXPIRED') " +
+            "AND due_date >= :periodStart AND due_date < :periodEnd";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final RolloverProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardService dashboardService;
+    private final DailyStatsService dailyStatsService;
+    private final ReviewReportService reviewReportService;
+
+    @Override
+    public JobType getType() {
+        return JobType.GOAL_ROLLOVER;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return rollover(progress);
+    }
+
+    /**
+     * 끝난 기간의 미완료 목표 이월
+     * @return 이월(이동 또는 복제)된 목표 수
+     */
+    public long rollover(JobProgress progress) {
+        LocalDate today = LocalDate.now();
+        long total = 0;
+
+        for (Map.Entry<GoalType, RolloverMode> entry : properties.getModes().entrySet()) {
+            GoalType type = entry.getKey();
+            RolloverMode mode = entry.getValue();
+            if (mode == RolloverMode.NONE || !type.isPeriodic()) {
+                continue;
+            }
+            total += rolloverType(type, mode, today, progress);
+        }
+        // 이동/복제는 집합 단위로 처리하므로 대시보드 카운터는 다시 집계
+        if (total > 0) {
+            dashboardService.refreshAfterCommit();
+        }
+        return total;
+    }
+
+    private long rolloverType(GoalType type, RolloverMode mode, LocalDate today, JobProgress progress) {
+        String checkpointKey = "rollover:" + type;
+        LocalDate currentStart = type.periodStart(today);
+        LocalDate lastBoundary = checkpointRepository.findById(checkpointKey)
+                .map(checkpoint -> checkpoint.getWatermark().toLocalDate())
+                .orElse(type.plusPeriods(currentStart, -1));
+
+        // 처리할 첫 경계 (보충 처리 기간 수 상한 적용)
+        LocalDate boundary = type.plusPeriods(lastBoundary, 1);
+        LocalDate earliest = type.plusPeriods(currentStart, -(properties.getMaxCatchUpPeriods() - 1));
+        if (boundary.isBefore(earliest)) {
+            boundary = earliest;
+        }
+
+        long total = 0;
+        while (!boundary.isAfter(currentStart)) {
+            LocalDate periodStart = type.plusPeriods(boundary, -1);
+            LocalDate processedBoundary = boundary;
+            Integer rows = transactionTemplate.execute(status -> {
+                int affected = rolloverPeriod(type, mode, periodStart, processedBoundary);
+                JobCheckpoint checkpoint = checkpointRepository.findById(checkpointKey)
+                        .orElseGet(() -> JobCheckpoint.initial(checkpointKey));
+                checkpoint.advance(processedBoundary.atStartOfDay(), 0L);
+                checkpointRepository.save(checkpoint);
+                return affected;
+            });
+            int affected = rows != null ? rows : 0;
+            log.info("🔁 Rollover {} {} for period {} ~ {}: {} goals",
+                    type, mode, periodStart, processedBoundary, affected);
+            progress.chunkCompleted(affected);
+            total += affected;
+            boundary = type.plusPeriods(boundary, 1);
+        }
+        return total;
+    }
+
+    private int rolloverPeriod(GoalType type, RolloverMode mode, LocalDate periodStart, LocalDate periodEnd) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("type", type.name())
+                .addValue("periodStart", Timestamp.valueOf(periodStart.atStartOfDay()))
+                .addValue("periodEnd", Timestamp.valueOf(periodEnd.atStartOfDay()))
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        String interval = intervalOf(type);
+
+        return switch (mode) {
+            case CARRY_FORWARD -> {
+                // 다시 진행중이 되는 만료 목표는 일별 통계의 만료 수에서 제외 (마감일별)
+                Map<LocalDate, Long> revived = new HashMap<>();
+                jdbcTemplate.query("SELECT CAST(due_date AS DATE) AS due_day, COUNT(*) AS cnt FROM goals " +
+                        "WHERE " + UNFINISHED_IN_PERIOD + " AND expired_at IS NOT NULL GROUP BY CAST(due_date AS DATE)",
+                        params, rs -> {
+                            revived.put(rs.getDate("due_day").toLocalDate(), rs.getLong("cnt"));
+                        });
+                int moved = jdbcTemplate.update(
+                        "UPDATE goals SET due_date = due_date + " + interval + ", status = 'ACTIVE', expired_at = NULL, updated_at = :now " +
+                        "WHERE " + UNFINISHED_IN_PERIOD, params);
+                dailyStatsService.goalsRolledOver(type, 0, revived);
+                reviewReportService.invalidate(revived.keySet());
+                yield moved;
+            }
+            case CLONE -> cloneUnfinished(type, params, interval);
+            case NONE -> 0;
+        };
+    }
+
+    private int cloneUnfinished(GoalType type, MapSqlParameterSource params, String interval) {
+        int cloned = jdbcTemplate.update(
+                    "INSERT INTO goals (title, description, type, status, parent_goal_id, created_at, updated_at, " +
+                    "due_date, is_completed, priority, reminder_enabled, reminder_frequency, reminder_attempts) " +
+                    "SELECT title, description, type, 'ACTIVE', parent_goal_id, :now, :now, " +
+                    "due_date + " + interval + ", FALSE, priority, reminder_enabled, reminder_frequency, 0 " +
+                    "FROM goals WHERE " + UNFINISHED_IN_PERIOD, params);
+        dailyStatsService.goalsRolledOver(type, cloned, Map.of());
+        return cloned;
+    }
+
+    /**
+     * 한 기간 길이의 SQL 표준 interval 리터럴 (H2, PostgreSQL 공통)
+     */
+    static String intervalOf(GoalType type) {
+        return switch (type) {
+            case YEARLY -> "INTERVAL '1' YEAR";
+            case MONTHLY -> "INTERVAL '1' MONTH";
+            case WEEKLY -> "INTERVAL '7' DAY";
+            case DAILY -> "INTERVAL '1' DAY";
+            case LIFETIME, LIFETIME_SUB -> throw new IllegalStateException("Lifetime goals have no period: " + type);
+        };
+    }
+}
@@ -1,9 +1,12 @@
 package com.goalapp.service;
 
+import com.goalapp.dto.request.ArchivedGoalCursor;
 import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalProgressSnapshot;
 import com.goalapp.entity.GoalStatus;
 import com.goalapp.entity.GoalType;
 import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.RoutineRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.goalapp.exception.GoalNotFoundException;
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -21,6 +25,13 @@ import java.util.List;
 public class GoalService {
 
     private final GoalRepository goalRepository;
+    private final RoutineRepository routineRepository;
+    private final GoalArchiveService goalArchiveService;
+    private final DashboardService dashboardService;
+    private final DailyStatsService dailyStatsService;
+    private final CompletionSketchService completionSketchService;
+    private final GoalProgressSnapshotService progressSnapshotService;
+    private final ReviewReportService reviewReportService;
 
     /**
      * 모든 목표 조회
@@ -55,6 +66,8 @@ public class GoalService {
         goal.setStatus(GoalStatus.ACTIVE);
         
         Goal savedGoal = goalRepository.save(goal);
+        dashboardService.goalCreated(savedGoal);
+        dailyStatsService.goalCreated(savedGoal);
         log.info("Goal created: {}", savedGoal.getTitle());
         
         return savedGoal;
@@ -66,6 +79,7 @@ public class GoalService {
     @Transactional
     public Goal updateGoal(Long goalId, Goal updatedGoal) {
         Goal existingGoal = getGoalById(goalId);
+        GoalSnapshot before = GoalSnapshot.of(existingGoal);
         
         // 수정 가능한 필드들만 업데이트
         if (updatedGoal.getTitle() != null) {
@@ -80,13 +94,21 @@ public class GoalService {
         if (updatedGoal.getDueDate() != null) {
             existingGoal.setDueDate(updatedGoal.getDueDate());
         }
-        if (updatedGoal.getReminderFrequency() != null) {
+        if (updatedGoal.getReminderFrequency() != null
+                && !updatedGoal.getReminderFrequency().equals(existingGoal.getReminderFrequency())) {
             existingGoal.setReminderFrequency(updatedGoal.getReminderFrequency());
+            // 주기가 바뀌면 알림 스케줄러가 다음 발송 시각을 다시 계산
+            existingGoal.setNextReminderAt(null);
+            existingGoal.setReminderAttempts(0);
         }
         
         existingGoal.setUpdatedAt(LocalDateTime.now());
         
         Goal savedGoal = goalRepository.save(existingGoal);
+        dashboardService.goalChanged(before, savedGoal);
+        dailyStatsService.goalChanged(before, savedGoal);
+        completionSketchService.goalChanged(before, savedGoal);
+        reviewReportService.goalChanged(before, savedGoal);
         log.info("Goal updated: {}", savedGoal.getTitle());
         
         return savedGoal;
@@ -98,7 +120,15 @@ public class GoalService {
     @Transactional
     public void deleteGoal(Long goalId) {
         Goal goal = getGoalById(goalId);
+        // 하위 목표까지 cascade 삭제되므로 하위 목표에 연결된 루틴도 함께 연결 해제
+        List<Goal> subtree = new ArrayList<>();
+        collectGoals(goal, subtree);
+        List<GoalSnapshot> snapshots = subtree.stream().map(GoalSnapshot::of).toList();
+        routineRepository.unlinkGoals(subtree.stream().map(Goal::getId).toList());
         goalRepository.delete(goal);
+        dashboardService.goalsDeleted(snapshots);
+        dailyStatsService.goalsDeleted(snapshots);
+        completionSketchService.goalsDeleted(snapshots);
         log.info("Goal deleted: {}", goal.getTitle());
     }
 
@@ -108,6 +138,7 @@ public class GoalService {
     @Transactional
     public Goal completeGoal(Long goalId) {
         LocalDateTime now = LocalDateTime.now();
+        GoalSnapshot before = captureSnapshot(goalId);
 
         // 직접 UPDATE 쿼리 실행 (하위 목표 로드 없이 빠르게 처리)
         int updatedCount = goalRepository.updateGoalAsCompleted(goalId, now, now);
@@ -120,6 +151,10 @@ public class GoalService {
         Goal completedGoal = goalRepository.findByIdWithoutSubGoals(goalId)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found with id: " + goalId));
 
+        dashboardService.goalChanged(before, completedGoal);
+        dailyStatsService.goalChanged(before, completedGoal);
+        completionSketchService.goalChanged(before, completedGoal);
+        reviewReportService.goalChanged(before, completedGoal);
         log.info("Goal completed (optimized): {}", completedGoal.getTitle());
 
         return completedGoal;
@@ -131,6 +166,7 @@ public class GoalService {
     @Transactional
     public Goal uncompleteGoal(Long goalId) {
         LocalDateTime now = LocalDateTime.now();
+        GoalSnapshot before = captureSnapshot(goalId);
 
         // 직접 UPDATE 쿼리 실행 (하위 목표 로드 없이 빠르게 처리)
         int updatedCount = goalRepository.updateGoalAsIncomplete(goalId, now);
@@ -143,6 +179,10 @@ public class GoalService {
         Goal uncompletedGoal = goalRepository.findByIdWithoutSubGoals(goalId)
                 .orElseThrow(() -> new GoalNotFoundException("Goal not found with id: " + goalId));
 
+        dashboardService.goalChanged(before, uncompletedGoal);
+        dailyStatsService.goalChanged(before, uncompletedGoal);
+        completionSketchService.goalChanged(before, uncompletedGoal);
+        reviewReportService.goalChanged(before, uncompletedGoal);
         log.info("Goal uncompleted (optimized): {}", uncompletedGoal.getTitle());
 
         return uncompletedGoal;
@@ -197,6 +237,13 @@ public class GoalService {
         return goal.getProgressPercentage();
     }
 
+    /**
+     * 목표 진행률 이력 (야간 스냅샷, 값이 바뀐 날만)
+     */
+    public List<GoalProgressSnapshot> getProgressHistory(Long goalId, LocalDate from, LocalDate to) {
+        return progressSnapshotService.getSeries(goalId, from, to);
+    }
+
     /**
      * 특정 목표 타입에서 생성 가능한 하위 타입들 반환
      */
@@ -242,8 +289,12 @@ public class GoalService {
             throw new IllegalStateException("Completed goal cannot be expired");
         }
 
+        GoalSnapshot before = GoalSnapshot.of(goal);
         goal.markAsExpired();
         Goal savedGoal = goalRepository.save(goal);
+        dashboardService.goalChanged(before, savedGoal);
+        dailyStatsService.goalChanged(before, savedGoal);
+        reviewReportService.goalChanged(before, savedGoal);
         log.info("Goal manually expired: {}", savedGoal.getTitle());
 
         return savedGoal;
@@ -266,8 +317,12 @@ public class GoalService {
             throw new IllegalArgumentException("Extension days must be positive");
         }
 
+        GoalSnapshot before = GoalSnapshot.of(goal);
         goal.extendDueDate(days);
         Goal savedGoal = goalRepository.save(goal);
+        dashboardService.goalChanged(before, savedGoal);
+        dailyStatsService.goalChanged(before, savedGoal);
+        reviewReportService.goalChanged(before, savedGoal);
         log.info("Goal due date extended by {} days: {} (New due date: {})",
                 days, savedGoal.getTitle(), savedGoal.getDueDate());
 
@@ -281,17 +336,48 @@ public class GoalService {
     public Goal archiveGoal(Long goalId) {
         Goal goal = getGoalById(goalId);
 
+        GoalSnapshot before = GoalSnapshot.of(goal);
         goal.archive();
         Goal savedGoal = goalRepository.save(goal);
+        dashboardService.goalChanged(before, savedGoal);
+        dailyStatsService.goalChanged(before, savedGoal);
         log.info("Goal archived: {}", savedGoal.getTitle());
 
         return savedGoal;
     }
 
     /**
-     * 보관된 목표들 조회
+     * 보관된 목표들 조회 (콜드 테이블로 옮겨진 목표 포함)
      */
     public List<Goal> getArchivedGoals() {
-        return goalRepository.findByStatus(GoalStatus.ARCHIVED);
+        return goalArchiveService.getArchivedGoals();
+    }
+
+    /**
+     * 보관된 목표 페이지 조회
+     */
+    public ArchivedGoalPage getArchivedGoalPage(ArchivedGoalCursor cursor, int size) {
+        return goalArchiveService.getArchivedGoalPage(cursor, size);
+    }
+
+    /**
+     * 보관된 목표 복원
+     */
+    @Transactional
+    public Goal restoreGoal(Long goalId) {
+        return goalArchiveService.restore(goalId);
+    }
+
+    /**
+     * 일괄 UPDATE 전 상태 (엔티티를 읽지 않고, 없으면 null)
+     */
+    private GoalSnapshot captureSnapshot(Long goalId) {
+        List<Object[]> rows = goalRepository.findSnapshotRows(List.of(goalId));
+        return rows.isEmpty() ? null : GoalSnapshot.of(rows.get(0));
+    }
+
+    private void collectGoals(Goal goal, List<Goal> goals) {
+        goals.add(goal);
+        goal.getSubGoals().forEach(subGoal -> collectGoals(subGoal, goals));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import lombok.Value;
+import lombok.With;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 카운터/롤업 증감 계산용 목표 상태
+ * 변경 전후 스냅샷의 차이만큼 대시보드 카운터와 일별 통계를 갱신한다.
+ */
+@Value
+public class GoalSnapshot {
+    GoalType type;
+    @With
+    GoalStatus status;
+    boolean completed;
+    LocalDateTime dueDate;
+    LocalDateTime createdAt;
+    LocalDateTime completedAt;
+    LocalDateTime updatedAt;
+    LocalDateTime expiredAt;
+
+    public static GoalSnapshot of(Goal goal) {
+        return new GoalSnapshot(goal.getType(), goal.getStatus(), goal.isCompleted(), goal.getDueDate(),
+                goal.getCreatedAt(), goal.getCompletedAt(), goal.getUpdatedAt(), goal.getExpiredAt());
+    }
+
+    /**
+     * GoalRepository.findSnapshotRows 결과 행으로 생성
+     */
+    public static GoalSnapshot of(Object[] row) {
+        return new GoalSnapshot((GoalType) row[0], (GoalStatus) row[1], (Boolean) row[2], (LocalDateTime) row[3],
+                (LocalDateTime) row[4], (LocalDateTime) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7]);
+    }
+
+    /**
+     * 진행중 미완료 목표의 마감일 (그 외 null)
+     */
+    public LocalDateTime getOpenDueDate() {
+        return status == GoalStatus.ACTIVE && !completed ? dueDate : null;
+    }
+
+    /**
+     * 만료로 집계되는 날짜 (마감일, 없으면 만료 시각 / 만료된 적이 없으면 null)
+     * 만료는 지난 사실이므로 이후 보관되어도 그대로 집계한다.
+     */
+    public LocalDate getExpiredDate() {
+        if (expiredAt == null) {
+            return null;
+        }
+        return (dueDate != null ? dueDate : expiredAt).toLocalDate();
+    }
+}
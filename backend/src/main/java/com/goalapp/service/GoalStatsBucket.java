@@ -0,0 +1,31 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.entity.GoalType;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 구간/타입별 목표 생성·완료 수
+ * 완료율은 구간에 생성된 목표 중 (현재까지) 완료된 비율이며, completed는 구간에 완료 처리된 수이다.
+ * 루틴 완료 수는 루틴 주기에 대응하는 타입(DAILY/WEEKLY/MONTHLY)으로 집계된다.
+ */
+@Value
+public class GoalStatsBucket {
+    BucketUnit unit;
+    LocalDate bucketStart;
+    GoalType type;
+    long created;
+    long createdAndCompleted;
+    long completed;
+    long expired;
+    long routineCompletions;
+
+    /**
+     * 완료율 (%)
+     */
+    public double getCompletionRate() {
+        return created == 0 ? 0.0 : (double) createdAndCompleted / created * 100;
+    }
+}
@@ -0,0 +1,62 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.entity.DailyStat;
+import com.goalapp.entity.GoalType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 목표 생성/완료 통계
+ * 원본 테이블 대신 일별/타입별 롤업(daily_stats)을 읽어 주/월 구간으로 합치므로,
+ * 긴 기간도 날짜×타입 수백 행만 읽는다 (콜드 보관 목표와 압축/봉인된 루틴 완료 포함).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GoalStatsService {
+
+    private static final int CREATED = 0;
+    private static final int CREATED_AND_COMPLETED = 1;
+    private static final int COMPLETED = 2;
+    private static final int EXPIRED = 3;
+    private static final int ROUTINE_COMPLETIONS = 4;
+
+    private final DailyStatsService dailyStatsService;
+
+    /**
+     * 기간 [from, to] 의 구간/타입별 생성·완료 수 (값이 있는 구간만, 구간 시작일 → 타입 순)
+     * 양 끝 구간도 가운데 구간과 같이 주/월 전체를 집계한다 (from이 속한 구간 시작 ~ to가 속한 구간 끝).
+     */
+    public List<GoalStatsBucket> getGoalBuckets(BucketUnit unit, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+
+        SortedMap<LocalDate, Map<GoalType, long[]>> buckets = new TreeMap<>();
+        for (DailyStat stat : dailyStatsService.findRange(unit.bucketStart(from), unit.nextBucketStart(to))) {
+            long[] counts = buckets.computeIfAbsent(unit.bucketStart(stat.getDate()), key -> new EnumMap<>(GoalType.class))
+                    .computeIfAbsent(stat.getType(), key -> new long[5]);
+            counts[CREATED] += stat.getCreatedCount();
+            counts[CREATED_AND_COMPLETED] += stat.getCreatedCompletedCount();
+            counts[COMPLETED] += stat.getCompletedCount();
+            counts[EXPIRED] += stat.getExpiredCount();
+            counts[ROUTINE_COMPLETIONS] += stat.getRoutineCompletionCount();
+        }
+
+        List<GoalStatsBucket> result = new ArrayList<>();
+        buckets.forEach((bucketStart, byType) -> byType.forEach((type, counts) -> result.add(new GoalStatsBucket(
+                unit, bucketStart, type, counts[CREATED], counts[CREATED_AND_COMPLETED], counts[COMPLETED],
+                counts[EXPIRED], counts[ROUTINE_COMPLETIONS]))));
+        return result;
+    }
+}
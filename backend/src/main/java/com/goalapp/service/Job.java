@@ -0,0 +1,21 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobType;
+
+/**
+ * 백그라운드 작업
+ * 작업을 수행하는 서비스가 직접 구현하고, JobService는 등록된 빈을 작업 종류별로 모아 실행한다.
+ */
+public interface Job {
+
+    /**
+     * 이 작업의 종류 (작업 종류마다 구현은 하나)
+     */
+    JobType getType();
+
+    /**
+     * 작업 실행 (청크마다 progress 갱신)
+     * @return 처리된 행 수
+     */
+    long run(JobProgress progress);
+}
@@ -0,0 +1,77 @@
+package com.goalapp.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 작업의 진행 상황
+ * 작업 스레드가 청크 단위로 갱신하고 API 스레드가 폴링한다.
+ * 청크 사이 대기 시간이 설정되면 청크 커밋 후 잠시 쉬어 대화형 요청에 DB를 양보한다.
+ */
+public class JobProgress {
+
+    private final Duration chunkPause;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicInteger chunks = new AtomicInteger();
+    private volatile long startedAtNanos;
+    private volatile String message;
+
+    /**
+     * 진행 상황을 추적하지 않는 호출용 (테스트/내부 호출)
+     */
+    public static JobProgress untracked() {
+        return new JobProgress(Duration.ZERO);
+    }
+
+    public JobProgress(Duration chunkPause) {
+        this.chunkPause = chunkPause;
+    }
+
+    void start() {
+        this.startedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * 청크 하나 처리 완료
+     * @param rows 청크에서 처리된 행 수
+     */
+    public void chunkCompleted(int rows) {
+        processed.addAndGet(rows);
+        chunks.incrementAndGet();
+        pauseBetweenChunks();
+    }
+
+    private void pauseBetweenChunks() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("작업이 중단되었습니다", e);
+        }
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public int getChunks() {
+        return chunks.get();
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getElapsedMillis() {
+        return startedAtNanos == 0 ? 0 : (System.nanoTime() - startedAtNanos) / 1_000_000;
+    }
+}
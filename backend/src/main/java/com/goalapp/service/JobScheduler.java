@@ -0,0 +1,27 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * JobType에 정의된 cron으로 작업을 스케줄 등록
+ * SchedulingConfigurer는 lazy-initialization 환경(prod)에서도 컨텍스트 초기화 시 등록된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobScheduler implements SchedulingConfigurer {
+
+    private final JobService jobService;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        for (JobType type : JobType.values()) {
+            if (type.isScheduled() && jobService.isRegistered(type)) {
+                taskRegistrar.addCronTask(() -> jobService.submitScheduled(type), type.getCron());
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobRun;
+import com.goalapp.entity.JobRunStatus;
+import com.goalapp.entity.JobTrigger;
+import com.goalapp.entity.JobType;
+import com.goalapp.repository.JobRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 백그라운드 작업 실행/이력 관리 서비스
+ * - 작업은 Job을 구현한 서비스가 스스로 등록하고, 여기서는 종류별로 찾아 실행만 한다
+ * - 모든 작업은 단일 작업 스레드(jobExecutor)에서 비동기로 실행
+ *   (작업 스레드는 background 연결 풀을 사용하고, 청크 사이에 jobs.chunk-pause만큼 양보)
+ * - 실행 중 진행 상황은 메모리에서, 완료된 실행은 job_runs 테이블에서 조회
+ * - 부팅 시 다운타임 동안 놓친 cron 실행을 보충
+ */
+@Service
+@Slf4j
+public class JobService {
+
+    private static final Set<JobRunStatus> ACTIVE_STATUSES = EnumSet.of(JobRunStatus.QUEUED, JobRunStatus.RUNNING);
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    private final JobRunRepository jobRunRepository;
+    private final Map<JobType, Job> jobs = new EnumMap<>(JobType.class);
+    private final TaskExecutor jobExecutor;
+
+    @Value("${jobs.chunk-pause:0ms}")
+    private Duration chunkPause = Duration.ZERO;
+
+    @Value("${jobs.catch-up-on-startup:true}")
+    private boolean catchUpOnStartup = true;
+
+    // 실행 중인 작업의 진행 상황 (runId -> progress)
+    private final Map<Long, JobProgress> activeRuns = new ConcurrentHashMap<>();
+
+    /**
+     * @param jobs 작업을 구현한 빈 (작업 종류마다 하나)
+     */
+    public JobService(JobRunRepository jobRunRepository,
+                      List<Job> jobs,
+                      @Qualifier("jobExecutor") TaskExecutor jobExecutor) {
+        this.jobRunRepository = jobRunRepository;
+        this.jobExecutor = jobExecutor;
+        for (Job job : jobs) {
+            Job previous = this.jobs.putIfAbsent(job.getType(), job);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate job implementation for " + job.getType());
+            }
+        }
+    }
+
+    /**
+     * 작업 비동기 실행 요청
+     * @throws IllegalStateException 동일 작업이 이미 대기/실행 중이거나 대기열이 가득 찬 경우
+     */
+    public synchronized JobRun submit(JobType type, JobTrigger trigger) {
+        Job job = jobs.get(type);
+        if (job == null) {
+            throw new IllegalArgumentException("등록되지 않은 작업입니다: " + type);
+        }
+        if (jobRunRepository.existsByJobTypeAndStatusIn(type, ACTIVE_STATUSES)) {
+            throw new IllegalStateException("이미 실행 중인 작업입니다: " + type);
+        }
+
+        JobRun run = jobRunRepository.save(JobRun.builder()
+                .jobType(type)
+                .triggerType(trigger)
+                .status(JobRunStatus.QUEUED)
+                .queuedAt(LocalDateTime.now())
+                .build());
+
+        JobProgress progress = new JobProgress(chunkPause);
+        activeRuns.put(run.getId(), progress);
+
+        try {
+            jobExecutor.execute(() -> execute(run.getId(), job, progress));
+        } catch (TaskRejectedException e) {
+            activeRuns.remove(run.getId());
+            complete(run.getId(), progress, JobRunStatus.FAILED, "작업 대기열이 가득 찼습니다");
+            throw new IllegalStateException("작업 대기열이 가득 찼습니다: " + type);
+        }
+
+        log.info("🧵 Job queued: {} (runId: {}, trigger: {})", type, run.getId(), trigger);
+        return run;
+    }
+
+    /**
+     * cron 스케줄에 의한 실행 (이미 실행 중이면 건너뜀)
+     */
+    public void submitScheduled(JobType type) {
+        submitScheduled(type, JobTrigger.SCHEDULED);
+    }
+
+    private void submitScheduled(JobType type, JobTrigger trigger) {
+        try {
+            submit(type, trigger);
+        } catch (IllegalStateException e) {
+            log.warn("⏭️ Skipping scheduled job {}: {}", type, e.getMessage());
+        }
+    }
+
+    private void execute(Long runId, Job job, JobProgress progress) {
+        JobType type = job.getType();
+        jobRunRepository.findById(runId).ifPresent(run -> {
+            run.setStatus(JobRunStatus.RUNNING);
+            run.setStartedAt(LocalDateTime.now());
+            jobRunRepository.save(run);
+        });
+        progress.start();
+        log.info("⏰ Job started: {} (runId: {})", type, runId);
+
+        try {
+            job.run(progress);
+            complete(runId, progress, JobRunStatus.SUCCEEDED, progress.getMessage());
+            log.info("✅ Job finished: {} (runId: {}, processed: {}, chunks: {}, {}ms)",
+                    type, runId, progress.getProcessed(), progress.getChunks(), progress.getElapsedMillis());
+        } catch (RuntimeException e) {
+            log.error("❌ Job failed: {} (runId: {})", type, runId, e);
+            complete(runId, progress, JobRunStatus.FAILED, e.getMessage());
+        } finally {
+            activeRuns.remove(runId);
+        }
+    }
+
+    private void complete(Long runId, JobProgress progress, JobRunStatus status, String message) {
+        jobRunRepository.findById(runId).ifPresent(run -> {
+            run.setStatus(status);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setProcessedCount(progress.getProcessed());
+            run.setChunkCount(progress.getChunks());
+            run.setMessage(message != null && message.length() > 1000 ? message.substring(0, 1000) : message);
+            jobRunRepository.save(run);
+        });
+    }
+
+    /**
+     * 작업 구현이 등록된 작업 종류인지 확인
+     */
+    public boolean isRegistered(JobType type) {
+        return jobs.containsKey(type);
+    }
+
+    /**
+     * 실행 이력 단건 조회
+     */
+    public JobRun getRun(Long runId) {
+        return jobRunRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("작업 실행 이력을 찾을 수 없습니다: " + runId));
+    }
+
+    /**
+     * 실행 중인 작업의 진행 상황 (실행 중이 아니면 empty)
+     */
+    public Optional<JobProgress> getProgress(Long runId) {
+        return Optional.ofNullable(activeRuns.get(runId));
+    }
+
+    /**
+     * 실행 이력 조회 (최신순)
+     * @param type null이면 전체 작업
+     */
+    public List<JobRun> getHistory(JobType type, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_HISTORY_SIZE)));
+        return type == null
+                ? jobRunRepository.findAllByOrderByIdDesc(page)
+                : jobRunRepository.findByJobTypeOrderByIdDesc(type, page);
+    }
+
+    /**
+     * 작업 종류별 마지막 실행
+     */
+    public Optional<JobRun> getLastRun(JobType type) {
+        return jobRunRepository.findTopByJobTypeOrderByIdDesc(type);
+    }
+
+    /**
+     * 부팅 시 복구
+     * - 이전 프로세스에서 대기/실행 중이던 이력을 실패 처리
+     * - 마지막 성공 이후 cron 시점이 지나간 작업과 한 번도 성공하지 못한 작업을 한 번 보충 실행
+     *   (만료/보존 작업은 기준 시각 기반, 이월 작업은 워터마크 기반이므로 한 번 실행으로 누락분이 모두 처리됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        LocalDateTime now = LocalDateTime.now();
+        int interrupted = jobRunRepository.markInterrupted(now, "서버 재시작으로 중단됨");
+        if (interrupted > 0) {
+            log.warn("⚠️ Marked {} interrupted job runs as FAILED", interrupted);
+        }
+        if (!catchUpOnStartup) {
+            return;
+        }
+
+        for (JobType type : jobs.keySet()) {
+            if (!type.isScheduled()) {
+                continue;
+            }
+            LocalDateTime lastSuccess = jobRunRepository
+                    .findTopByJobTypeAndStatusOrderByStartedAtDesc(type, JobRunStatus.SUCCEEDED)
+                    .map(JobRun::getStartedAt)
+                    .orElse(null);
+            if (lastSuccess == null || isWindowMissed(type, lastSuccess, now)) {
+                log.info("🔁 Catching up missed job: {} (last success: {})", type, lastSuccess);
+                submitScheduled(type, JobTrigger.CATCH_UP);
+            }
+        }
+    }
+
+    /**
+     * 마지막 실행 이후 현재까지 cron 시점이 한 번 이상 지나갔는지 확인
+     */
+    static boolean isWindowMissed(JobType type, LocalDateTime lastRunAt, LocalDateTime now) {
+        LocalDateTime nextFire = CronExpression.parse(type.getCron()).next(lastRunAt);
+        return nextFire != null && !nextFire.isAfter(now);
+    }
+
+    /**
+     * 다음 cron 실행 예정 시각 (수동 작업이면 null)
+     */
+    public LocalDateTime getNextFireTime(JobType type) {
+        return type.isScheduled() ? CronExpression.parse(type.getCron()).next(LocalDateTime.now()) : null;
+    }
+}
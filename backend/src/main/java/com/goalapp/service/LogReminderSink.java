@@ -0,0 +1,22 @@
+package com.goalapp.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로그로 알림을 기록하는 기본 발송 채널
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.sink", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LogReminderSink implements ReminderSink {
+
+    @Override
+    public void send(List<ReminderMessage> reminders) {
+        reminders.forEach(reminder -> log.info("🔔 Reminder: '{}' (ID: {}, Due: {})",
+                reminder.getTitle(), reminder.getGoalId(), reminder.getDueDate()));
+    }
+}
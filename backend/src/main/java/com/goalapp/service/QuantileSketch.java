@@ -0,0 +1,188 @@
+package com.goalapp.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 분위수 스케치 (DDSketch 방식 로그 버킷)
+ * - 양수 v는 ceil(log_γ v) 버킷에, 음수는 절댓값으로 별도 버킷에, 0은 따로 센다
+ * - 버킷 개수만 더하고 빼므로 병합과 제거(완료 취소)가 순서에 상관없이 정확하다
+ * - 분위수는 버킷 대표값으로 답하며 상대 오차는 ALPHA 이내
+ * - 직렬화: [버전][0 개수][양수 버킷][음수 버킷], 버킷은 (인덱스 차이, 개수) varint 쌍
+ */
+final class QuantileSketch {
+
+    static final double ALPHA = 0.02;
+
+    private static final double GAMMA = (1 + ALPHA) / (1 - ALPHA);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final byte VERSION = 1;
+
+    private final NavigableMap<Integer, Long> positive = new TreeMap<>();
+    private final NavigableMap<Integer, Long> negative = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    long getCount() {
+        return count;
+    }
+
+    void add(double value) {
+        if (value == 0) {
+            zeroCount++;
+        } else {
+            (value > 0 ? positive : negative).merge(index(Math.abs(value)), 1L, Long::sum);
+        }
+        count++;
+    }
+
+    /**
+     * 값 한 건 제거 (같은 버킷에 센 값이 없으면 무시)
+     */
+    void remove(double value) {
+        if (value == 0) {
+            if (zeroCount == 0) {
+                return;
+            }
+            zeroCount--;
+        } else {
+            NavigableMap<Integer, Long> buckets = value > 0 ? positive : negative;
+            int index = index(Math.abs(value));
+            Long bucketCount = buckets.get(index);
+            if (bucketCount == null) {
+                return;
+            }
+            if (bucketCount == 1) {
+                buckets.remove(index);
+            } else {
+                buckets.put(index, bucketCount - 1);
+            }
+        }
+        count--;
+    }
+
+    void merge(QuantileSketch other) {
+        other.positive.forEach((index, bucketCount) -> positive.merge(index, bucketCount, Long::sum));
+        other.negative.forEach((index, bucketCount) -> negative.merge(index, bucketCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * q 분위수 (0 ≤ q ≤ 1, 값이 없으면 null)
+     */
+    Double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("분위수는 0과 1 사이여야 합니다: " + q);
+        }
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = 0;
+        // 절댓값이 큰 음수부터 0, 양수 순
+        for (Map.Entry<Integer, Long> bucket : negative.descendingMap().entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return -valueOf(bucket.getKey());
+            }
+        }
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0.0;
+        }
+        for (Map.Entry<Integer, Long> bucket : positive.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        throw new IllegalStateException("Sketch count out of sync: " + count);
+    }
+
+    byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(VERSION);
+        writeVarLong(out, zeroCount);
+        writeBuckets(out, positive);
+        writeBuckets(out, negative);
+        return out.toByteArray();
+    }
+
+    /**
+     * 직렬화된 스케치 복원 (빈 바이트열은 빈 스케치)
+     */
+    static QuantileSketch decode(byte[] data) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (data == null || data.length == 0) {
+            return sketch;
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported sketch version: " + version);
+        }
+        sketch.zeroCount = readVarLong(in);
+        sketch.count = sketch.zeroCount + readBuckets(in, sketch.positive) + readBuckets(in, sketch.negative);
+        return sketch;
+    }
+
+    private static int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / LOG_GAMMA);
+    }
+
+    // 버킷 (γ^(i-1), γ^i] 의 대표값 (양 끝과의 상대 오차가 ALPHA)
+    private static double valueOf(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    private static void writeBuckets(ByteArrayOutputStream out, NavigableMap<Integer, Long> buckets) {
+        writeVarLong(out, buckets.size());
+        int previous = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            // 인덱스는 오름차순이라 첫 값만 음수일 수 있음 (zigzag)
+            int delta = bucket.getKey() - previous;
+            writeVarLong(out, ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL);
+            writeVarLong(out, bucket.getValue());
+            previous = bucket.getKey();
+        }
+    }
+
+    private static long readBuckets(ByteBuffer in, NavigableMap<Integer, Long> buckets) {
+        long size = readVarLong(in);
+        long total = 0;
+        int previous = 0;
+        for (long i = 0; i < size; i++) {
+            int zigzag = (int) readVarLong(in);
+            int index = previous + ((zigzag >>> 1) ^ -(zigzag & 1));
+            long bucketCount = readVarLong(in);
+            buckets.put(index, bucketCount);
+            total += bucketCount;
+            previous = index;
+        }
+        return total;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
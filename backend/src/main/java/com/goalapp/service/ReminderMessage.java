@@ -0,0 +1,18 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.GoalType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 알림 한 건 (엔티티 대신 필요한 필드만 보관)
+ */
+@Value
+public class ReminderMessage {
+    Long goalId;
+    String title;
+    GoalType type;
+    LocalDateTime dueDate;
+    LocalDateTime scheduledAt;
+}
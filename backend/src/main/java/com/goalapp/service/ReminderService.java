@@ -0,0 +1,165 @@
+package com.goalapp.service;
+
+import com.goalapp.config.ReminderProperties;
+import com.goalapp.config.RoutingDataSource;
+import com.goalapp.entity.Goal;
+import com.goalapp.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 목표 알림 발송 서비스
+ * - reminderEnabled/reminderFrequency로 목표별 다음 발송 시각(nextReminderAt)을 계산
+ * - next_reminder_at 인덱스 순으로 발송 시각이 된 알림을 배치 조회하여 ReminderSink로 발송
+ * - 발송 실패 시 지수 backoff로 재시도, 최대 횟수 초과 시 다음 주기로 넘어감
+ *
+ * 발송 대기열을 메모리에 두지 않고 DB 인덱스를 대기열로 사용하므로
+ * 힙 사용량은 배치 크기(기본 50건)만큼으로 제한된다.
+ */
+@Service
+@Lazy(false)  // prod lazy-initialization에서도 @Scheduled 등록
+@ConditionalOnProperty(name = "features.reminders.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderService {
+
+    private final GoalRepository goalRepository;
+    private final ReminderSink reminderSink;
+    private final ReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주기적으로 알림 스케줄 계산 및 발송
+     */
+    @Scheduled(fixedDelayString = "${reminders.poll-interval:60000}", initialDelayString = "${reminders.poll-interval:60000}")
+    public void poll() {
+        RoutingDataSource.runInBackground(() -> {
+            scheduleUnscheduled();
+            dispatchDue(LocalDateTime.now());
+        });
+    }
+
+    /**
+     * 다음 발송 시각이 없는 목표의 스케줄 계산 (신규/주기 변경 목표)
+     */
+    void scheduleUnscheduled() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+            Integer scheduled = transactionTemplate.execute(status -> {
+                List<Goal> goals = goalRepository.findUnscheduledReminders(PageRequest.of(0, properties.getBatchSize()));
+                goals.forEach(goal -> goalRepository.updateReminderSchedule(goal.getId(),
+                        nextFireTime(goal.getReminderFrequency(), now, properties.getTime()), 0));
+                return goals.size();
+            });
+            if (scheduled == null || scheduled < properties.getBatchSize()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 발송 시각이 된 알림을 배치 단위로 발송
+     * @return 발송 성공한 알림 수
+     */
+    int dispatchDue(LocalDateTime now) {
+        int sent = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+            List<Goal> due = goalRepository.findDueReminders(now, PageRequest.of(0, properties.getBatchSize()));
+            if (due.isEmpty()) {
+                break;
+            }
+
+            List<ReminderMessage> messages = due.stream()
+                    .map(goal -> new ReminderMessage(goal.getId(), goal.getTitle(), goal.getType(),
+                            goal.getDueDate(), goal.getNextReminderAt()))
+                    .toList();
+
+            boolean delivered = deliver(messages);
+            transactionTemplate.executeWithoutResult(status -> due.forEach(goal -> {
+                if (delivered) {
+                    reschedule(goal, now);
+                } else {
+                    retryLater(goal, now);
+                }
+            }));
+
+            if (!delivered) {
+                break;
+            }
+            sent += due.size();
+            if (due.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (sent > 0) {
+            log.info("🔔 Dispatched {} reminders", sent);
+        }
+        return sent;
+    }
+
+    private boolean deliver(List<ReminderMessage> messages) {
+        try {
+            reminderSink.send(messages);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Reminder delivery failed for {} reminders: {}", messages.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void reschedule(Goal goal, LocalDateTime now) {
+        LocalDateTime next = nextFireTime(goal.getReminderFrequency(), now, properties.getTime());
+        goalRepository.updateReminderSchedule(goal.getId(), next, 0);
+    }
+
+    private void retryLater(Goal goal, LocalDateTime now) {
+        int attempts = goal.getReminderAttempts() + 1;
+        if (attempts > properties.getMaxAttempts()) {
+            log.warn("⏭️ Giving up reminder for goal {} after {} attempts", goal.getId(), attempts - 1);
+            reschedule(goal, now);
+            return;
+        }
+        goalRepository.updateReminderSchedule(goal.getId(), now.plus(backoff(attempts)), attempts);
+    }
+
+    /**
+     * n번째 재시도 대기 시간: initialBackoff * 2^(n-1), maxBackoff로 상한
+     */
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    /**
+     * 다음 발송 시각 계산
+     * @param frequency DAILY | WEEKLY | MONTHLY (null이면 DAILY), 알 수 없는 값이면 발송하지 않음
+     * @param after 이 시각 이후의 첫 발송 시각
+     * @param timeOfDay 발송 시각
+     */
+    static LocalDateTime nextFireTime(String frequency, LocalDateTime after, LocalTime timeOfDay) {
+        LocalDateTime candidate = after.toLocalDate().atTime(timeOfDay);
+        if (!candidate.isAfter(after)) {
+            candidate = candidate.plusDays(1);
+        }
+        String normalized = frequency == null || frequency.isBlank() ? "DAILY" : frequency.trim().toUpperCase();
+        return switch (normalized) {
+            case "DAILY" -> candidate;
+            case "WEEKLY" -> candidate.plusWeeks(1).minusDays(1);
+            case "MONTHLY" -> candidate.plusMonths(1).minusDays(1);
+            // 알 수 없는 주기는 먼 미래로 미뤄 재조회 대상에서 제외
+            default -> LocalDateTime.of(9999, 12, 31, 0, 0);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.goalapp.service;
+
+import java.util.List;
+
+/**
+ * 알림 발송 채널
+ * 배치 단위로 호출되며, 예외를 던지면 배치 전체가 backoff 후 재시도된다.
+ */
+public interface ReminderSink {
+
+    void send(List<ReminderMessage> reminders);
+}
@@ -0,0 +1,175 @@
+package com.goalapp.service;
+
+import com.goalapp.config.RetentionProperties;
+import com.goalapp.config.RetentionProperties.Rule;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.JobType;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 목표 데이터 보존 정책 엔진
+ * - 설정된 규칙(상태/타입별 보관·압축·삭제)을 한 번의 작업 실행에서 모두 평가
+ * - 규칙마다 (status, updatedAt) 인덱스 범위만 스캔하고, 처리한 마지막 행을
+ *   워터마크로 저장하여 다음 실행에서 이미 처리한 행을 다시 읽지 않음
+ * - 청크마다 대상 처리와 워터마크 전진을 같은 트랜잭션으로 커밋
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionService implements Job {
+
+    private final GoalRepository goalRepository;
+    private final RoutineRepository routineRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final RetentionProperties retentionProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardService dashboardService;
+    private final DailyStatsService dailyStatsService;
+    private final CompletionSketchService completionSketchService;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    @Override
+    public JobType getType() {
+        return JobType.GOAL_RETENTION;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return applyPolicies(progress);
+    }
+
+    /**
+     * 모든 보존 규칙 적용
+     * @return 처리된 목표 수
+     */
+    public long applyPolicies(JobProgress progress) {
+        List<Rule> rules = retentionProperties.getRules();
+        if (rules.isEmpty()) {
+            log.info("✅ No retention rules configured");
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        for (Rule rule : rules) {
+            Set<GoalType> types = resolveTypes(rule, rules);
+            if (types.isEmpty()) {
+                continue;
+            }
+            long processed = applyRule(rule, types, now, progress);
+            log.info("🧹 Retention rule {} → {} goals {}", rule.checkpointKey(), processed, rule.getAction());
+            total += processed;
+        }
+
+        // 보관/삭제는 집합 단위로 처리하므로 대시보드 카운터는 다시 집계
+        if (total > 0) {
+            dashboardService.refreshAfterCommit();
+        }
+        progress.setMessage("rules=" + rules.size());
+        return total;
+    }
+
+    /**
+     * 규칙이 적용될 목표 타입 결정
+     * 타입 미지정 규칙은 같은 상태에 대해 타입 지정 규칙이 있는 타입을 제외한다.
+     */
+    static Set<GoalType> resolveTypes(Rule rule, List<Rule> rules) {
+        if (rule.getType() != null) {
+            return EnumSet.of(rule.getType());
+        }
+        Set<GoalType> types = EnumSet.allOf(GoalType.class);
+        rules.stream()
+                .filter(other -> other.getStatus() == rule.getStatus() && other.getType() != null)
+                .forEach(other -> types.remove(other.getType()));
+        return types;
+    }
+
+    private long applyRule(Rule rule, Set<GoalType> types, LocalDateTime now, JobProgress progress) {
+        LocalDateTime cutoff = now.minusDays(rule.getAfterDays());
+        long total = 0;
+
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                JobCheckpoint checkpoint = checkpointRepository.findById(rule.checkpointKey())
+                        .orElseGet(() -> JobCheckpoint.initial(rule.checkpointKey()));
+
+                List<Object[]> rows = goalRepository.findRetentionCandidates(
+                        rule.getStatus(), types, cutoff,
+                        checkpoint.getWatermark(), checkpoint.getLastId(),
+                        PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+
+                List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+                applyAction(rule, ids, now);
+
+                Object[] last = rows.get(rows.size() - 1);
+                checkpoint.advance((LocalDateTime) last[1], (Long) last[0]);
+                checkpointRepository.save(checkpoint);
+                return ids.size();
+            });
+            if (processed == null || processed == 0) {
+                break;
+            }
+            total += processed;
+            progress.chunkCompleted(processed);
+        }
+        return total;
+    }
+
+    private void applyAction(Rule rule, List<Long> ids, LocalDateTime now) {
+        switch (rule.getAction()) {
+            // 만료는 지난 사실이므로 보관해도 일별 통계의 만료 수는 그대로 (expired_at 유지)
+            case ARCHIVE -> goalRepository.markGoalsArchived(ids, now);
+            case COMPACT -> goalRepository.compactGoals(ids);
+            case DELETE -> {
+                // 하위 목표 cascade 삭제를 위해 엔티티로 삭제, 하위 목표에 연결된 루틴도 함께 연결 해제
+                List<Goal> goals = goalRepository.findAllById(ids);
+                List<Goal> subtree = collectTrees(goals);
+                List<GoalSnapshot> snapshots = subtree.stream().map(GoalSnapshot::of).toList();
+                routineRepository.unlinkGoals(subtree.stream().map(Goal::getId).toList());
+                dailyStatsService.goalsDeleted(snapshots);
+                completionSketchService.goalsDeleted(snapshots);
+                goalRepository.deleteAll(goals);
+            }
+        }
+    }
+
+    /**
+     * 목표들과 하위 목표 전체 (cascade 삭제 전, 중복 제외)
+     */
+    static List<Goal> collectTrees(Collection<Goal> roots) {
+        List<Goal> goals = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        List<Goal> pending = new ArrayList<>(roots);
+        while (!pending.isEmpty()) {
+            Goal goal = pending.remove(pending.size() - 1);
+            if (visited.add(goal.getId())) {
+                goals.add(goal);
+                pending.addAll(goal.getSubGoals());
+            }
+        }
+        return goals;
+    }
+}
@@ -0,0 +1,62 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.ReviewPeriod;
+import com.goalapp.entity.RoutineFrequency;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회고 리포트 문서 (JSON으로 직렬화되어 압축 저장)
+ * 기간은 [periodStart, periodEnd) 이며, 만료 목표는 마감일(없으면 마지막 수정일) 기준이다.
+ */
+@Value
+@Builder
+public class ReviewDocument {
+    ReviewPeriod period;
+    LocalDate periodStart;
+    LocalDate periodEnd;
+    LocalDateTime generatedAt;
+    Map<GoalType, Long> completedByType;
+    Map<GoalType, Long> expiredByType;
+    List<GoalEntry> completedGoals;
+    List<GoalEntry> expiredGoals;
+    List<RoutineEntry> routines;
+    // 전체 루틴 주기 달성률 (%) - 기간 안에 끝난 주기가 없으면 null
+    Double routineAdherenceRate;
+
+    @Value
+    @Builder
+    public static class GoalEntry {
+        Long id;
+        String title;
+        GoalType type;
+        // 완료 시각 또는 만료 기준 시각
+        LocalDateTime at;
+    }
+
+    /**
+     * 루틴별 이행 (기간 안에 완전히 들어가는 루틴 주기만 달성 여부를 센다)
+     * 연속 기록은 기간 직후에 만든 리포트에만 담기며, 변화량은 직전 리포트와의 차이이다.
+     */
+    @Value
+    @Builder
+    public static class RoutineEntry {
+        Long id;
+        String title;
+        RoutineFrequency frequency;
+        int targetCount;
+        int completions;
+        int periodsDue;
+        int periodsMet;
+        Double adherenceRate;
+        Integer streak;
+        Integer streakChange;
+        Integer longestStreak;
+    }
+}
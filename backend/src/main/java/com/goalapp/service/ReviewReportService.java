@@ -0,0 +1,431 @@
+package com.goalapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.ReviewPeriod;
+import com.goalapp.entity.ReviewReport;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutineYearBitmap;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.ReviewReportRepository;
+import com.goalapp.repository.RoutineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주간/월간 회고 리포트 생성 및 조회
+ * - 기간이 끝난 뒤 한 번 만들어 (기간, 시작일) 키로 저장하고, 내용이 바뀌지 않는 한 다시 계산하지 않음
+ * - 목표는 goals와 goals_archive의 완료/만료 행을, 루틴 이행은 연도별 완료 비트맵을 읽어 집계
+ * - 작업이 놓친 과거 기간은 처음 조회할 때 만든다 (이때는 연속 기록을 담지 않음)
+ * - 끝난 기간에 소급 반영되는 변경(지난 날짜 루틴 완료 일괄 기록/취소, 지난 만료 목표의 완료·수정,
+ *   늦게 돈 만료/이월 작업)은 그 기간의 리포트를 지워 다음 조회 때 새 ETag로 다시 만든다.
+ *   호출자의 트랜잭션에서 지우고, 그 사이 예전 데이터로 만들어진 리포트가 남지 않도록 커밋 후 한 번 더 지운다.
+ *   삭제, 보관 처리, 보존 정책은 기록 정리일 뿐이므로 이미 만든 리포트를 바꾸지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewReportService implements Job {
+
+    private final ReviewReportRepository reportRepository;
+    private final GoalRepository goalRepository;
+    private final ArchivedGoalRepository archivedGoalRepository;
+    private final RoutineRepository routineRepository;
+    private final RoutineBitmapService bitmapService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 끝난 기간의 리포트 (없으면 만들어 저장)
+     */
+    public ReviewReport getReport(ReviewPeriod period, LocalDate periodStart) {
+        if (!period.periodStart(periodStart).equals(periodStart)) {
+            throw new IllegalArgumentException("기간 시작일이 아닙니다: " + periodStart);
+        }
+        if (period.nextPeriodStart(periodStart).isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("아직 끝나지 않은 기간입니다: " + periodStart);
+        }
+        return reportRepository.findByPeriodAndPeriodStart(period, periodStart)
+                .orElseGet(() -> materialize(period, periodStart));
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.REVIEW_REPORT_GENERATE;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return generate(progress);
+    }
+
+    /**
+     * 직전에 끝난 주/월 리포트 생성 (이미 있으면 건너뜀)
+     * @return 생성된 리포트 수
+     */
+    public long generate(JobProgress progress) {
+        LocalDate today = LocalDate.now();
+        int generated = 0;
+        for (ReviewPeriod period : ReviewPeriod.values()) {
+            LocalDate periodStart = period.previousPeriodStart(today);
+            if (reportRepository.existsByPeriodAndPeriodStart(period, periodStart)) {
+                continue;
+            }
+            ReviewReport report = materialize(period, periodStart);
+            generated++;
+            progress.chunkCompleted(1);
+            log.info("📝 Review report {} {} ({} bytes)", period, periodStart, report.getContent().length);
+        }
+        progress.setMessage("generated=" + generated);
+        return generated;
+    }
+
+    // ===== 소급 변경 =====
+
+    /**
+     * 목표 변경 후 호출 (완료 시각이나 만료 기준일이 바뀐 경우만 해당 기간 무효화)
+     */
+    public void goalChanged(GoalSnapshot before, Goal after) {
+        goalChanged(before, GoalSnapshot.of(after));
+    }
+
+    public void goalChanged(GoalSnapshot before, GoalSnapshot after) {
+        List<LocalDate> removed = reportedDays(before);
+        List<LocalDate> added = reportedDays(after);
+        if (removed.equals(added)) {
+            return;
+        }
+        Set<LocalDate> days = new HashSet<>(removed);
+        days.addAll(added);
+        invalidate(days);
+    }
+
+    /**
+     * 만료 작업 청크 반영
+     * @param rows [id, type, dueDate]
+     */
+    public void goalsExpired(List<Object[]> rows) {
+        Set<LocalDate> days = new HashSet<>();
+        for (Object[] row : rows) {
+            days.add(((LocalDateTime) row[2]).toLocalDate());
+        }
+        invalidate(days);
+    }
+
+    /**
+     * 루틴 완료 기록 추가/취소 후 호출 (완료 날짜)
+     */
+    public void routineCompletionsChanged(Collection<LocalDate> dates) {
+        invalidate(dates);
+    }
+
+    /**
+     * 날짜가 속한 끝난 기간의 리포트 삭제 (진행 중인 기간만 바뀌면 아무것도 하지 않음)
+     */
+    public void invalidate(Collection<LocalDate> days) {
+        LocalDate today = LocalDate.now();
+        Map<ReviewPeriod, Set<LocalDate>> stale = new EnumMap<>(ReviewPeriod.class);
+        for (ReviewPeriod period : ReviewPeriod.values()) {
+            for (LocalDate day : days) {
+                LocalDate periodStart = period.periodStart(day);
+                if (!period.nextPeriodStart(periodStart).isAfter(today)) {
+                    stale.computeIfAbsent(period, key -> new TreeSet<>()).add(periodStart);
+                }
+            }
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> deleteReports(stale));
+            return;
+        }
+        deleteReports(stale);
+        // 커밋 후에는 원래 트랜잭션의 자원이 아직 묶여 있으므로 새 트랜잭션으로 삭제
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requiresNew.executeWithoutResult(status -> deleteReports(stale));
+            }
+        });
+    }
+
+    private void deleteReports(Map<ReviewPeriod, Set<LocalDate>> stale) {
+        stale.forEach((period, starts) -> starts.forEach(periodStart -> {
+            if (reportRepository.deleteReport(period, periodStart) > 0) {
+                log.info("📝 Review report {} {} invalidated", period, periodStart);
+            }
+        }));
+    }
+
+    /**
+     * 리포트에 반영되는 날짜 (완료 시각, 만료 기준일)
+     */
+    private static List<LocalDate> reportedDays(GoalSnapshot snapshot) {
+        if (snapshot == null) {
+            return List.of();
+        }
+        List<LocalDate> days = new ArrayList<>(2);
+        if (snapshot.isCompleted() && snapshot.getCompletedAt() != null) {
+            days.add(snapshot.getCompletedAt().toLocalDate());
+        }
+        if (snapshot.getExpiredDate() != null) {
+            days.add(snapshot.getExpiredDate());
+        }
+        return days;
+    }
+
+    /**
+     * gzip 압축 해제 (gzip을 받지 않는 클라이언트용)
+     */
+    public static byte[] decompress(byte[] content) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ReviewReport materialize(ReviewPeriod period, LocalDate periodStart) {
+        byte[] content;
+        try {
+            content = compress(objectMapper.writeValueAsBytes(build(period, periodStart)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize review report", e);
+        }
+        ReviewReport report = ReviewReport.builder()
+                .period(period)
+                .periodStart(periodStart)
+                .periodEnd(period.nextPeriodStart(periodStart))
+                .content(content)
+                .etag(etagOf(content))
+                .generatedAt(LocalDateTime.now())
+                .build();
+        try {
+            return transactionTemplate.execute(status -> reportRepository.save(report));
+        } catch (DataIntegrityViolationException e) {
+            // 작업과 조회가 동시에 같은 리포트를 만든 경우 먼저 저장된 것을 사용
+            return reportRepository.findByPeriodAndPeriodStart(period, periodStart).orElseThrow(() -> e);
+        }
+    }
+
+    ReviewDocument build(ReviewPeriod period, LocalDate periodStart) {
+        LocalDate periodEnd = period.nextPeriodStart(periodStart);
+        LocalDateTime from = periodStart.atStartOfDay();
+        LocalDateTime until = periodEnd.atStartOfDay();
+
+        List<ReviewDocument.GoalEntry> completed = new ArrayList<>();
+        goalEntries(goalRepository.findCompletedRows(from, until), completed);
+        goalEntries(archivedGoalRepository.findCompletedRows(from, until), completed);
+        List<ReviewDocument.GoalEntry> expired = new ArrayList<>();
+        goalEntries(goalRepository.findExpiredRows(from, until), expired);
+        goalEntries(archivedGoalRepository.findExpiredRows(from, until), expired);
+
+        // 연속 기록은 기간 직후에 만들 때만 기간 끝 시점의 값과 같다
+        boolean withStreaks = period.periodStart(LocalDate.now()).equals(periodEnd);
+        Map<Long, Integer> previousStreaks = withStreaks ? previousStreaks(period, periodStart) : Map.of();
+
+        List<Routine> candidates = new ArrayList<>();
+        for (Routine routine : routineRepository.findAllByOrderByCreatedAtDesc()) {
+            LocalDate createdOn = routine.getCreatedAt() != null ? routine.getCreatedAt().toLocalDate() : periodStart;
+            if (createdOn.isBefore(periodEnd)) {
+                candidates.add(routine);
+            }
+        }
+        // 기간이 걸친 연도마다 비트맵을 한 번에 읽음 (루틴마다 조회하지 않음)
+        Map<Integer, Map<Long, RoutineYearBitmap>> bitmaps = new HashMap<>();
+        List<Long> routineIds = candidates.stream().map(Routine::getId).toList();
+        for (int year = periodStart.getYear(); year <= periodEnd.minusDays(1).getYear(); year++) {
+            bitmaps.put(year, bitmapService.getYears(routineIds, year));
+        }
+
+        List<ReviewDocument.RoutineEntry> routines = new ArrayList<>();
+        int totalDue = 0;
+        int totalMet = 0;
+        for (Routine routine : candidates) {
+            LocalDate createdOn = routine.getCreatedAt() != null ? routine.getCreatedAt().toLocalDate() : periodStart;
+            boolean[] completedDays = completedDays(bitmaps, routine.getId(), periodStart, periodEnd);
+            int completions = 0;
+            for (boolean day : completedDays) {
+                completions += day ? 1 : 0;
+            }
+            if (!routine.isActive() && completions == 0) {
+                continue;
+            }
+
+            // 기간 안에 완전히 들어가고 루틴 생성 이후인 주기만 달성 여부를 센다
+            RoutineFrequency frequency = routine.getFrequency();
+            int target = routine.getTargetCount() != null ? routine.getTargetCount() : 1;
+            LocalDate firstPeriod = frequency.periodStart(createdOn);
+            int due = 0;
+            int met = 0;
+            LocalDate start = frequency.periodStart(periodStart);
+            if (start.isBefore(periodStart)) {
+                start = frequency.nextPeriodStart(start);
+            }
+            while (!frequency.nextPeriodStart(start).isAfter(periodEnd)) {
+                LocalDate next = frequency.nextPeriodStart(start);
+                if (!start.isBefore(firstPeriod)) {
+                    int count = 0;
+                    for (LocalDate day = start; day.isBefore(next); day = day.plusDays(1)) {
+                        count += completedDays[(int) (day.toEpochDay() - periodStart.toEpochDay())] ? 1 : 0;
+                    }
+                    due++;
+                    met += count >= target ? 1 : 0;
+                }
+                start = next;
+            }
+            totalDue += due;
+            totalMet += met;
+
+            Integer streak = withStreaks ? streakAsOf(routine, periodEnd.minusDays(1)) : null;
+            Integer previous = previousStreaks.get(routine.getId());
+            routines.add(ReviewDocument.RoutineEntry.builder()
+                    .id(routine.getId())
+                    .title(routine.getTitle())
+                    .frequency(frequency)
+                    .targetCount(target)
+                    .completions(completions)
+                    .periodsDue(due)
+                    .periodsMet(met)
+                    .adherenceRate(due == 0 ? null : (double) met / due * 100.0)
+                    .streak(streak)
+                    .streakChange(streak != null && previous != null ? streak - previous : null)
+                    .longestStreak(withStreaks ? routine.getLongestStreak() : null)
+                    .build());
+        }
+
+        return ReviewDocument.builder()
+                .period(period)
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .generatedAt(LocalDateTime.now())
+                .completedByType(countByType(completed))
+                .expiredByType(countByType(expired))
+                .completedGoals(completed)
+                .expiredGoals(expired)
+                .routines(routines)
+                .routineAdherenceRate(totalDue == 0 ? null : (double) totalMet / totalDue * 100.0)
+                .build();
+    }
+
+    /**
+     * 기간 [from, until) 의 날짜별 완료 여부 (연도별 비트맵에서)
+     */
+    private static boolean[] completedDays(Map<Integer, Map<Long, RoutineYearBitmap>> bitmaps, Long routineId,
+                                           LocalDate from, LocalDate until) {
+        boolean[] days = new boolean[(int) (until.toEpochDay() - from.toEpochDay())];
+        for (int i = 0; i < days.length; i++) {
+            LocalDate day = from.plusDays(i);
+            days[i] = bitmaps.get(day.getYear()).get(routineId).isSet(day);
+        }
+        return days;
+    }
+
+    /**
+     * 날짜 시점의 연속 기록 (그 뒤에 달성한 주기가 있으면 그만큼 되돌림)
+     */
+    static int streakAsOf(Routine routine, LocalDate day) {
+        RoutineFrequency frequency = routine.getFrequency();
+        LocalDate last = routine.getLastStreakPeriod();
+        if (last == null || !last.isAfter(frequency.periodStart(day))) {
+            return routine.currentStreakAsOf(day);
+        }
+        int after = 0;
+        for (LocalDate period = frequency.nextPeriodStart(day); !period.isAfter(last);
+             period = frequency.nextPeriodStart(period)) {
+            after++;
+        }
+        return Math.max(0, routine.getCurrentStreak() - after);
+    }
+
+    /**
+     * 직전 기간 리포트의 루틴별 연속 기록
+     */
+    private Map<Long, Integer> previousStreaks(ReviewPeriod period, LocalDate periodStart) {
+        Map<Long, Integer> streaks = new HashMap<>();
+        reportRepository.findByPeriodAndPeriodStart(period, period.previousPeriodStart(periodStart)).ifPresent(report -> {
+            try {
+                for (JsonNode routine : objectMapper.readTree(decompress(report.getContent())).path("routines")) {
+                    if (routine.hasNonNull("streak")) {
+                        streaks.put(routine.get("id").asLong(), routine.get("streak").asInt());
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Failed to read previous review report {}: {}", report.getId(), e.getMessage());
+            }
+        });
+        return streaks;
+    }
+
+    private static void goalEntries(List<Object[]> rows, List<ReviewDocument.GoalEntry> entries) {
+        for (Object[] row : rows) {
+            entries.add(ReviewDocument.GoalEntry.builder()
+                    .id((Long) row[0])
+                    .title((String) row[1])
+                    .type((GoalType) row[2])
+                    .at((LocalDateTime) row[3])
+                    .build());
+        }
+    }
+
+    private static Map<GoalType, Long> countByType(List<ReviewDocument.GoalEntry> entries) {
+        Map<GoalType, Long> counts = new EnumMap<>(GoalType.class);
+        entries.forEach(entry -> counts.merge(entry.getType(), 1L, Long::sum));
+        return counts;
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etagOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
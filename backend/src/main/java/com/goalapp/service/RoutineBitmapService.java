@@ -0,0 +1,299 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.RoutineCompletion;
+import com.goalapp.entity.RoutineYearBitmap;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutineYearBitmapRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 연도별 완료 비트맵 관리
+ * - 완료/취소 시 해당 연도 비트맵의 비트를 갱신 (호출자의 트랜잭션에 참여)
+ *   행이 없는 연도는 그 해 완료 기록으로 채워 만들고, 동시에 같은 행을 만들면 먼저 만든 행을 잠가 갱신
+ *   (PostgreSQL은 ON CONFLICT DO NOTHING, 그 외(H2)는 유니크 위반 무시)
+ * - 생성 작업(ROUTINE_BITMAP_BACKFILL)이 매일 올해 비트맵을 만들고, 첫 실행에서는 완료 기록이 있는 지난 연도도 만든다.
+ *   첫 실행이 끝난 뒤로는 행이 없는 연도 = 완료 기록이 없는 연도이므로 조회 시 완료 기록을 다시 읽지 않는다.
+ */
+@Service
+@Slf4j
+public class RoutineBitmapService implements Job {
+
+    private static final String CHECKPOINT = "routine-bitmap-backfill";
+
+    private static final String INSERT =
+            "INSERT INTO routine_year_bitmaps (routine_id, bitmap_year, days, updated_at) " +
+            "VALUES (:routineId, :year, :days, :now)";
+
+    private static final String POSTGRES_INSERT = INSERT + " ON CONFLICT (routine_id, bitmap_year) DO NOTHING";
+
+    private final RoutineYearBitmapRepository bitmapRepository;
+    private final RoutineCompletionRepository completionRepository;
+    private final CompletionPartitionService partitionService;
+    private final RoutineCompactionService compactionService;
+    private final JobCheckpointRepository checkpointRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgres;
+
+    // 지난 연도 생성이 끝났는지 (한 번 확인되면 다시 조회하지 않음)
+    private volatile boolean backfilled;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    public RoutineBitmapService(RoutineYearBitmapRepository bitmapRepository,
+                                RoutineCompletionRepository completionRepository,
+                                CompletionPartitionService partitionService,
+                                RoutineCompactionService compactionService,
+                                JobCheckpointRepository checkpointRepository,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                DataSource dataSource) {
+        this.bitmapRepository = bitmapRepository;
+        this.completionRepository = completionRepository;
+        this.partitionService = partitionService;
+        this.compactionService = compactionService;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postgres = RoutineCompletionWriter.isPostgres(dataSource);
+    }
+
+    /**
+     * 연도 비트맵 조회
+     * 행이 없으면 생성 작업이 끝난 뒤에는 빈 비트맵, 그 전에는 완료 기록으로 구성한 비트맵 (저장하지 않음)
+     */
+    public RoutineYearBitmap getYear(Long routineId, int year) {
+        return bitmapRepository.findByRoutineIdAndYear(routineId, year)
+                .orElseGet(() -> isBackfilled()
+                        ? RoutineYearBitmap.empty(routineId, year)
+                        : buildFromCompletions(routineId, year));
+    }
+
+    /**
+     * 여러 루틴의 연도 비트맵을 한 번에 조회 (루틴 ID → 비트맵, 요청한 루틴은 모두 포함)
+     */
+    public Map<Long, RoutineYearBitmap> getYears(Collection<Long> routineIds, int year) {
+        Map<Long, RoutineYearBitmap> bitmaps = new HashMap<>();
+        if (routineIds.isEmpty()) {
+            return bitmaps;
+        }
+        for (RoutineYearBitmap bitmap : bitmapRepository.findByYearAndRoutineIdIn(year, routineIds)) {
+            bitmaps.put(bitmap.getRoutineId(), bitmap);
+        }
+        for (Long routineId : routineIds) {
+            if (!bitmaps.containsKey(routineId)) {
+                bitmaps.put(routineId, isBackfilled()
+                        ? RoutineYearBitmap.empty(routineId, year)
+                        : buildFromCompletions(routineId, year));
+            }
+        }
+        return bitmaps;
+    }
+
+    /**
+     * 특정 날짜 완료 여부
+     */
+    public boolean isCompletedOn(Long routineId, LocalDate date) {
+        return getYear(routineId, date.getYear()).isSet(date);
+    }
+
+    /**
+     * 루틴 생성 후 호출 (올해 빈 비트맵)
+     */
+    public void initialize(Long routineId) {
+        insertIfAbsent(RoutineYearBitmap.empty(routineId, LocalDate.now().getYear()));
+    }
+
+    /**
+     * 완료 기록 삽입 후 호출
+     */
+    public void mark(Long routineId, LocalDate date) {
+        markAll(routineId, List.of(date));
+    }
+
+    /**
+     * 완료 기록 여러 건 삽입 후 호출 (연도별로 한 번씩 갱신)
+     */
+    public void markAll(Long routineId, Collection<LocalDate> dates) {
+        Map<Integer, List<LocalDate>> byYear = dates.stream().collect(Collectors.groupingBy(LocalDate::getYear));
+        byYear.forEach((year, yearDates) -> update(routineId, year, yearDates, true));
+    }
+
+    /**
+     * 완료 기록 삭제 후 호출
+     */
+    public void unmark(Long routineId, LocalDate date) {
+        update(routineId, date.getYear(), List.of(date), false);
+    }
+
+    /**
+     * 루틴 삭제 시 비트맵 정리
+     */
+    public void deleteBitmaps(Long routineId) {
+        bitmapRepository.deleteByRoutineId(routineId);
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ROUTINE_BITMAP_BACKFILL;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return backfill(progress);
+    }
+
+    /**
+     * 비트맵이 없는 루틴/연도의 비트맵 생성
+     * 첫 실행은 완료 기록(파티션, 월 요약 포함)이 있는 모든 연도, 이후에는 올해만 확인한다.
+     * @return 만든 비트맵 수
+     */
+    public long backfill(JobProgress progress) {
+        boolean allYears = !checkpointRepository.existsById(CHECKPOINT);
+        int thisYear = LocalDate.now().getYear();
+        long created = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Long> routineIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM routines WHERE id > :lastId ORDER BY id LIMIT :limit",
+                    new MapSqlParameterSource("lastId", lastId).addValue("limit", chunkSize), Long.class);
+            if (routineIds.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> backfillChunk(routineIds, thisYear, allYears));
+            created += count != null ? count : 0;
+            progress.chunkCompleted(routineIds.size());
+            lastId = routineIds.get(routineIds.size() - 1);
+        }
+
+        if (allYears) {
+            JobCheckpoint checkpoint = JobCheckpoint.initial(CHECKPOINT);
+            checkpoint.advance(LocalDateTime.now(), lastId);
+            checkpointRepository.save(checkpoint);
+            backfilled = true;
+        }
+        progress.setMessage("year=" + thisYear + (allYears ? ", allYears" : ""));
+        log.info("🗓️ Created {} routine year bitmaps", created);
+        return created;
+    }
+
+    private int backfillChunk(List<Long> routineIds, int thisYear, boolean allYears) {
+        MapSqlParameterSource params = new MapSqlParameterSource("routineIds", routineIds);
+        Map<Long, Set<Integer>> missing = new HashMap<>();
+        routineIds.forEach(id -> missing.computeIfAbsent(id, k -> new TreeSet<>()).add(thisYear));
+        if (allYears) {
+            for (String table : partitionService.readableTables()) {
+                collectYears(missing, "SELECT DISTINCT routine_id, EXTRACT(YEAR FROM completed_at) FROM " + table +
+                        " WHERE routine_id IN (:routineIds)", params);
+            }
+            collectYears(missing, "SELECT DISTINCT routine_id, EXTRACT(YEAR FROM summary_month) " +
+                    "FROM routine_monthly_summaries WHERE routine_id IN (:routineIds)", params);
+        }
+        jdbcTemplate.query("SELECT routine_id, bitmap_year FROM routine_year_bitmaps WHERE routine_id IN (:routineIds)",
+                params, rs -> {
+                    Set<Integer> years = missing.get(rs.getLong(1));
+                    if (years != null) {
+                        years.remove(rs.getInt(2));
+                    }
+                });
+
+        int created = 0;
+        for (Map.Entry<Long, Set<Integer>> entry : missing.entrySet()) {
+            for (int year : entry.getValue()) {
+                if (insertIfAbsent(buildFromCompletions(entry.getKey(), year))) {
+                    created++;
+                }
+            }
+        }
+        return created;
+    }
+
+    private void collectYears(Map<Long, Set<Integer>> years, String sql, MapSqlParameterSource params) {
+        jdbcTemplate.query(sql, params, rs -> {
+            years.computeIfAbsent(rs.getLong(1), k -> new HashSet<>()).add(rs.getInt(2));
+        });
+    }
+
+    private boolean isBackfilled() {
+        if (!backfilled) {
+            backfilled = checkpointRepository.existsById(CHECKPOINT);
+        }
+        return backfilled;
+    }
+
+    private void update(Long routineId, int year, List<LocalDate> dates, boolean completed) {
+        RoutineYearBitmap bitmap = bitmapRepository.findForUpdate(routineId, year).orElse(null);
+        if (bitmap == null) {
+            // 처음 갱신하는 연도는 기존 완료 기록으로 채워 만든다 (방금 반영된 기록도 포함됨)
+            // 다른 트랜잭션이 먼저 만들었으면 그 행을 잠가 이번 변경만 반영
+            insertIfAbsent(buildFromCompletions(routineId, year));
+            bitmap = bitmapRepository.findForUpdate(routineId, year)
+                    .orElseThrow(() -> new IllegalStateException("비트맵 생성 실패: " + routineId + "/" + year));
+        }
+        for (LocalDate date : dates) {
+            bitmap.set(date, completed);
+        }
+        bitmap.setUpdatedAt(LocalDateTime.now());
+        bitmapRepository.save(bitmap);
+    }
+
+    /**
+     * @return 새로 만들었으면 true (이미 있으면 그대로 둔다)
+     */
+    private boolean insertIfAbsent(RoutineYearBitmap bitmap) {
+        MapSqlParameterSource params = new MapSqlParameterSource("routineId", bitmap.getRoutineId())
+                .addValue("year", bitmap.getYear())
+                .addValue("days", bitmap.getDays())
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        if (postgres) {
+            return jdbcTemplate.update(POSTGRES_INSERT, params) > 0;
+        }
+        try {
+            return jdbcTemplate.update(INSERT, params) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private RoutineYearBitmap buildFromCompletions(Long routineId, int year) {
+        RoutineYearBitmap bitmap = RoutineYearBitmap.empty(routineId, year);
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        for (Object[] row : completionRepository.findCompletionTimes(List.of(routineId),
+                first.atStartOfDay(), first.plusYears(1).atStartOfDay())) {
+            bitmap.set(((LocalDateTime) row[1]).toLocalDate(), true);
+        }
+        // 봉인된 연도는 파티션에서 읽는다
+        for (RoutineCompletion completion : partitionService.findCompletions(routineId,
+                first.atStartOfDay(), first.plusYears(1).atStartOfDay())) {
+            bitmap.set(completion.getCompletedAt().toLocalDate(), true);
+        }
+        // 압축된 달은 월 요약에서 읽는다
+        compactionService.findCompactedDates(routineId, first, first.plusYears(1))
+                .forEach(date -> bitmap.set(date, true));
+        return bitmap;
+    }
+}
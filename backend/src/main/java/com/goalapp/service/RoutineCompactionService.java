@@ -0,0 +1,173 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutineMonthlySummary;
+import com.goalapp.repository.RoutineMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 루틴 완료 기록 압축
+ * - jobs.compaction.after-days보다 오래된 달의 완료 기록을 루틴별 월 요약(완료 수 + 일자 비트마스크)으로 접고 원본 행을 삭제
+ * - 봉인 완료된 연도 파티션만 대상으로 한다 (hot 파티션 → 봉인 → 압축 순서).
+ *   hot 파티션의 기록은 봉인 작업이 옮긴 뒤에야 압축되므로 after-days가 짧아도 봉인할 행이 사라지지 않고,
+ *   봉인된 연도는 after-days가 지날 때까지 행 단위로 남는다.
+ * - 청크마다 요약 반영과 원본 삭제를 같은 트랜잭션으로 커밋 (중단 후 다시 실행해도 같은 행이 두 번 더해지지 않음)
+ * - 압축된 달은 완료 날짜만 남으므로 구간 집계/히트맵/연속 기록/누적 완료 수에는 합쳐지고,
+ *   행 단위 히스토리(목록/페이지)에는 나타나지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoutineCompactionService implements Job {
+
+    private final RoutineMonthlySummaryRepository summaryRepository;
+    private final CompletionPartitionService partitionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${jobs.compaction.after-days:1095}")
+    private int afterDays = 1095;
+
+    /**
+     * 이 날짜 이전 달은 압축 대상 (완료 기록 추가 불가, 실제 압축은 봉인된 연도에만 적용)
+     */
+    public LocalDate getCompactedBefore() {
+        return RoutineFrequency.MONTHLY.periodStart(LocalDate.now().minusDays(afterDays));
+    }
+
+    /**
+     * 기간 [from, until) 의 압축된 완료 날짜 (오름차순)
+     */
+    public List<LocalDate> findCompactedDates(Long routineId, LocalDate from, LocalDate until) {
+        return summaryRepository.findByRoutineIdAndMonthGreaterThanEqualAndMonthLessThanOrderByMonth(
+                        routineId, from.withDayOfMonth(1), until).stream()
+                .flatMap(summary -> summary.completedDates().stream())
+                .filter(date -> !date.isBefore(from) && date.isBefore(until))
+                .toList();
+    }
+
+    /**
+     * 압축된 완료 날짜 전체 (오름차순)
+     */
+    public List<LocalDate> findCompactedDates(Long routineId) {
+        return summaryRepository.findByRoutineIdOrderByMonth(routineId).stream()
+                .flatMap(summary -> summary.completedDates().stream())
+                .toList();
+    }
+
+    /**
+     * 모든 루틴의 압축된 완료 날짜 (루틴별 오름차순)
+     */
+    public Map<Long, List<LocalDate>> findAllCompactedDates() {
+        Map<Long, List<LocalDate>> dates = new HashMap<>();
+        for (RoutineMonthlySummary summary : summaryRepository.findAllByOrderByRoutineIdAscMonthAsc()) {
+            dates.computeIfAbsent(summary.getRoutineId(), id -> new ArrayList<>()).addAll(summary.completedDates());
+        }
+        return dates;
+    }
+
+    /**
+     * 루틴 누적 완료 수에 압축된 완료 수 반영
+     */
+    public void addSummaryCounts(List<Long> routineIds) {
+        summaryRepository.addSummaryCounts(routineIds);
+    }
+
+    /**
+     * 루틴 삭제 시 요약 정리
+     */
+    public void deleteSummaries(Long routineId) {
+        summaryRepository.deleteByRoutineId(routineId);
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ROUTINE_COMPLETION_COMPACT;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return compact(progress);
+    }
+
+    /**
+     * 보존 기간이 지난 봉인 파티션 완료 기록 압축
+     * @return 압축된 완료 기록 수
+     */
+    public long compact(JobProgress progress) {
+        LocalDate cutoff = getCompactedBefore();
+        Timestamp cutoffAt = Timestamp.valueOf(cutoff.atStartOfDay());
+        long total = 0;
+
+        for (String table : partitionService.sealedTables()) {
+            while (true) {
+                Integer compacted = transactionTemplate.execute(status -> compactChunk(table, cutoffAt));
+                if (compacted == null || compacted == 0) {
+                    break;
+                }
+                total += compacted;
+                progress.chunkCompleted(compacted);
+            }
+        }
+
+        progress.setMessage("before=" + cutoff);
+        log.info("🗜️ Compacted {} routine completions before {}", total, cutoff);
+        return total;
+    }
+
+    private int compactChunk(String table, Timestamp cutoffAt) {
+        // [id, routineId, 완료 날짜]
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, routine_id, completed_at FROM " + table + " WHERE completed_at < ? LIMIT ?",
+                (rs, rowNum) -> new Object[] {rs.getLong("id"), rs.getLong("routine_id"),
+                        rs.getTimestamp("completed_at").toLocalDateTime().toLocalDate()},
+                cutoffAt, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> routineIds = rows.stream().map(row -> (Long) row[1]).collect(Collectors.toSet());
+        Set<LocalDate> months = rows.stream().map(row -> ((LocalDate) row[2]).withDayOfMonth(1)).collect(Collectors.toSet());
+        Map<String, RoutineMonthlySummary> summaries = new HashMap<>();
+        for (RoutineMonthlySummary summary : summaryRepository.findByRoutineIdInAndMonthIn(routineIds, months)) {
+            summaries.put(key(summary.getRoutineId(), summary.getMonth()), summary);
+        }
+        for (Object[] row : rows) {
+            Long routineId = (Long) row[1];
+            LocalDate date = (LocalDate) row[2];
+            LocalDate month = date.withDayOfMonth(1);
+            summaries.computeIfAbsent(key(routineId, month), k -> RoutineMonthlySummary.empty(routineId, month))
+                    .add(date);
+        }
+        summaryRepository.saveAll(summaries.values());
+
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        namedJdbcTemplate.update("DELETE FROM " + table + " WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+        return rows.size();
+    }
+
+    private static String key(Long routineId, LocalDate month) {
+        return routineId + ":" + month;
+    }
+}
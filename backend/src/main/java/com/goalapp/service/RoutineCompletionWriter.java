@@ -0,0 +1,180 @@
+package com.goalapp.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 루틴 완료 기록 삽입 (routine_id, completion_date 유니크 키 기준 멱등)
+ * - PostgreSQL: INSERT ... ON CONFLICT DO NOTHING (동시 요청도 예외 없이 한 건만 삽입)
+ * - 그 외(H2): INSERT ... SELECT WHERE NOT EXISTS, 경합으로 유니크 위반이 나면 이미 완료된 것으로 처리
+ *   (H2는 문장 오류가 트랜잭션을 중단시키지 않음)
+ * - completion_date 컬럼 추가 이전 기록은 부팅 시 완료 시각의 날짜로 채워 유니크 키가 기존 날짜도 막도록 한다
+ */
+@Component
+@Slf4j
+public class RoutineCompletionWriter {
+
+    private static final String COLUMNS = "routine_id, completed_at, completion_date, note, contributed_goal_id";
+
+    private static final String POSTGRES_INSERT =
+            "INSERT INTO routine_completions (" + COLUMNS + ") " +
+            "VALUES (:routineId, :completedAt, :completionDate, :note, :goalId) " +
+            "ON CONFLICT (routine_id, completion_date) DO NOTHING";
+
+    private static final String PORTABLE_INSERT =
+            "INSERT INTO routine_completions (" + COLUMNS + ") " +
+            "SELECT :routineId, :completedAt, :completionDate, :note, :goalId " +
+            "WHERE NOT EXISTS (SELECT 1 FROM routine_completions " +
+            "WHERE routine_id = :routineId AND completion_date = :completionDate)";
+
+    // 컬럼 추가 이전 기록의 날짜 채우기 (같은 날 기록이 여러 건이면 가장 먼저 저장된 한 건만 채움)
+    private static final String BACKFILL_COMPLETION_DATE =
+            "UPDATE routine_completions SET completion_date = CAST(completed_at AS DATE) " +
+            "WHERE completion_date IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM routine_completions o WHERE o.routine_id = routine_completions.routine_id " +
+            "AND o.completion_date = CAST(routine_completions.completed_at AS DATE)) " +
+            "AND id = (SELECT MIN(d.id) FROM routine_completions d WHERE d.routine_id = routine_completions.routine_id " +
+            "AND d.completion_date IS NULL AND CAST(d.completed_at AS DATE) = CAST(routine_completions.completed_at AS DATE))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertSql;
+
+    public RoutineCompletionWriter(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = isPostgres(dataSource) ? POSTGRES_INSERT : PORTABLE_INSERT;
+    }
+
+    /**
+     * 해당 날짜 완료 기록이 없을 때만 삽입
+     * @param goalId 진행도를 반영할 연결 목표 (없으면 null)
+     * @return 새로 삽입했으면 true, 이미 완료된 날짜면 false
+     */
+    public boolean insertIfAbsent(Long routineId, LocalDateTime completedAt, LocalDate completionDate, String note,
+                                  Long goalId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("routineId", routineId)
+                .addValue("completedAt", Timestamp.valueOf(completedAt))
+                .addValue("completionDate", Date.valueOf(completionDate))
+                .addValue("note", note)
+                .addValue("goalId", goalId, Types.BIGINT);
+        try {
+            return jdbcTemplate.update(insertSql, params) > 0;
+        } catch (DuplicateKeyException e) {
+            log.debug("Concurrent completion ignored: routineId={}, date={}", routineId, completionDate);
+            return false;
+        }
+    }
+
+    /**
+     * 여러 완료 기록을 한 번의 JDBC 배치로 삽입 (이미 있는 날짜는 건너뜀)
+     * @param goalIds 루틴 ID → 연결 목표 ID (연결 없는 루틴은 없음)
+     * @return 항목별 삽입 여부
+     */
+    public boolean[] insertAllIfAbsent(List<CompletionEntry> entries, LocalTime timeOfDay, Map<Long, Long> goalIds) {
+        MapSqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("routineId", entry.getRoutineId())
+                        .addValue("completedAt", Timestamp.valueOf(entry.getDate().atTime(timeOfDay)))
+                        .addValue("completionDate", Date.valueOf(entry.getDate()))
+                        .addValue("note", entry.getNote())
+                        .addValue("goalId", goalIds.get(entry.getRoutineId()), Types.BIGINT))
+                .toArray(MapSqlParameterSource[]::new);
+
+        int[] counts = jdbcTemplate.batchUpdate(insertSql, batch);
+        boolean[] inserted = new boolean[counts.length];
+        List<Integer> unknown = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(i);
+            } else {
+                inserted[i] = counts[i] > 0;
+            }
+        }
+        if (!unknown.isEmpty()) {
+            recheckInserted(entries, unknown, timeOfDay, inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * 드라이버가 배치 건별 결과를 주지 않은 항목(SUCCESS_NO_INFO)의 삽입 여부 확인
+     * 이번 배치가 쓴 행만 완료 시각이 요청 시각의 시:분과 같다 (이미 있던 날짜는 다른 시각으로 남아 있음).
+     */
+    private void recheckInserted(List<CompletionEntry> entries, List<Integer> unknown, LocalTime timeOfDay,
+                                 boolean[] inserted) {
+        Set<Long> routineIds = new HashSet<>();
+        Set<Date> dates = new HashSet<>();
+        for (int i : unknown) {
+            routineIds.add(entries.get(i).getRoutineId());
+            dates.add(Date.valueOf(entries.get(i).getDate()));
+        }
+        // 시각은 DB 정밀도(마이크로초)와 무관하게 밀리초까지 비교
+        LocalTime written = timeOfDay.truncatedTo(ChronoUnit.MILLIS);
+        Set<String> ours = new HashSet<>();
+        jdbcTemplate.query("SELECT routine_id, completion_date, completed_at FROM routine_completions " +
+                        "WHERE routine_id IN (:routineIds) AND completion_date IN (:dates)",
+                new MapSqlParameterSource()
+                        .addValue("routineIds", routineIds)
+                        .addValue("dates", dates),
+                rs -> {
+                    LocalTime time = rs.getTimestamp("completed_at").toLocalDateTime().toLocalTime();
+                    if (time.truncatedTo(ChronoUnit.MILLIS).equals(written)) {
+                        ours.add(rs.getLong("routine_id") + ":" + rs.getDate("completion_date").toLocalDate());
+                    }
+                });
+        for (int i : unknown) {
+            inserted[i] = ours.contains(entries.get(i).getRoutineId() + ":" + entries.get(i).getDate());
+        }
+    }
+
+    /**
+     * completion_date가 비어 있는 기존 기록을 완료 시각의 날짜로 채움 (이미 채워져 있으면 아무것도 하지 않음)
+     * 같은 날 기록이 이미 있어 채울 수 없는 중복 기록은 null로 남는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCompletionDates() {
+        int filled = jdbcTemplate.update(BACKFILL_COMPLETION_DATE, new MapSqlParameterSource());
+        if (filled > 0) {
+            log.info("📅 Backfilled completion_date for {} routine completions", filled);
+        }
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM routine_completions WHERE completion_date IS NULL",
+                new MapSqlParameterSource(), Integer.class);
+        if (remaining != null && remaining > 0) {
+            log.warn("⚠️ {} duplicate same-day routine completions left without completion_date", remaining);
+        }
+    }
+
+    static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류 확인 실패, 표준 SQL 삽입 사용: {}", e.getMessage());
+            return false;
+        }
+    }
+}
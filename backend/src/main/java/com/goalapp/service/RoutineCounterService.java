@@ -0,0 +1,319 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutinePeriodCounter;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutinePeriodCounterRepository;
+import com.goalapp.repository.RoutineRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 루틴 주기별 완료 카운터 관리
+ * - 완료/취소 시 현재 주기 카운터를 증감 (호출자의 트랜잭션에 참여)
+ * - 카운터 행이 없으면 해당 주기의 완료 기록 수로 초기화하여 기존 데이터와 맞춘다 (지난 주기 소급 입력, 조회 포함)
+ *   동시에 같은 행을 만들면 먼저 만든 행에 증감만 반영 (PostgreSQL은 ON CONFLICT, 그 외(H2)는 유니크 위반 후 재시도)
+ * - 카운터가 어긋난 경우를 위한 재구성 작업 제공 (ROUTINE_COUNTER_REBUILD)
+ *   현재 주기 카운터와 루틴의 누적 완료 수/마지막 완료 시각을 완료 기록으로부터 다시 계산
+ *   누적 통계 도입 전 루틴을 위해 부팅 시 한 번 자동으로 실행하고 체크포인트를 남긴다.
+ */
+@Service
+@Slf4j
+public class RoutineCounterService implements Job {
+
+    private static final String CHECKPOINT = "routine-counter-backfill";
+
+    private static final String INSERT =
+            "INSERT INTO routine_period_counters (routine_id, period_start, completion_count, updated_at) " +
+            "VALUES (:routineId, :periodStart, :count, :now)";
+
+    // 다른 트랜잭션이 먼저 만든 행에는 이번 증감만 더한다
+    private static final String POSTGRES_UPSERT = INSERT + " " +
+            "ON CONFLICT (routine_id, period_start) DO UPDATE SET " +
+            "completion_count = GREATEST(routine_period_counters.completion_count + :delta, 0), " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private final RoutinePeriodCounterRepository counterRepository;
+    private final RoutineCompletionRepository completionRepository;
+    private final RoutineRepository routineRepository;
+    private final CompletionPartitionService partitionService;
+    private final RoutineCompactionService compactionService;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    public RoutineCounterService(RoutinePeriodCounterRepository counterRepository,
+                                 RoutineCompletionRepository completionRepository,
+                                 RoutineRepository routineRepository,
+                                 CompletionPartitionService partitionService,
+                                 RoutineCompactionService compactionService,
+                                 JobCheckpointRepository checkpointRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 NamedParameterJdbcTemplate jdbcTemplate,
+                                 DataSource dataSource) {
+        this.counterRepository = counterRepository;
+        this.completionRepository = completionRepository;
+        this.routineRepository = routineRepository;
+        this.partitionService = partitionService;
+        this.compactionService = compactionService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = RoutineCompletionWriter.isPostgres(dataSource);
+    }
+
+    /**
+     * 현재 주기 완료 횟수 조회 (쓰기 트랜잭션 안에서 호출, 카운터 행이 없으면 완료 기록 수로 만든다)
+     */
+    public int getCount(Routine routine, LocalDate periodStart) {
+        return counterRepository.findByRoutineIdAndPeriodStart(routine.getId(), periodStart)
+                .map(RoutinePeriodCounter::getCompletionCount)
+                .orElseGet(() -> seed(routine, periodStart, 0));
+    }
+
+    /**
+     * 완료 기록 저장 후 호출
+     */
+    public void increment(Routine routine, LocalDate periodStart) {
+        add(routine, periodStart, 1);
+    }
+
+    /**
+     * 완료 기록 여러 건 저장 후 호출 (일괄 완료/소급 입력)
+     */
+    public void add(Routine routine, LocalDate periodStart, int count) {
+        adjust(routine, periodStart, count);
+    }
+
+    /**
+     * 완료 기록 삭제 후 호출
+     */
+    public void decrement(Routine routine, LocalDate periodStart) {
+        adjust(routine, periodStart, -1);
+    }
+
+    /**
+     * 주기 변경 등으로 기존 카운터가 의미 없어진 경우 현재 주기부터 다시 시작
+     */
+    public void reset(Routine routine, LocalDate today) {
+        counterRepository.deleteByRoutineId(routine.getId());
+        seed(routine, routine.getFrequency().periodStart(today), 0);
+    }
+
+    /**
+     * 루틴 삭제 시 카운터 정리
+     */
+    public void deleteCounters(Long routineId) {
+        counterRepository.deleteByRoutineId(routineId);
+    }
+
+    /**
+     * 여러 루틴의 현재 주기 완료 횟수 일괄 조회 (routineId -> count)
+     * 읽기 전용 트랜잭션에서 호출되므로 카운터 행이 없는 루틴은 행을 만들지 않고 완료 기록 수를 한 번에 집계
+     * (행은 다음 완료/취소 때 같은 수로 만들어진다)
+     */
+    public Map<Long, Integer> getCurrentCounts(List<Routine> routines, LocalDate today) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (routines.isEmpty()) {
+            return counts;
+        }
+
+        Map<Long, LocalDate> periodStarts = new HashMap<>();
+        for (Routine routine : routines) {
+            periodStarts.put(routine.getId(), routine.getFrequency().periodStart(today));
+        }
+        for (RoutinePeriodCounter counter : counterRepository.findByRoutineIdInAndPeriodStartIn(
+                periodStarts.keySet(), new LinkedHashSet<>(periodStarts.values()))) {
+            if (counter.getPeriodStart().equals(periodStarts.get(counter.getRoutineId()))) {
+                counts.put(counter.getRoutineId(), counter.getCompletionCount());
+            }
+        }
+
+        List<Routine> missing = routines.stream()
+                .filter(routine -> !counts.containsKey(routine.getId()))
+                .toList();
+        if (!missing.isEmpty()) {
+            counts.putAll(countCurrentPeriods(missing, today));
+        }
+        return counts;
+    }
+
+    /**
+     * 누적 완료 수/마지막 완료 시각 도입 전에 만든 루틴은 0/null이므로 부팅 시 한 번 재구성
+     * (체크포인트가 있으면 건너뜀, 이후로는 완료/취소 경로가 증감으로 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (checkpointRepository.existsById(CHECKPOINT)) {
+            return;
+        }
+        if (routineRepository.count() > 0) {
+            rebuildCurrentPeriods(JobProgress.untracked());
+        }
+        JobCheckpoint checkpoint = JobCheckpoint.initial(CHECKPOINT);
+        checkpoint.advance(LocalDateTime.now(), 0L);
+        checkpointRepository.save(checkpoint);
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ROUTINE_COUNTER_REBUILD;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return rebuildCurrentPeriods(progress);
+    }
+
+    /**
+     * 모든 루틴의 현재 주기 카운터와 누적 완료 통계를 완료 기록으로부터 재구성
+     * @return 처리된 루틴 수
+     */
+    public long rebuildCurrentPeriods(JobProgress progress) {
+        LocalDate today = LocalDate.now();
+        long total = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<Routine> routines = routineRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+            if (routines.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                rebuildChunk(routines, today);
+                List<Long> routineIds = routines.stream().map(Routine::getId).toList();
+                routineRepository.recalculateCompletionStats(routineIds);
+                partitionService.addPartitionedStats(routineIds);
+                compactionService.addSummaryCounts(routineIds);
+            });
+            lastId = routines.get(routines.size() - 1).getId();
+            total += routines.size();
+            progress.chunkCompleted(routines.size());
+        }
+
+        log.info("✅ Rebuilt period counters for {} routines", total);
+        return total;
+    }
+
+    private void rebuildChunk(List<Routine> routines, LocalDate today) {
+        LocalDate weekStart = RoutineFrequency.WEEKLY.periodStart(today);
+        LocalDate monthStart = RoutineFrequency.MONTHLY.periodStart(today);
+        List<Long> routineIds = routines.stream().map(Routine::getId).toList();
+        Map<Long, Integer> counts = countCurrentPeriods(routines, today);
+
+        Map<Long, RoutinePeriodCounter> existing = new HashMap<>();
+        for (RoutinePeriodCounter counter : counterRepository.findByRoutineIdInAndPeriodStartIn(
+                routineIds, Set.of(today, weekStart, monthStart))) {
+            Routine routine = routines.stream()
+                    .filter(r -> r.getId().equals(counter.getRoutineId()))
+                    .findFirst()
+                    .orElseThrow();
+            if (counter.getPeriodStart().equals(routine.getFrequency().periodStart(today))) {
+                existing.put(counter.getRoutineId(), counter);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RoutinePeriodCounter> counters = routines.stream()
+                .map(routine -> {
+                    RoutinePeriodCounter counter = existing.getOrDefault(routine.getId(),
+                            RoutinePeriodCounter.builder()
+                                    .routineId(routine.getId())
+                                    .periodStart(routine.getFrequency().periodStart(today))
+                                    .build());
+                    counter.setCompletionCount(counts.getOrDefault(routine.getId(), 0));
+                    counter.setUpdatedAt(now);
+                    return counter;
+                })
+                .toList();
+        counterRepository.saveAll(counters);
+    }
+
+    /**
+     * 루틴별 현재 주기 완료 기록 수를 한 번에 집계 (routineId -> count, 완료 기록이 없는 루틴은 결과에 없음)
+     */
+    private Map<Long, Integer> countCurrentPeriods(List<Routine> routines, LocalDate today) {
+        LocalDate weekStart = RoutineFrequency.WEEKLY.periodStart(today);
+        LocalDate monthStart = RoutineFrequency.MONTHLY.periodStart(today);
+        LocalDate from = weekStart.isBefore(monthStart) ? weekStart : monthStart;
+        Map<Long, RoutineFrequency> frequencies = new HashMap<>();
+        routines.forEach(routine -> frequencies.put(routine.getId(), routine.getFrequency()));
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : completionRepository.countCompletionsByPeriod(frequencies.keySet(),
+                today.atStartOfDay(), weekStart.atStartOfDay(), monthStart.atStartOfDay(),
+                from.atStartOfDay(), today.plusDays(1).atStartOfDay())) {
+            Long routineId = (Long) row[0];
+            Number count = switch (frequencies.get(routineId)) {
+                case DAILY -> (Number) row[1];
+                case WEEKLY -> (Number) row[2];
+                case MONTHLY -> (Number) row[3];
+            };
+            counts.put(routineId, count.intValue());
+        }
+        return counts;
+    }
+
+    /**
+     * 카운터 증감 (0 미만은 0), 행이 없으면 완료 기록 수로 초기화
+     * 호출자가 완료 기록을 이미 쓴 뒤이므로 초기값에는 이번 증감이 포함되어 있다.
+     */
+    private void adjust(Routine routine, LocalDate periodStart, int delta) {
+        if (counterRepository.adjustCount(routine.getId(), periodStart, delta, LocalDateTime.now()) == 0) {
+            seed(routine, periodStart, delta);
+        }
+    }
+
+    /**
+     * @return 완료 기록으로 센 이 주기 완료 수 (이번 증감 포함)
+     */
+    private int seed(Routine routine, LocalDate periodStart, int delta) {
+        LocalDate periodEnd = routine.getFrequency().nextPeriodStart(periodStart);
+        long count = completionRepository.countByRoutineIdAndCompletedAtGreaterThanEqualAndCompletedAtLessThan(
+                routine.getId(), periodStart.atStartOfDay(), periodEnd.atStartOfDay());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("routineId", routine.getId())
+                .addValue("periodStart", Date.valueOf(periodStart))
+                .addValue("count", Math.toIntExact(count))
+                .addValue("delta", delta)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        if (postgres) {
+            jdbcTemplate.update(POSTGRES_UPSERT, params);
+            return Math.toIntExact(count);
+        }
+        try {
+            jdbcTemplate.update(INSERT, params);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 행을 만든 경우 (H2는 문장 오류가 트랜잭션을 중단시키지 않음)
+            counterRepository.adjustCount(routine.getId(), periodStart, delta, LocalDateTime.now());
+        }
+        return Math.toIntExact(count);
+    }
+}
@@ -0,0 +1,30 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.Routine;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 루틴의 현재 주기 달성 상태
+ * 주기 구간은 [periodStart, periodEnd) 이며 주기 안에 목표 횟수만큼 완료하면 달성으로 본다.
+ */
+@Value
+public class RoutinePeriodStatus {
+    Routine routine;
+    LocalDate periodStart;
+    LocalDate periodEnd;
+    long periodCompletions;
+    boolean completedToday;
+
+    public boolean isSatisfied() {
+        return periodCompletions >= routine.getTargetCount();
+    }
+
+    /**
+     * 오늘 목록에 노출할지 여부 (미달성 주기이거나 오늘 완료한 루틴)
+     */
+    public boolean isShownToday() {
+        return !isSatisfied() || completedToday;
+    }
+}
@@ -1,20 +1,37 @@
 package com.goalapp.service;
 
+import com.goalapp.dto.request.CompletionCursor;
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.entity.Goal;
 import com.goalapp.entity.Routine;
 import com.goalapp.entity.RoutineCompletion;
 import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutineYearBitmap;
+import com.goalapp.exception.GoalNotFoundException;
+import com.goalapp.repository.GoalRepository;
 import com.goalapp.repository.RoutineCompletionRepository;
 import com.goalapp.repository.RoutineRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +41,18 @@ public class RoutineService {
 
     private final RoutineRepository routineRepository;
     private final RoutineCompletionRepository completionRepository;
+    private final RoutineCounterService counterService;
+    private final RoutineCompletionWriter completionWriter;
+    private final RoutineBitmapService bitmapService;
+    private final RoutineStreakService streakService;
+    private final CompletionPartitionService partitionService;
+    private final RoutineCompactionService compactionService;
+    private final GoalRepository goalRepository;
+    private final DashboardService dashboardService;
+    private final DailyStatsService dailyStatsService;
+    private final ReviewReportService reviewReportService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 전체 루틴 조회
@@ -55,10 +84,44 @@ public class RoutineService {
     }
 
     /**
-     * 오늘의 루틴 조회 (매일 루틴 + 주간 루틴 + 월간 루틴)
+     * 오늘의 루틴 조회
+     * 현재 주기(일/주/월)를 아직 달성하지 않은 루틴과 오늘 완료한 루틴만 포함
      */
     public List<Routine> getTodayRoutines() {
-        return getActiveRoutines();
+        return getTodayRoutineStatuses().stream()
+                .map(RoutinePeriodStatus::getRoutine)
+                .toList();
+    }
+
+    /**
+     * 오늘의 루틴과 주기 달성 상태 조회
+     */
+    public List<RoutinePeriodStatus> getTodayRoutineStatuses() {
+        return getPeriodStatuses(getActiveRoutines(), LocalDate.now()).stream()
+                .filter(RoutinePeriodStatus::isShownToday)
+                .toList();
+    }
+
+    /**
+     * 루틴별 현재 주기 구간과 달성 여부 계산
+     * 주기 카운터와 오늘 완료 여부를 각각 한 번의 일괄 조회로 가져온다.
+     */
+    public List<RoutinePeriodStatus> getPeriodStatuses(List<Routine> routines, LocalDate today) {
+        if (routines.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> counts = counterService.getCurrentCounts(routines, today);
+        Set<Long> completedTodayIds = getCompletedRoutineIds(
+                routines.stream().map(Routine::getId).toList(), RoutineFrequency.DAILY, today);
+
+        return routines.stream()
+                .map(routine -> new RoutinePeriodStatus(routine,
+                        routine.getFrequency().periodStart(today),
+                        routine.getFrequency().nextPeriodStart(today),
+                        counts.getOrDefault(routine.getId(), 0),
+                        completedTodayIds.contains(routine.getId())))
+                .toList();
     }
 
     /**
@@ -68,7 +131,10 @@ public class RoutineService {
     public Routine createRoutine(Routine routine) {
         validateRoutine(routine);
         log.info("루틴 생성: {}", routine.getTitle());
-        return routineRepository.save(routine);
+        Routine savedRoutine = routineRepository.save(routine);
+        bitmapService.initialize(savedRoutine.getId());
+        dashboardService.routineSaved(savedRoutine);
+        return savedRoutine;
     }
 
     /**
@@ -81,6 +147,11 @@ public class RoutineService {
         if (routine.getFrequency() == null) {
             throw new IllegalArgumentException("반복 주기는 필수입니다");
         }
+        int maxTargetCount = routine.getFrequency().maxTargetCount();
+        if (routine.getTargetCount() == null || routine.getTargetCount() < 1
+                || routine.getTargetCount() > maxTargetCount) {
+            throw new IllegalArgumentException("목표 횟수는 1 이상 " + maxTargetCount + " 이하여야 합니다");
+        }
     }
 
     /**
@@ -96,9 +167,28 @@ public class RoutineService {
         if (updateData.getDescription() != null) {
             routine.setDescription(updateData.getDescription());
         }
+        RoutineFrequency previousFrequency = routine.getFrequency();
+        boolean frequencyChanged = updateData.getFrequency() != null
+                && updateData.getFrequency() != previousFrequency;
+        boolean targetChanged = updateData.getTargetCount() != null
+                && !updateData.getTargetCount().equals(routine.getTargetCount());
         if (updateData.getFrequency() != null) {
             routine.setFrequency(updateData.getFrequency());
         }
+        if (updateData.getTargetCount() != null) {
+            routine.setTargetCount(updateData.getTargetCount());
+        }
+        validateRoutine(routine);
+
+        // 주기가 바뀌면 기존 주기 카운터는 의미가 없으므로 현재 주기부터 다시 센다
+        if (frequencyChanged) {
+            counterService.reset(routine, LocalDate.now());
+            dailyStatsService.routineFrequencyChanged(id, previousFrequency, routine.getFrequency());
+        }
+        // 달성 기준이 바뀌면 연속 기록도 새 기준으로 다시 계산
+        if (frequencyChanged || targetChanged) {
+            streakService.recompute(routine);
+        }
 
         log.info("루틴 수정: {}", routine.getTitle());
         return routineRepository.save(routine);
@@ -106,12 +196,66 @@ public class RoutineService {
 
     /**
      * 루틴 삭제
+     * 엔티티 삭제는 cascade로 완료 기록을 모두 로드해 한 건씩 지우므로,
+     * 카운터/비트맵 → 완료 기록 → 루틴 순으로 일괄 DELETE 한다.
      */
     @Transactional
     public void deleteRoutine(Long id) {
+        if (!routineRepository.existsById(id)) {
+            throw new IllegalArgumentException("루틴을 찾을 수 없습니다: " + id);
+        }
+        dailyStatsService.routineDeleted(id);
+        counterService.deleteCounters(id);
+        bitmapService.deleteBitmaps(id);
+        compactionService.deleteSummaries(id);
+        int completions = completionRepository.deleteAllByRoutineId(id) + partitionService.deleteByRoutineId(id);
+        routineRepository.deleteRoutineById(id);
+        dashboardService.routineDeleted(id);
+        log.info("루틴 삭제: id={}, 완료 기록 {}건", id, completions);
+    }
+
+    /**
+     * 루틴 비활성화 (기록은 유지하고 목록/오늘의 루틴에서만 제외)
+     */
+    @Transactional
+    public Routine deactivateRoutine(Long id) {
         Routine routine = getRoutineById(id);
-        log.info("루틴 삭제: {}", routine.getTitle());
-        routineRepository.delete(routine);
+        routine.deactivate();
+        dashboardService.routineSaved(routine);
+        log.info("루틴 비활성화: {}", routine.getTitle());
+        return routineRepository.save(routine);
+    }
+
+    /**
+     * 루틴을 목표에 연결 (이후 완료부터 목표 진행도에 반영, 기존 완료 기록은 소급하지 않음)
+     * @param progressTarget 목표의 달성 횟수 (null이면 목표에 설정된 값 유지)
+     */
+    @Transactional
+    public Routine linkGoal(Long routineId, Long goalId, Integer progressTarget) {
+        Routine routine = getRoutineById(routineId);
+        Goal goal = goalRepository.findById(goalId)
+                .orElseThrow(() -> new GoalNotFoundException("Goal not found with id: " + goalId));
+        if (progressTarget != null) {
+            goal.setProgressTarget(progressTarget);
+            goalRepository.save(goal);
+        }
+        if (!goal.hasProgressTarget()) {
+            throw new IllegalArgumentException("목표 달성 횟수가 설정되지 않은 목표입니다: " + goalId);
+        }
+        routine.setGoalId(goalId);
+        log.info("루틴 목표 연결: {} -> {}", routine.getTitle(), goal.getTitle());
+        return routineRepository.save(routine);
+    }
+
+    /**
+     * 루틴 목표 연결 해제 (이미 반영된 진행도는 유지)
+     */
+    @Transactional
+    public Routine unlinkGoal(Long routineId) {
+        Routine routine = getRoutineById(routineId);
+        routine.setGoalId(null);
+        log.info("루틴 목표 연결 해제: {}", routine.getTitle());
+        return routineRepository.save(routine);
     }
 
     /**
@@ -121,72 +265,292 @@ public class RoutineService {
     public Routine toggleRoutineActive(Long id) {
         Routine routine = getRoutineById(id);
         routine.setActive(!routine.isActive());
+        dashboardService.routineSaved(routine);
         log.info("루틴 활성화 토글: {} -> {}", routine.getTitle(), routine.isActive());
         return routineRepository.save(routine);
     }
 
     /**
-     * 루틴 완료 체크
+     * 루틴 완료 체크 (하루 1회, 주기당 목표 횟수까지)
+     * 완료 기록은 (routine_id, completion_date) 유니크 키 기준으로 한 문장에서 멱등 삽입하므로
+     * 여러 기기에서 동시에 완료해도 한 건만 저장되고 나머지는 기존 기록을 반환한다.
+     * 목표에 연결된 루틴은 새로 삽입된 경우에만 목표 진행도를 1 올린다.
      */
     @Transactional
     public RoutineCompletion completeRoutine(Long routineId, String note) {
         Routine routine = getRoutineById(routineId);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        LocalDate periodStart = routine.getFrequency().periodStart(today);
+
+        // 이번 주기 목표 횟수를 이미 채웠는지 확인
+        int periodCount = counterService.getCount(routine, periodStart);
+        if (periodCount >= routine.getTargetCount()) {
+            Optional<RoutineCompletion> periodCompletion = findCurrentPeriodCompletion(routine);
+            if (periodCompletion.isPresent()) {
+                log.warn("루틴 이미 이번 주기 목표 달성: {}", routine.getTitle());
+                return periodCompletion.get();
+            }
+        }
 
-        // 오늘 이미 완료했는지 확인
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        Optional<RoutineCompletion> todayCompletion = completionRepository.findTodayCompletion(routineId, startOfDay);
-        if (todayCompletion.isPresent()) {
+        if (completionWriter.insertIfAbsent(routineId, now, today, note, routine.getGoalId())) {
+            log.info("루틴 완료: {}", routine.getTitle());
+            routineRepository.incrementCompletionCount(routineId, now);
+            counterService.increment(routine, periodStart);
+            bitmapService.mark(routineId, today);
+            streakService.onCompleted(routine, periodStart, periodCount + 1);
+            dashboardService.routineCompleted(routineId, today);
+            dailyStatsService.routineCompletionsAdded(routine.getFrequency(), List.of(today));
+            if (routine.getGoalId() != null) {
+                goalRepository.adjustProgress(routine.getGoalId(), 1);
+            }
+        } else {
             log.warn("루틴 이미 오늘 완료됨: {}", routine.getTitle());
-            return todayCompletion.get();
         }
 
-        RoutineCompletion completion = RoutineCompletion.builder()
-                .routine(routine)
-                .note(note)
-                .build();
+        return completionRepository.findByRoutineIdAndCompletionDate(routineId, today)
+                .orElseThrow(() -> new IllegalStateException("완료 기록을 찾을 수 없습니다: " + routineId));
+    }
 
-        log.info("루틴 완료: {}", routine.getTitle());
-        return completionRepository.save(completion);
+    /**
+     * 여러 루틴/날짜 일괄 완료 (소급 입력 포함)
+     * - 요청 내 중복과 기존 기록을 한 번의 조회로 걸러낸 뒤 나머지를 한 번의 JDBC 배치로 삽입
+     * - 과거 날짜는 요청 시각의 시:분으로 기록 (미래 날짜는 거부)
+     * - 지난 사실을 기록하는 용도이므로 주기 목표 횟수 상한은 적용하지 않음
+     * - 파티션으로 봉인된 연도와 월 요약으로 압축된 달은 읽기 전용이므로 거부
+     * @return 새로 삽입된 건수
+     */
+    @Transactional
+    public int completeRoutinesBatch(List<CompletionEntry> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        // 요청 내 (루틴, 날짜) 중복 제거
+        Set<Integer> partitionedYears = partitionService.getPartitionedYears();
+        LocalDate compactedBefore = compactionService.getCompactedBefore();
+        Map<String, CompletionEntry> unique = new LinkedHashMap<>();
+        for (CompletionEntry entry : entries) {
+            if (entry.getDate().isAfter(today)) {
+                throw new IllegalArgumentException("미래 날짜는 완료할 수 없습니다: " + entry.getDate());
+            }
+            if (partitionedYears.contains(entry.getDate().getYear())) {
+                throw new IllegalArgumentException("봉인된 연도의 완료 기록은 추가할 수 없습니다: " + entry.getDate());
+            }
+            if (entry.getDate().isBefore(compactedBefore)) {
+                throw new IllegalArgumentException("압축된 기간의 완료 기록은 추가할 수 없습니다: " + entry.getDate());
+            }
+            unique.putIfAbsent(entry.getRoutineId() + ":" + entry.getDate(), entry);
+        }
+
+        Set<Long> routineIds = unique.values().stream().map(CompletionEntry::getRoutineId).collect(Collectors.toSet());
+        Map<Long, Routine> routines = routineRepository.findAllById(routineIds).stream()
+                .collect(Collectors.toMap(Routine::getId, routine -> routine));
+        for (Long routineId : routineIds) {
+            if (!routines.containsKey(routineId)) {
+                throw new IllegalArgumentException("루틴을 찾을 수 없습니다: " + routineId);
+            }
+        }
+
+        // 기존 완료 기록과 중복 제거 (조회 1회)
+        LocalDate minDate = unique.values().stream().map(CompletionEntry::getDate).min(LocalDate::compareTo).orElse(today);
+        LocalDate maxDate = unique.values().stream().map(CompletionEntry::getDate).max(LocalDate::compareTo).orElse(today);
+        Set<String> existing = new HashSet<>();
+        for (Object[] row : completionRepository.findCompletionTimes(routineIds,
+                minDate.atStartOfDay(), maxDate.plusDays(1).atStartOfDay())) {
+            existing.add(row[0] + ":" + ((LocalDateTime) row[1]).toLocalDate());
+        }
+        List<CompletionEntry> toInsert = unique.entrySet().stream()
+                .filter(entry -> !existing.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (toInsert.isEmpty()) {
+            return 0;
+        }
+
+        LocalTime timeOfDay = now.toLocalTime();
+        Map<Long, Long> goalIds = routines.values().stream()
+                .filter(routine -> routine.getGoalId() != null)
+                .collect(Collectors.toMap(Routine::getId, Routine::getGoalId));
+        boolean[] inserted = completionWriter.insertAllIfAbsent(toInsert, timeOfDay, goalIds);
+
+        // 루틴별 누적 완료 수, 주기별 카운터 갱신
+        Map<Long, List<LocalDate>> insertedDates = new HashMap<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i]) {
+                CompletionEntry entry = toInsert.get(i);
+                insertedDates.computeIfAbsent(entry.getRoutineId(), id -> new ArrayList<>()).add(entry.getDate());
+            }
+        }
+        int total = 0;
+        for (Map.Entry<Long, List<LocalDate>> entry : insertedDates.entrySet()) {
+            Routine routine = routines.get(entry.getKey());
+            List<LocalDate> dates = entry.getValue();
+            LocalDate latest = dates.stream().max(LocalDate::compareTo).orElseThrow();
+            routineRepository.addCompletionCount(routine.getId(), dates.size(), latest.atTime(timeOfDay));
+
+            Map<LocalDate, Long> perPeriod = dates.stream()
+                    .collect(Collectors.groupingBy(date -> routine.getFrequency().periodStart(date), Collectors.counting()));
+            perPeriod.forEach((periodStart, count) -> counterService.add(routine, periodStart, Math.toIntExact(count)));
+            bitmapService.markAll(routine.getId(), dates);
+            dailyStatsService.routineCompletionsAdded(routine.getFrequency(), dates);
+            reviewReportService.routineCompletionsChanged(dates);
+            // 소급 입력은 주기 순서가 뒤섞이므로 해당 루틴만 이력으로 재계산
+            streakService.recompute(routine);
+            if (routine.getGoalId() != null) {
+                goalRepository.adjustProgress(routine.getGoalId(), dates.size());
+            }
+            if (dates.contains(today)) {
+                dashboardService.routineCompleted(routine.getId(), today);
+            }
+            total += dates.size();
+        }
+
+        log.info("루틴 일괄 완료: 요청 {}건, 삽입 {}건", entries.size(), total);
+        return total;
     }
 
     /**
-     * 루틴 완료 취소 (오늘 완료 기록 삭제)
+     * 루틴 완료 취소 (현재 주기의 가장 최근 완료 기록 삭제)
      */
     @Transactional
     public void uncompleteRoutine(Long routineId) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        Optional<RoutineCompletion> todayCompletion = completionRepository.findTodayCompletion(routineId, startOfDay);
+        Routine routine = getRoutineById(routineId);
+        Optional<RoutineCompletion> periodCompletion = findCurrentPeriodCompletion(routine);
 
-        if (todayCompletion.isPresent()) {
+        if (periodCompletion.isPresent()) {
             log.info("루틴 완료 취소: routineId={}", routineId);
-            completionRepository.delete(todayCompletion.get());
+            LocalDate periodStart = routine.getFrequency().periodStart(LocalDate.now());
+            int periodCount = counterService.getCount(routine, periodStart);
+            completionRepository.delete(periodCompletion.get());
+            routineRepository.decrementCompletionCount(routineId);
+            counterService.decrement(routine, periodStart);
+            bitmapService.unmark(routineId, periodCompletion.get().getCompletedAt().toLocalDate());
+            streakService.onUncompleted(routine, periodStart, periodCount - 1);
+            dashboardService.routineUncompleted(routineId, periodCompletion.get().getCompletedAt().toLocalDate());
+            dailyStatsService.routineCompletionRemoved(routine.getFrequency(),
+                    periodCompletion.get().getCompletedAt().toLocalDate());
+            // 월간 루틴은 이번 주기 완료가 지난주에 있을 수 있음
+            reviewReportService.routineCompletionsChanged(List.of(periodCompletion.get().getCompletedAt().toLocalDate()));
+            // 완료 당시 반영된 목표에서 차감 (연결이 바뀌었어도 같은 목표)
+            if (periodCompletion.get().getContributedGoalId() != null) {
+                goalRepository.adjustProgress(periodCompletion.get().getContributedGoalId(), -1);
+            }
         } else {
-            log.warn("오늘 완료 기록이 없습니다: routineId={}", routineId);
+            log.warn("이번 주기 완료 기록이 없습니다: routineId={}", routineId);
         }
     }
 
+    private Optional<RoutineCompletion> findCurrentPeriodCompletion(Routine routine) {
+        LocalDateTime periodStart = routine.getFrequency().periodStart(LocalDate.now()).atStartOfDay();
+        return completionRepository
+                .findFirstByRoutineIdAndCompletedAtGreaterThanEqualOrderByCompletedAtDesc(routine.getId(), periodStart);
+    }
+
     /**
-     * 루틴 완료 히스토리 조회
+     * 루틴 완료 히스토리 조회 (봉인된 연도 파티션 포함)
      */
     public List<RoutineCompletion> getRoutineCompletions(Long routineId) {
-        return completionRepository.findByRoutineIdOrderByCompletedAtDesc(routineId);
+        List<RoutineCompletion> completions = new ArrayList<>(
+                completionRepository.findByRoutineIdOrderByCompletedAtDesc(routineId));
+        completions.addAll(partitionService.findCompletions(routineId));
+        return completions;
     }
 
     /**
-     * 특정 기간의 완료 히스토리 조회
+     * 완료 히스토리 키셋 페이지 조회
+     * hot 파티션에서 모자란 만큼만 봉인된 연도 파티션에서 이어서 읽는다 (파티션 기록이 모두 더 오래됨).
+     * @param cursor 이전 페이지 마지막 기록 (null이면 첫 페이지)
+     * @return 다음 페이지 존재 여부 판단을 위해 최대 size + 1 개
+     */
+    public List<RoutineCompletion> getRoutineCompletionPage(Long routineId, CompletionCursor cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        PageRequest pageable = PageRequest.of(0, size + 1);
+        List<RoutineCompletion> page = new ArrayList<>(cursor == null
+                ? completionRepository.findFirstPage(routineId, pageable)
+                : completionRepository.findPageBefore(routineId, cursor.getCompletedAt(), cursor.getId(), pageable));
+        if (page.size() <= size) {
+            RoutineCompletion last = page.isEmpty() ? null : page.get(page.size() - 1);
+            LocalDateTime completedAt = last != null ? last.getCompletedAt() : cursor != null ? cursor.getCompletedAt() : null;
+            Long id = last != null ? last.getId() : cursor != null ? cursor.getId() : null;
+            page.addAll(partitionService.findPageBefore(routineId, completedAt, id, size + 1 - page.size()));
+        }
+        return page;
+    }
+
+    /**
+     * 기간 [from, to] 의 구간별 완료 횟수 (완료가 있는 구간만, 구간 시작일 순)
+     * 일/월 단위는 SQL에서 집계하고, 주 단위는 일별 집계를 월요일 기준으로 합친다.
+     * 봉인된 연도 파티션과 겹치는 기간은 파티션 기록을, 압축된 달은 요약의 완료 날짜를 구간별로 더한다.
+     */
+    public SortedMap<LocalDate, Long> getCompletionBuckets(Long routineId, BucketUnit unit, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+        LocalDateTime start = unit.bucketStart(from).atStartOfDay();
+        LocalDateTime until = to.plusDays(1).atStartOfDay();
+
+        SortedMap<LocalDate, Long> buckets = new TreeMap<>();
+        if (unit == BucketUnit.MONTH) {
+            for (Object[] row : completionRepository.countByMonth(routineId, start, until)) {
+                LocalDate month = LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), 1);
+                buckets.put(month, ((Number) row[2]).longValue());
+            }
+        } else {
+            for (Object[] row : completionRepository.countByDay(routineId, start, until)) {
+                LocalDate bucketStart = unit.bucketStart((LocalDate) row[0]);
+                buckets.merge(bucketStart, ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        for (RoutineCompletion completion : partitionService.findCompletions(routineId, start, until)) {
+            buckets.merge(unit.bucketStart(completion.getCompletedAt().toLocalDate()), 1L, Long::sum);
+        }
+        for (LocalDate date : compactionService.findCompactedDates(routineId, start.toLocalDate(), to.plusDays(1))) {
+            buckets.merge(unit.bucketStart(date), 1L, Long::sum);
+        }
+        return buckets;
+    }
+
+    /**
+     * 특정 기간의 완료 히스토리 조회 (봉인된 연도 파티션 포함)
      */
     public List<RoutineCompletion> getRoutineCompletionsByDateRange(
             Long routineId, LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-        return completionRepository.findByRoutineIdAndDateRange(routineId, startDateTime, endDateTime);
+        List<RoutineCompletion> completions = new ArrayList<>(
+                completionRepository.findByRoutineIdAndDateRange(routineId, startDateTime, endDateTime));
+        completions.addAll(partitionService.findCompletions(routineId, startDateTime, endDate.plusDays(1).atStartOfDay()));
+        return completions;
     }
 
     /**
      * 오늘 완료 여부 확인
      */
     public boolean isCompletedToday(Long routineId) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        return completionRepository.findTodayCompletion(routineId, startOfDay).isPresent();
+        return bitmapService.isCompletedOn(routineId, LocalDate.now());
+    }
+
+    /**
+     * 연도별 완료 히트맵 (비트맵 한 행 조회)
+     */
+    public RoutineYearBitmap getHeatmap(Long routineId, int year) {
+        if (!routineRepository.existsById(routineId)) {
+            throw new IllegalArgumentException("루틴을 찾을 수 없습니다: " + routineId);
+        }
+        return bitmapService.getYear(routineId, year);
+    }
+
+    /**
+     * 기준일이 속한 일/주/월 구간에 완료한 루틴 ID 일괄 조회 (쿼리 1회)
+     */
+    public Set<Long> getCompletedRoutineIds(Collection<Long> routineIds, RoutineFrequency window, LocalDate date) {
+        if (routineIds.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime start = window.periodStart(date).atStartOfDay();
+        LocalDateTime end = window.nextPeriodStart(date).atStartOfDay();
+        return completionRepository.findCompletedRoutineIds(routineIds, start, end);
     }
 }
@@ -0,0 +1,194 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.JobType;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 루틴 연속 달성(streak) 기록 관리
+ * - 완료로 주기 목표를 막 채웠을 때: 직전 주기에 이어지면 +1, 아니면 1부터 (O(1))
+ * - 취소로 이번 주기가 미달성이 되었을 때: 현재 기록 -1, 단 최장 기록이 현재 기록과 같으면
+ *   이전 최장 기록을 알 수 없으므로 해당 루틴만 이력으로 재계산
+ * - 과거 날짜 소급 입력은 순서가 뒤섞이므로 해당 루틴만 재계산
+ * - 전체 재계산 작업(ROUTINE_STREAK_REPAIR)은 완료 기록(봉인된 연도 파티션 포함, 압축된 달은 월 요약)을
+ *   (routine_id, completed_at) 순으로 한 번 스트리밍
+ *   연속 기록 도입 전 루틴을 위해 부팅 시 한 번 자동으로 실행하고 체크포인트를 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoutineStreakService implements Job {
+
+    private static final String CHECKPOINT = "routine-streak-backfill";
+
+    private static final String UPDATE_STREAK =
+            "UPDATE routines SET current_streak = ?, longest_streak = ?, last_streak_period = ? WHERE id = ?";
+
+    private final RoutineRepository routineRepository;
+    private final RoutineCompletionRepository completionRepository;
+    private final CompletionPartitionService partitionService;
+    private final RoutineCompactionService compactionService;
+    private final JobCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 완료 후 호출
+     * @param periodCount 완료 반영 후 이번 주기 완료 수
+     */
+    public void onCompleted(Routine routine, LocalDate periodStart, int periodCount) {
+        if (periodCount != routine.getTargetCount() || periodStart.equals(routine.getLastStreakPeriod())) {
+            return;
+        }
+        LocalDate previous = routine.getFrequency().previousPeriodStart(periodStart);
+        if (routine.getLastStreakPeriod() != null && routine.getLastStreakPeriod().isAfter(periodStart)) {
+            recompute(routine);
+            return;
+        }
+        int current = previous.equals(routine.getLastStreakPeriod()) ? routine.getCurrentStreak() + 1 : 1;
+        int longest = Math.max(routine.getLongestStreak(), current);
+        routineRepository.updateStreak(routine.getId(), current, longest, periodStart);
+    }
+
+    /**
+     * 취소 후 호출
+     * @param periodCount 취소 반영 후 이번 주기 완료 수
+     */
+    public void onUncompleted(Routine routine, LocalDate periodStart, int periodCount) {
+        if (periodCount != routine.getTargetCount() - 1 || !periodStart.equals(routine.getLastStreakPeriod())) {
+            return;
+        }
+        if (routine.getLongestStreak() == routine.getCurrentStreak()) {
+            recompute(routine);
+            return;
+        }
+        int current = routine.getCurrentStreak() - 1;
+        LocalDate last = current > 0 ? routine.getFrequency().previousPeriodStart(periodStart) : null;
+        routineRepository.updateStreak(routine.getId(), current, routine.getLongestStreak(), last);
+    }
+
+    /**
+     * 한 루틴의 연속 기록을 완료 이력으로 재계산
+     */
+    public void recompute(Routine routine) {
+        StreakCalculator calculator = new StreakCalculator(routine.getFrequency(), routine.getTargetCount());
+        Stream.of(
+                        compactionService.findCompactedDates(routine.getId()).stream(),
+                        partitionService.findCompletions(routine.getId()).stream()
+                                .map(completion -> completion.getCompletedAt().toLocalDate()),
+                        completionRepository.findCompletionTimes(List.of(routine.getId()),
+                                        LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.now().plusDays(1)).stream()
+                                .map(row -> ((LocalDateTime) row[1]).toLocalDate()))
+                .flatMap(dates -> dates)
+                .sorted()
+                .forEach(calculator::accept);
+        calculator.finish();
+        routineRepository.updateStreak(routine.getId(), calculator.getCurrentStreak(),
+                calculator.getLongestStreak(), calculator.getLastSatisfiedPeriod());
+    }
+
+    /**
+     * 연속 기록 도입 전에 만든 루틴은 0이므로 부팅 시 한 번 전체 재계산
+     * (체크포인트가 있으면 건너뜀, 이후로는 완료/취소 경로가 갱신)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (checkpointRepository.existsById(CHECKPOINT)) {
+            return;
+        }
+        if (routineRepository.count() > 0) {
+            repairAll(JobProgress.untracked());
+        }
+        JobCheckpoint checkpoint = JobCheckpoint.initial(CHECKPOINT);
+        checkpoint.advance(LocalDateTime.now(), 0L);
+        checkpointRepository.save(checkpoint);
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ROUTINE_STREAK_REPAIR;
+    }
+
+    @Override
+    public long run(JobProgress progress) {
+        return repairAll(progress);
+    }
+
+    /**
+     * 모든 루틴의 연속 기록 재계산 (완료 기록 한 번 스트리밍 후 청크 단위 일괄 갱신)
+     * @return 갱신된 루틴 수
+     */
+    public long repairAll(JobProgress progress) {
+        Map<Long, StreakCalculator> calculators = new HashMap<>();
+        jdbcTemplate.query("SELECT id, frequency, target_count FROM routines", rs -> {
+            calculators.put(rs.getLong("id"), new StreakCalculator(
+                    RoutineFrequency.valueOf(rs.getString("frequency")), rs.getInt("target_count")));
+        });
+        // 압축된 달의 완료 날짜는 스트리밍되는 원본 기록과 날짜 순으로 합쳐지도록 미리 넣어 둔다
+        compactionService.findAllCompactedDates().forEach((routineId, dates) -> {
+            StreakCalculator calculator = calculators.get(routineId);
+            if (calculator != null) {
+                calculator.preload(dates);
+            }
+        });
+
+        // 읽기 트랜잭션 안에서 커서로 스트리밍 (PostgreSQL은 트랜잭션 안에서만 fetchSize 적용)
+        String streamSql = partitionService.unionAll("routine_id, completed_at") + " ORDER BY routine_id, completed_at";
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(streamSql);
+            statement.setFetchSize(chunkSize);
+            return statement;
+        }, rs -> {
+            StreakCalculator calculator = calculators.get(rs.getLong("routine_id"));
+            if (calculator != null) {
+                calculator.accept(rs.getTimestamp("completed_at").toLocalDateTime().toLocalDate());
+            }
+        }));
+
+        List<Object[]> rows = new ArrayList<>(calculators.size());
+        calculators.forEach((routineId, calculator) -> {
+            calculator.finish();
+            LocalDate last = calculator.getLastSatisfiedPeriod();
+            rows.add(new Object[] {
+                    calculator.getCurrentStreak(),
+                    calculator.getLongestStreak(),
+                    last != null ? Date.valueOf(last) : null,
+                    routineId
+            });
+        });
+
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_STREAK, chunk));
+            progress.chunkCompleted(chunk.size());
+        }
+
+        log.info("✅ Repaired streaks for {} routines", rows.size());
+        return rows.size();
+    }
+}
@@ -0,0 +1,101 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.RoutineFrequency;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * 완료 날짜(오름차순)를 한 번 훑어 연속 달성 기록 계산
+ * 주기 안의 완료 일수가 목표 횟수 이상이면 달성 주기로 보고,
+ * 달성 주기가 직전 주기에 바로 이어지면 연속 기록을 늘린다.
+ */
+class StreakCalculator {
+
+    private final RoutineFrequency frequency;
+    private final int targetCount;
+
+    // 원본 기록과 날짜 순으로 합칠 압축된 완료 날짜 (오름차순)
+    private final Deque<LocalDate> pending = new ArrayDeque<>();
+
+    private LocalDate period;
+    private LocalDate lastDate;
+    private int periodDays;
+
+    private LocalDate lastSatisfiedPeriod;
+    private int currentStreak;
+    private int longestStreak;
+
+    StreakCalculator(RoutineFrequency frequency, int targetCount) {
+        this.frequency = frequency;
+        this.targetCount = targetCount;
+    }
+
+    /**
+     * 이후 accept 되는 날짜와 순서대로 합칠 날짜 목록 (오름차순)
+     */
+    void preload(Collection<LocalDate> dates) {
+        pending.addAll(dates);
+    }
+
+    /**
+     * 완료 날짜 추가 (오름차순, 같은 날 중복은 한 번만 센다)
+     */
+    void accept(LocalDate date) {
+        while (!pending.isEmpty() && !pending.peekFirst().isAfter(date)) {
+            add(pending.pollFirst());
+        }
+        add(date);
+    }
+
+    private void add(LocalDate date) {
+        if (date.equals(lastDate)) {
+            return;
+        }
+        lastDate = date;
+        LocalDate datePeriod = frequency.periodStart(date);
+        if (!datePeriod.equals(period)) {
+            closePeriod();
+            period = datePeriod;
+            periodDays = 0;
+        }
+        periodDays++;
+    }
+
+    /**
+     * 마지막 주기까지 반영
+     */
+    StreakCalculator finish() {
+        while (!pending.isEmpty()) {
+            add(pending.pollFirst());
+        }
+        closePeriod();
+        period = null;
+        return this;
+    }
+
+    private void closePeriod() {
+        if (period == null || periodDays < targetCount) {
+            return;
+        }
+        boolean continues = lastSatisfiedPeriod != null
+                && lastSatisfiedPeriod.equals(frequency.previousPeriodStart(period));
+        currentStreak = continues ? currentStreak + 1 : 1;
+        longestStreak = Math.max(longestStreak, currentStreak);
+        lastSatisfiedPeriod = period;
+    }
+
+    int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    int getLongestStreak() {
+        return longestStreak;
+    }
+
+    LocalDate getLastSatisfiedPeriod() {
+        return lastSatisfiedPeriod;
+    }
+}
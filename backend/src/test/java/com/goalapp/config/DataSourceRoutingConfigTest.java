@@ -0,0 +1,86 @@
+package com.goalapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("연결 풀 분리 테스트")
+class DataSourceRoutingConfigTest {
+
+    @Mock
+    private DataSource interactiveDataSource;
+
+    @Mock
+    private DataSource backgroundDataSource;
+
+    @Test
+    @DisplayName("작업 실행기 스레드는 background 풀, API 스레드는 interactive 풀에서 연결을 가져옴")
+    void dataSource_스레드별풀선택() throws Exception {
+        // given
+        when(interactiveDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(backgroundDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        DataSource dataSource = new DataSourceRoutingConfig().dataSource(interactiveDataSource, backgroundDataSource);
+        clearInvocations(interactiveDataSource, backgroundDataSource);
+        ThreadPoolTaskExecutor jobExecutor = new SchedulerConfig().jobExecutor();
+        jobExecutor.initialize();
+
+        try {
+            // when - 작업 스레드 (runInBackground로 감싸짐)
+            jobExecutor.submit(() -> {
+                query(dataSource);
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+
+            // then
+            verify(backgroundDataSource).getConnection();
+            verify(interactiveDataSource, never()).getConnection();
+
+            // when - API 요청 스레드
+            query(dataSource);
+
+            // then
+            verify(interactiveDataSource).getConnection();
+            verifyNoMoreInteractions(backgroundDataSource);
+        } finally {
+            jobExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("runInBackground가 끝나면 같은 스레드도 다시 interactive 풀을 사용")
+    void runInBackground_범위종료후복귀() throws Exception {
+        // given
+        when(interactiveDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(backgroundDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        DataSource dataSource = new DataSourceRoutingConfig().dataSource(interactiveDataSource, backgroundDataSource);
+        clearInvocations(interactiveDataSource, backgroundDataSource);
+
+        // when
+        RoutingDataSource.runInBackground(() -> query(dataSource));
+        query(dataSource);
+
+        // then
+        verify(backgroundDataSource, times(1)).getConnection();
+        verify(interactiveDataSource, times(1)).getConnection();
+    }
+
+    // 지연 연결 프록시는 실제 문장을 만들 때 현재 스레드 기준으로 풀을 고른다
+    private static void query(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
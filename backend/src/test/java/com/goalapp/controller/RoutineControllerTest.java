@@ -1,11 +1,13 @@
 package com.goalapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalapp.dto.request.CompletionCursor;
 import com.goalapp.dto.request.CreateRoutineRequest;
 import com.goalapp.dto.request.UpdateRoutineRequest;
 import com.goalapp.entity.Routine;
 import com.goalapp.entity.RoutineCompletion;
 import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.service.RoutinePeriodStatus;
 import com.goalapp.service.RoutineService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +17,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +52,7 @@ class RoutineControllerTest {
                 .description("매일 30분 조깅")
                 .frequency(RoutineFrequency.DAILY)
                 .isActive(true)
+                .completionCount(42)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -87,17 +92,19 @@ class RoutineControllerTest {
     @Test
     void getTodayRoutines_성공() throws Exception {
         // given
-        List<Routine> todayRoutines = Arrays.asList(testRoutine);
-        when(routineService.getTodayRoutines()).thenReturn(todayRoutines);
-        when(routineService.isCompletedToday(anyLong())).thenReturn(false);
+        RoutinePeriodStatus status = new RoutinePeriodStatus(testRoutine,
+                LocalDate.now(), LocalDate.now().plusDays(1), 0, false);
+        when(routineService.getTodayRoutineStatuses()).thenReturn(List.of(status));
 
         // when & then
         mockMvc.perform(get("/api/routines/today"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].completedToday").value(false));
+                .andExpect(jsonPath("$[0].completedToday").value(false))
+                .andExpect(jsonPath("$[0].completedInPeriod").value(false));
 
-        verify(routineService).getTodayRoutines();
+        verify(routineService).getTodayRoutineStatuses();
+        verify(routineService, never()).isCompletedToday(anyLong());
     }
 
     @Test
@@ -111,7 +118,8 @@ class RoutineControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("아침 조깅"))
-                .andExpect(jsonPath("$.completedToday").value(true));
+                .andExpect(jsonPath("$.completedToday").value(true))
+                .andExpect(jsonPath("$.completionCount").value(42));
 
         verify(routineService).getRoutineById(1L);
         verify(routineService).isCompletedToday(1L);
@@ -303,4 +311,23 @@ class RoutineControllerTest {
 
         verify(routineService).getRoutinesByFrequency(RoutineFrequency.DAILY);
     }
+
+    @Test
+    void getRoutineCompletionPage_다음커서_반환() throws Exception {
+        // given
+        RoutineCompletion newer = RoutineCompletion.builder()
+                .id(3L).routine(testRoutine).completedAt(LocalDateTime.of(2025, 1, 15, 9, 0)).build();
+        RoutineCompletion older = RoutineCompletion.builder()
+                .id(2L).routine(testRoutine).completedAt(LocalDateTime.of(2025, 1, 14, 9, 0)).build();
+        when(routineService.getRoutineCompletionPage(1L, null, 1)).thenReturn(List.of(newer, older));
+
+        // when & then
+        mockMvc.perform(get("/api/routines/1/completions/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(
+                        new CompletionCursor(newer.getCompletedAt(), 3L).encode()));
+    }
 }
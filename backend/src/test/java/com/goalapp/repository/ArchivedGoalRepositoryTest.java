@@ -0,0 +1,76 @@
+package com.goalapp.repository;
+
+import com.goalapp.entity.ArchivedGoal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("보관 목표 레포지토리 테스트")
+class ArchivedGoalRepositoryTest {
+
+    @Autowired
+    private ArchivedGoalRepository archivedGoalRepository;
+
+    private final LocalDateTime movedAt = LocalDateTime.of(2024, 3, 1, 2, 30);
+
+    @BeforeEach
+    void setUp() {
+        archivedGoalRepository.saveAll(List.of(
+                archived(1L, GoalStatus.ARCHIVED, null, movedAt),
+                // 보관된 상위 목표와 함께 옮겨진 하위 목표 (보관 상태여도 화면에는 상위 목표만)
+                archived(2L, GoalStatus.ARCHIVED, 1L, movedAt),
+                archived(3L, GoalStatus.ACTIVE, 1L, movedAt),
+                // 상위 목표는 보관되지 않은 채 따로 보관된 목표
+                archived(4L, GoalStatus.ARCHIVED, 99L, movedAt.plusDays(1)),
+                archived(5L, GoalStatus.ARCHIVED, null, movedAt.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("보관 상태이고 보관된 상위 목표가 없는 목표만 최근 보관 순으로 조회")
+    void findArchivedRoots_최상위만() {
+        // when
+        List<ArchivedGoal> roots = archivedGoalRepository.findArchivedRoots();
+
+        // then
+        assertThat(roots).extracting(ArchivedGoal::getId).containsExactly(5L, 4L, 1L);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지는 커서 이후부터 페이지 크기만큼 조회")
+    void findArchivedRootsBefore_커서이후() {
+        // when
+        List<ArchivedGoal> first = archivedGoalRepository.findArchivedRootsFirstPage(PageRequest.of(0, 2));
+        ArchivedGoal last = first.get(first.size() - 1);
+        List<ArchivedGoal> next = archivedGoalRepository.findArchivedRootsBefore(
+                last.getArchivedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).extracting(ArchivedGoal::getId).containsExactly(5L, 4L);
+        assertThat(next).extracting(ArchivedGoal::getId).containsExactly(1L);
+    }
+
+    private ArchivedGoal archived(Long id, GoalStatus status, Long parentGoalId, LocalDateTime archivedAt) {
+        return ArchivedGoal.builder()
+                .id(id)
+                .title("목표 " + id)
+                .type(GoalType.DAILY)
+                .status(status)
+                .parentGoalId(parentGoalId)
+                .createdAt(archivedAt.minusDays(30))
+                .archivedAt(archivedAt)
+                .build();
+    }
+}
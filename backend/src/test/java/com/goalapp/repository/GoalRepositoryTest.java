@@ -169,4 +169,32 @@ class GoalRepositoryTest {
         // Then
         assertThat(goalRepository.findById(goalId)).isEmpty();
     }
+
+    @Test
+    @DisplayName("만료 수는 만료 후 보관된 목표도 마감일별로 집계")
+    void countExpiredByDay_ShouldKeepArchivedExpiredGoals() {
+        // Given
+        LocalDateTime dueDate = LocalDateTime.of(2024, 3, 5, 18, 0);
+        Goal expired = entityManager.persistAndFlush(Goal.builder()
+                .title("만료 후 보관된 목표")
+                .type(GoalType.DAILY)
+                .status(GoalStatus.ACTIVE)
+                .dueDate(dueDate)
+                .createdAt(dueDate.minusDays(1))
+                .build());
+        goalRepository.markGoalsExpired(List.of(expired.getId()), dueDate.plusHours(6));
+        goalRepository.markGoalsArchived(List.of(expired.getId()), dueDate.plusDays(2));
+        // 만료된 적 없이 보관된 목표는 제외
+        goalRepository.markGoalsArchived(List.of(lifetimeGoal.getId()), dueDate.plusDays(2));
+        entityManager.clear();
+
+        // When
+        List<Object[]> rows = goalRepository.countExpiredByDay();
+
+        // Then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)[0]).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(rows.get(0)[1]).isEqualTo(GoalType.DAILY);
+        assertThat(((Number) rows.get(0)[2]).longValue()).isEqualTo(1L);
+    }
 }
@@ -0,0 +1,114 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.CompletionPartition;
+import com.goalapp.entity.CompletionPartitionState;
+import com.goalapp.repository.CompletionPartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("루틴 완료 기록 파티션 테스트")
+class CompletionPartitionServiceTest {
+
+    @Mock
+    private CompletionPartitionRepository partitionRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CompletionPartitionService partitionService;
+
+    @Test
+    @DisplayName("봉인 완료된 파티션만 분리")
+    void detach_봉인완료() {
+        // given
+        CompletionPartition partition = partition(2022, CompletionPartitionState.SEALED);
+        when(partitionRepository.findByYear(2022)).thenReturn(Optional.of(partition));
+        when(partitionRepository.save(partition)).thenReturn(partition);
+
+        // when
+        CompletionPartition result = partitionService.detach(2022);
+
+        // then
+        assertThat(result.getState()).isEqualTo(CompletionPartitionState.DETACHED);
+    }
+
+    @Test
+    @DisplayName("봉인 중인 파티션은 분리 불가")
+    void detach_봉인중_거부() {
+        // given
+        when(partitionRepository.findByYear(2022))
+                .thenReturn(Optional.of(partition(2022, CompletionPartitionState.SEALING)));
+
+        // when & then
+        assertThatThrownBy(() -> partitionService.detach(2022))
+                .isInstanceOf(IllegalStateException.class);
+        verify(partitionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("분리된 파티션은 테이블 하나만 DROP")
+    void drop_분리된파티션() {
+        // given
+        CompletionPartition partition = partition(2022, CompletionPartitionState.DETACHED);
+        when(partitionRepository.findByYear(2022)).thenReturn(Optional.of(partition));
+        when(partitionRepository.save(partition)).thenReturn(partition);
+
+        // when
+        CompletionPartition result = partitionService.drop(2022);
+
+        // then
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS routine_completions_y2022");
+        assertThat(result.getState()).isEqualTo(CompletionPartitionState.DROPPED);
+    }
+
+    @Test
+    @DisplayName("조회 중인 파티션은 바로 삭제 불가")
+    void drop_봉인완료_거부() {
+        // given
+        when(partitionRepository.findByYear(2022))
+                .thenReturn(Optional.of(partition(2022, CompletionPartitionState.SEALED)));
+
+        // when & then
+        assertThatThrownBy(() -> partitionService.drop(2022))
+                .isInstanceOf(IllegalStateException.class);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("파티션 기간 겹침 판단")
+    void overlaps() {
+        CompletionPartition partition = partition(2022, CompletionPartitionState.SEALED);
+
+        assertThat(partition.overlaps(LocalDateTime.of(2022, 12, 31, 0, 0), LocalDateTime.of(2023, 2, 1, 0, 0))).isTrue();
+        assertThat(partition.overlaps(LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 2, 1, 0, 0))).isFalse();
+    }
+
+    private CompletionPartition partition(int year, CompletionPartitionState state) {
+        CompletionPartition partition = CompletionPartition.sealing(year);
+        partition.setState(state);
+        return partition;
+    }
+}
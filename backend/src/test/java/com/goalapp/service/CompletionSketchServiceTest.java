@@ -0,0 +1,190 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.CompletionMetric;
+import com.goalapp.entity.CompletionSketch;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.repository.CompletionSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("완료 시간 분위수 스케치 테스트")
+class CompletionSketchServiceTest {
+
+    @Mock
+    private CompletionSketchRepository sketchRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CompletionSketchService completionSketchService;
+
+    @BeforeEach
+    void setUp() {
+        // 목 DataSource는 PostgreSQL이 아님 - 행 생성은 INSERT 후 유니크 위반 무시
+        completionSketchService = new CompletionSketchService(sketchRepository, jdbcTemplate,
+                new TransactionTemplate(), mock(DataSource.class));
+    }
+
+    @Test
+    @DisplayName("스케치는 상대 오차 안에서 분위수를 답하고 제거와 직렬화 후에도 유지")
+    void quantileSketch_정확도() {
+        // given - 1~1000분
+        QuantileSketch sketch = new QuantileSketch();
+        for (int minutes = 1; minutes <= 1000; minutes++) {
+            sketch.add(minutes);
+        }
+        sketch.add(-30);
+        sketch.add(5000);
+        sketch.remove(5000);
+
+        // when
+        QuantileSketch decoded = QuantileSketch.decode(sketch.encode());
+
+        // then
+        assertThat(decoded.getCount()).isEqualTo(1001);
+        assertThat(decoded.quantile(0.5)).isCloseTo(500.0, within(500 * QuantileSketch.ALPHA));
+        assertThat(decoded.quantile(0.9)).isCloseTo(900.0, within(900 * QuantileSketch.ALPHA));
+        assertThat(decoded.quantile(0.0)).isCloseTo(-30.0, within(30 * QuantileSketch.ALPHA));
+    }
+
+    @Test
+    @DisplayName("완료 시 완료 월의 소요 시간/마감일 대비 스케치에 표본 추가")
+    void goalChanged_완료() {
+        // given - 3일 전 생성, 마감 1시간 전 완료
+        LocalDateTime completedAt = LocalDateTime.of(2024, 3, 15, 9, 0);
+        GoalSnapshot before = new GoalSnapshot(GoalType.WEEKLY, GoalStatus.ACTIVE, false,
+                completedAt.plusHours(1), completedAt.minusDays(3), null, completedAt.minusDays(3), null);
+        GoalSnapshot after = new GoalSnapshot(GoalType.WEEKLY, GoalStatus.COMPLETED, true,
+                completedAt.plusHours(1), completedAt.minusDays(3), completedAt, completedAt, null);
+        when(sketchRepository.findForUpdate(any(), any(), any())).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(CompletionSketch.empty(LocalDate.of(2024, 3, 1), GoalType.WEEKLY,
+                        CompletionMetric.DURATION)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(CompletionSketch.empty(LocalDate.of(2024, 3, 1), GoalType.WEEKLY,
+                        CompletionMetric.DUE_OFFSET)));
+
+        // when
+        completionSketchService.goalChanged(before, after);
+
+        // then - 없는 행은 INSERT로 만든 뒤 다시 잠가서 갱신
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT"), any(Object[].class));
+        ArgumentCaptor<CompletionSketch> captor = ArgumentCaptor.forClass(CompletionSketch.class);
+        verify(sketchRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(row -> {
+            assertThat(row.getMonth()).isEqualTo(LocalDate.of(2024, 3, 1));
+            assertThat(row.getSampleCount()).isEqualTo(1);
+        });
+        CompletionSketch dueOffset = captor.getAllValues().stream()
+                .filter(row -> row.getMetric() == CompletionMetric.DUE_OFFSET)
+                .findFirst().orElseThrow();
+        assertThat(QuantileSketch.decode(dueOffset.getData()).quantile(0.5))
+                .isCloseTo(-60.0, within(60 * QuantileSketch.ALPHA));
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 먼저 행을 만들었으면 유니크 위반을 무시하고 그 행에 반영")
+    void goalChanged_동시생성() {
+        // given - 마감일 없이 완료
+        LocalDateTime completedAt = LocalDateTime.of(2024, 3, 15, 9, 0);
+        GoalSnapshot after = new GoalSnapshot(GoalType.DAILY, GoalStatus.COMPLETED, true,
+                null, completedAt.minusHours(2), completedAt, completedAt, null);
+        QuantileSketch existing = new QuantileSketch();
+        existing.add(30);
+        CompletionSketch concurrent = sketch(LocalDate.of(2024, 3, 1), existing);
+        when(sketchRepository.findForUpdate(LocalDate.of(2024, 3, 1), GoalType.DAILY, CompletionMetric.DURATION))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(concurrent));
+        when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class)))
+                .thenThrow(new DuplicateKeyException("uk_completion_sketches_month_type_metric"));
+
+        // when
+        completionSketchService.goalChanged(null, after);
+
+        // then - 먼저 들어온 표본을 덮어쓰지 않음
+        verify(sketchRepository).save(concurrent);
+        assertThat(concurrent.getSampleCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("완료 시점과 무관한 수정은 스케치를 읽지 않음")
+    void goalChanged_무관한수정() {
+        // given
+        LocalDateTime completedAt = LocalDateTime.of(2024, 3, 15, 9, 0);
+        GoalSnapshot before = new GoalSnapshot(GoalType.DAILY, GoalStatus.COMPLETED, true,
+                null, completedAt.minusHours(2), completedAt, completedAt, null);
+
+        // when
+        completionSketchService.goalChanged(before, before.withStatus(GoalStatus.ARCHIVED));
+
+        // then
+        verifyNoInteractions(sketchRepository);
+    }
+
+    @Test
+    @DisplayName("기간의 월 스케치를 병합해 타입별 분위수 계산")
+    void getStats_월병합() {
+        // given
+        QuantileSketch january = new QuantileSketch();
+        QuantileSketch february = new QuantileSketch();
+        for (int i = 1; i <= 50; i++) {
+            january.add(i * 10);
+            february.add(500 + i * 10);
+        }
+        when(sketchRepository.findByMonthGreaterThanEqualAndMonthLessThanEqual(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1))).thenReturn(List.of(
+                sketch(LocalDate.of(2024, 1, 1), january),
+                sketch(LocalDate.of(2024, 2, 1), february)));
+
+        // when
+        List<CompletionTimeStats> stats = completionSketchService.getStats(YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+
+        // then
+        assertThat(stats).hasSize(1);
+        CompletionTimeStats daily = stats.get(0);
+        assertThat(daily.getCompletedCount()).isEqualTo(100);
+        assertThat(daily.getDurationP90Minutes()).isCloseTo(900.0, within(900 * QuantileSketch.ALPHA));
+        assertThat(daily.getWithDueDateCount()).isZero();
+        assertThat(daily.getDueOffsetP50Minutes()).isNull();
+    }
+
+    @Test
+    @DisplayName("시작 월이 종료 월보다 늦으면 거부")
+    void getStats_잘못된기간() {
+        assertThatThrownBy(() -> completionSketchService.getStats(YearMonth.of(2024, 5), YearMonth.of(2024, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompletionSketch sketch(LocalDate month, QuantileSketch sketch) {
+        return CompletionSketch.builder()
+                .month(month)
+                .type(GoalType.DAILY)
+                .metric(CompletionMetric.DURATION)
+                .sampleCount(sketch.getCount())
+                .data(sketch.encode())
+                .build();
+    }
+}
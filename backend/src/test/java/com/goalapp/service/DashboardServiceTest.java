@@ -0,0 +1,173 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("대시보드 카운터 테스트")
+class DashboardServiceTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private ArchivedGoalRepository archivedGoalRepository;
+
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private RoutineCompletionRepository completionRepository;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    private LocalDateTime dueSoon;
+
+    private LocalDateTime overdue;
+
+    @BeforeEach
+    void setUp() {
+        dueSoon = LocalDateTime.now().plusHours(2).withNano(0);
+        overdue = LocalDateTime.now().minusHours(1).withNano(0);
+        when(goalRepository.countByTypeAndStatus()).thenReturn(List.<Object[]>of(
+                new Object[] {GoalType.DAILY, GoalStatus.ACTIVE, 2L}));
+        when(archivedGoalRepository.countByTypeAndStatus()).thenReturn(List.<Object[]>of(
+                new Object[] {GoalType.WEEKLY, GoalStatus.ARCHIVED, 1L}));
+        when(goalRepository.countOpenByDueDate()).thenReturn(List.of(
+                new Object[] {overdue, 1L},
+                new Object[] {dueSoon, 1L}));
+        when(routineRepository.findActiveIds()).thenReturn(List.of(1L, 2L));
+        when(completionRepository.findCompletedRoutineIds(anyCollection(), any(), any())).thenReturn(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("그룹 집계로 채운 카운터로 요약 계산 (콜드 보관 포함)")
+    void getSummary_초기집계() {
+        // when
+        DashboardSummary summary = dashboardService.getSummary(24);
+
+        // then
+        assertThat(summary.getGoalsByStatus().get(GoalStatus.ACTIVE)).isEqualTo(2);
+        assertThat(summary.getGoalsByStatus().get(GoalStatus.ARCHIVED)).isEqualTo(1);
+        assertThat(summary.getGoalsByType().get(GoalType.WEEKLY)).isEqualTo(1);
+        assertThat(summary.getTotalGoals()).isEqualTo(3);
+        assertThat(summary.getOverdueGoals()).isEqualTo(1);
+        assertThat(summary.getExpiringSoonGoals()).isEqualTo(1);
+        assertThat(summary.getRoutineCompletionRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("목표 완료와 루틴 완료를 DB 조회 없이 반영")
+    void goalChanged_증감반영() {
+        // given
+        Goal goal = Goal.builder()
+                .id(1L)
+                .title("마감 임박")
+                .type(GoalType.DAILY)
+                .status(GoalStatus.ACTIVE)
+                .dueDate(dueSoon)
+                .createdAt(LocalDateTime.now())
+                .build();
+        GoalSnapshot before = GoalSnapshot.of(goal);
+
+        // when
+        goal.markAsCompleted();
+        dashboardService.goalChanged(before, goal);
+        dashboardService.routineCompleted(2L, LocalDate.now());
+        DashboardSummary summary = dashboardService.getSummary(24);
+
+        // then
+        assertThat(summary.getGoalsByStatus().get(GoalStatus.ACTIVE)).isEqualTo(1);
+        assertThat(summary.getGoalsByStatus().get(GoalStatus.COMPLETED)).isEqualTo(1);
+        assertThat(summary.getExpiringSoonGoals()).isZero();
+        assertThat(summary.getCompletedRoutinesToday()).isEqualTo(2);
+        verify(goalRepository, times(1)).countByTypeAndStatus();
+    }
+
+    @Test
+    @DisplayName("완료되거나 만료되어 수가 0이 된 마감 시각은 목록에서 제거")
+    void openDueDates_0이면제거() {
+        // given
+        Goal goal = Goal.builder()
+                .id(1L)
+                .title("마감 임박")
+                .type(GoalType.DAILY)
+                .status(GoalStatus.ACTIVE)
+                .dueDate(dueSoon)
+                .createdAt(LocalDateTime.now())
+                .build();
+        GoalSnapshot before = GoalSnapshot.of(goal);
+        assertThat(dashboardService.trackedDueDates()).isEqualTo(2);
+
+        // when
+        goal.markAsCompleted();
+        dashboardService.goalChanged(before, goal);
+        dashboardService.goalsExpired(List.<Object[]>of(new Object[] {2L, GoalType.DAILY, overdue}));
+
+        // then
+        assertThat(dashboardService.trackedDueDates()).isZero();
+        assertThat(dashboardService.getSummary(24).getOverdueGoals()).isZero();
+    }
+
+    @Test
+    @DisplayName("집계에 없던 마감 시각을 빼도 음수 항목이 생기지 않음")
+    void openDueDates_없는항목차감() {
+        // given - 카운터를 채운 뒤 반영되지 않은 마감 시각의 목표
+        Goal goal = Goal.builder()
+                .id(3L)
+                .title("집계 이후 마감")
+                .type(GoalType.DAILY)
+                .status(GoalStatus.ACTIVE)
+                .dueDate(dueSoon.plusMinutes(30))
+                .createdAt(LocalDateTime.now())
+                .build();
+        GoalSnapshot before = GoalSnapshot.of(goal);
+        assertThat(dashboardService.trackedDueDates()).isEqualTo(2);
+
+        // when
+        goal.markAsCompleted();
+        dashboardService.goalChanged(before, goal);
+
+        // then
+        assertThat(dashboardService.trackedDueDates()).isEqualTo(2);
+        assertThat(dashboardService.getSummary(24).getExpiringSoonGoals()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주기 대조 시 누락된 증감만큼 보정")
+    void reconcile_보정() {
+        // given
+        dashboardService.goalsDeleted(List.of(new GoalSnapshot(GoalType.DAILY, GoalStatus.ACTIVE, false, null, null, null, null, null)));
+        JobProgress progress = JobProgress.untracked();
+
+        // when
+        long drift = dashboardService.reconcile(progress);
+
+        // then
+        assertThat(drift).isEqualTo(1);
+        assertThat(dashboardService.getSummary(24).getGoalsByStatus().get(GoalStatus.ACTIVE)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,158 @@
+package com.goalapp.service;
+
+import com.goalapp.dto.request.ArchivedGoalCursor;
+import com.goalapp.entity.ArchivedGoal;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("보관 목표 콜드 테이블 테스트")
+class GoalArchiveServiceTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private ArchivedGoalRepository archivedGoalRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @InjectMocks
+    private GoalArchiveService goalArchiveService;
+
+    @Test
+    @DisplayName("이동 전 보관 목표와 콜드 테이블의 보관 목표를 함께 조회")
+    void getArchivedGoals_병합() {
+        // given
+        Goal hot = goal(1L, GoalStatus.ARCHIVED, false);
+        ArchivedGoal cold = archived(2L, GoalStatus.ARCHIVED, null);
+        when(goalRepository.findByStatus(GoalStatus.ARCHIVED)).thenReturn(List.of(hot));
+        when(archivedGoalRepository.findArchivedRoots()).thenReturn(List.of(cold));
+
+        // when
+        List<Goal> result = goalArchiveService.getArchivedGoals();
+
+        // then
+        assertThat(result).extracting(Goal::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 이동 전 보관 목표 뒤에 콜드 테이블 페이지를 붙이고 마지막 콜드 목표를 커서로 반환")
+    void getArchivedGoalPage_첫페이지() {
+        // given - 크기 2, 콜드 테이블에서 3건 조회 (다음 페이지 있음)
+        Goal hot = goal(1L, GoalStatus.ARCHIVED, false);
+        ArchivedGoal first = archived(5L, GoalStatus.ARCHIVED, null);
+        ArchivedGoal second = archived(4L, GoalStatus.ARCHIVED, null);
+        ArchivedGoal third = archived(3L, GoalStatus.ARCHIVED, null);
+        when(goalRepository.findByStatus(GoalStatus.ARCHIVED)).thenReturn(List.of(hot));
+        when(archivedGoalRepository.findArchivedRootsFirstPage(PageRequest.of(0, 3)))
+                .thenReturn(List.of(first, second, third));
+
+        // when
+        ArchivedGoalPage page = goalArchiveService.getArchivedGoalPage(null, 2);
+
+        // then
+        assertThat(page.getGoals()).extracting(Goal::getId).containsExactly(1L, 5L, 4L);
+        assertThat(page.getNextCursor()).isEqualTo(new ArchivedGoalCursor(second.getArchivedAt(), 4L));
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 커서 이후 콜드 목표만 조회하고 마지막 페이지면 커서 없음")
+    void getArchivedGoalPage_커서() {
+        // given
+        ArchivedGoalCursor cursor = new ArchivedGoalCursor(LocalDateTime.of(2024, 3, 1, 2, 30), 4L);
+        ArchivedGoal last = archived(3L, GoalStatus.ARCHIVED, null);
+        when(archivedGoalRepository.findArchivedRootsBefore(cursor.getArchivedAt(), 4L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(last));
+
+        // when
+        ArchivedGoalPage page = goalArchiveService.getArchivedGoalPage(cursor, 2);
+
+        // then
+        assertThat(page.getGoals()).extracting(Goal::getId).containsExactly(3L);
+        assertThat(page.getNextCursor()).isNull();
+        verify(goalRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    @DisplayName("아직 이동하지 않은 완료 목표는 완료 상태로 복원")
+    void restore_이동전_완료목표() {
+        // given
+        Goal goal = goal(1L, GoalStatus.ARCHIVED, true);
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(goalRepository.save(goal)).thenReturn(goal);
+
+        // when
+        Goal result = goalArchiveService.restore(1L);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(GoalStatus.COMPLETED);
+        verifyNoInteractions(archivedGoalRepository, namedJdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("보관 상태가 아닌 목표는 복원 불가")
+    void restore_보관아님_거부() {
+        // given
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(goal(1L, GoalStatus.ACTIVE, false)));
+
+        // when & then
+        assertThatThrownBy(() -> goalArchiveService.restore(1L))
+                .isInstanceOf(IllegalStateException.class);
+        verify(goalRepository, never()).save(any());
+    }
+
+    private Goal goal(Long id, GoalStatus status, boolean completed) {
+        return Goal.builder()
+                .id(id)
+                .title("목표 " + id)
+                .type(GoalType.DAILY)
+                .status(status)
+                .isCompleted(completed)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private ArchivedGoal archived(Long id, GoalStatus status, Long parentGoalId) {
+        return ArchivedGoal.builder()
+                .id(id)
+                .title("목표 " + id)
+                .type(GoalType.DAILY)
+                .status(status)
+                .parentGoalId(parentGoalId)
+                .createdAt(LocalDateTime.now())
+                .archivedAt(LocalDateTime.now())
+                .build();
+    }
+}
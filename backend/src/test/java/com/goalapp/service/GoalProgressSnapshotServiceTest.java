@@ -0,0 +1,111 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.GoalProgressSnapshot;
+import com.goalapp.exception.GoalNotFoundException;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalProgressSnapshotRepository;
+import com.goalapp.repository.GoalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("목표 진행률 스냅샷 테스트")
+class GoalProgressSnapshotServiceTest {
+
+    @Mock
+    private GoalProgressSnapshotRepository snapshotRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private ArchivedGoalRepository archivedGoalRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private GoalProgressSnapshotService progressSnapshotService;
+
+    @Test
+    @DisplayName("마지막 스냅샷과 같은 목표는 건너뛰고 바뀐 목표만 배치 INSERT")
+    void snapshot_델타() {
+        // given - 목표 1: 변화 없음, 목표 2: 하위 목표 완료 증가, 목표 3: 처음 스냅샷 (루틴 연결)
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(snapshotRepository.findLatestRows()).thenReturn(List.of(
+                new Object[] {1L, LocalDate.now().minusDays(3), 2, 4},
+                new Object[] {2L, LocalDate.now().minusDays(1), 1, 3}));
+        when(goalRepository.findProgressTargetRows()).thenReturn(List.<Object[]>of(
+                new Object[] {3L, 25, 20, false}));
+        when(goalRepository.countSubGoalProgress()).thenReturn(List.of(
+                new Object[] {1L, 4L, 2L},
+                new Object[] {2L, 3L, 2L}));
+
+        // when
+        long written = progressSnapshotService.snapshot(JobProgress.untracked());
+
+        // then
+        assertThat(written).isEqualTo(2);
+        ArgumentCaptor<MapSqlParameterSource[]> captor = ArgumentCaptor.forClass(MapSqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), captor.capture());
+        assertThat(captor.getValue()).extracting(params -> params.getValue("goalId")).containsExactlyInAnyOrder(2L, 3L);
+        // 목표 횟수를 넘긴 진행은 목표 횟수까지만
+        assertThat(captor.getValue()).filteredOn(params -> params.getValue("goalId").equals(3L))
+                .extracting(params -> params.getValue("done")).containsExactly(20);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE"), any(MapSqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("기간 이력은 시작일 시점의 값을 앞에 붙임")
+    void getSeries_시작값() {
+        // given
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+        when(goalRepository.existsById(1L)).thenReturn(true);
+        when(snapshotRepository.findFirstByGoalIdAndDateBeforeOrderByDateDesc(1L, from)).thenReturn(Optional.of(
+                GoalProgressSnapshot.builder().goalId(1L).date(LocalDate.of(2024, 2, 20)).doneCount(1).totalCount(4).build()));
+        when(snapshotRepository.findByGoalIdAndDateBetweenOrderByDate(1L, from, to)).thenReturn(List.of(
+                GoalProgressSnapshot.builder().goalId(1L).date(LocalDate.of(2024, 3, 10)).doneCount(3).totalCount(4).build()));
+
+        // when
+        List<GoalProgressSnapshot> series = progressSnapshotService.getSeries(1L, from, to);
+
+        // then
+        assertThat(series).extracting(GoalProgressSnapshot::getDate).containsExactly(from, LocalDate.of(2024, 3, 10));
+        assertThat(series.get(0).getPercentage()).isEqualTo(25.0);
+        assertThat(series.get(1).getPercentage()).isEqualTo(75.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 목표의 이력 조회 시 예외")
+    void getSeries_목표없음() {
+        when(goalRepository.existsById(99L)).thenReturn(false);
+        when(archivedGoalRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> progressSnapshotService.getSeries(99L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+                .isInstanceOf(GoalNotFoundException.class);
+        verifyNoInteractions(snapshotRepository);
+    }
+}
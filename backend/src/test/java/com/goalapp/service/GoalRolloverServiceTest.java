@@ -0,0 +1,168 @@
+package com.goalapp.service;
+
+import com.goalapp.config.RolloverProperties;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.RolloverMode;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.JobCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 이월 SQL(UPDATE / INSERT ... SELECT)과 워터마크를 H2에서 직접 실행해 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("기간 이월 작업 테스트")
+class GoalRolloverServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final RolloverProperties properties = new RolloverProperties();
+
+    private GoalRolloverService rolloverService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        rolloverService = new GoalRolloverService(jdbcTemplate, checkpointRepository, properties, transactionTemplate,
+                mock(DashboardService.class), mock(DailyStatsService.class), mock(ReviewReportService.class));
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 어떤 목표도 이월하지 않음")
+    void rollover_기본설정() {
+        // given
+        Goal unfinished = persist("어제 할 일", GoalType.DAILY, GoalStatus.EXPIRED, today.minusDays(1).atTime(9, 0));
+
+        // when
+        long rolled = rolloverService.rollover(JobProgress.untracked());
+
+        // then
+        assertThat(rolled).isZero();
+        assertThat(reload(unfinished).getDueDate()).isEqualTo(today.minusDays(1).atTime(9, 0));
+        assertThat(checkpointRepository.findById("rollover:DAILY")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CARRY_FORWARD는 어제 마감된 미완료 목표를 오늘로 옮기고 완료 목표는 두고, 워터마크로 중복 이월을 막음")
+    void rollover_이월과워터마크() {
+        // given
+        properties.getModes().put(GoalType.DAILY, RolloverMode.CARRY_FORWARD);
+        Goal expired = persist("어제 할 일", GoalType.DAILY, GoalStatus.EXPIRED, today.minusDays(1).atTime(9, 0));
+        Goal completed = persist("어제 끝낸 일", GoalType.DAILY, GoalStatus.COMPLETED, today.minusDays(1).atTime(9, 0));
+
+        // when
+        long rolled = rolloverService.rollover(JobProgress.untracked());
+
+        // then
+        assertThat(rolled).isEqualTo(1);
+        Goal moved = reload(expired);
+        assertThat(moved.getDueDate()).isEqualTo(today.atTime(9, 0));
+        assertThat(moved.getStatus()).isEqualTo(GoalStatus.ACTIVE);
+        assertThat(reload(completed).getDueDate()).isEqualTo(today.minusDays(1).atTime(9, 0));
+        assertThat(checkpointRepository.findById("rollover:DAILY"))
+                .map(JobCheckpoint::getWatermark)
+                .contains(today.atStartOfDay());
+
+        // when - 같은 날 다시 실행하면 이미 처리한 기간은 건너뜀
+        Goal late = persist("늦게 들어온 어제 할 일", GoalType.DAILY, GoalStatus.ACTIVE, today.minusDays(1).atTime(20, 0));
+        long again = rolloverService.rollover(JobProgress.untracked());
+
+        // then
+        assertThat(again).isZero();
+        assertThat(reload(late).getDueDate()).isEqualTo(today.minusDays(1).atTime(20, 0));
+    }
+
+    @Test
+    @DisplayName("다운타임 보충은 max-catch-up-periods 기간까지만 처리하고 그 안의 목표는 기간마다 한 번씩 이동")
+    void rollover_보충상한() {
+        // given - 10일 전까지 처리됨, 보충 상한 3일
+        properties.getModes().put(GoalType.DAILY, RolloverMode.CARRY_FORWARD);
+        properties.setMaxCatchUpPeriods(3);
+        JobCheckpoint checkpoint = JobCheckpoint.initial("rollover:DAILY");
+        checkpoint.advance(today.minusDays(10).atStartOfDay(), 0L);
+        checkpointRepository.save(checkpoint);
+        Goal outside = persist("5일 전 할 일", GoalType.DAILY, GoalStatus.EXPIRED, today.minusDays(5).atTime(9, 0));
+        Goal inside = persist("3일 전 할 일", GoalType.DAILY, GoalStatus.EXPIRED, today.minusDays(3).atTime(9, 0));
+
+        // when
+        long rolled = rolloverService.rollover(JobProgress.untracked());
+
+        // then - [오늘-3, 오늘-2), [오늘-2, 오늘-1), [오늘-1, 오늘) 세 기간
+        assertThat(rolled).isEqualTo(3);
+        assertThat(reload(outside).getDueDate()).isEqualTo(today.minusDays(5).atTime(9, 0));
+        assertThat(reload(inside).getDueDate()).isEqualTo(today.atTime(9, 0));
+    }
+
+    @Test
+    @DisplayName("CLONE은 지난주 미완료 목표를 다음 주 마감으로 복제하고 원본은 유지")
+    void rollover_복제() {
+        // given
+        properties.getModes().put(GoalType.WEEKLY, RolloverMode.CLONE);
+        LocalDateTime lastWeekDue = GoalType.WEEKLY.periodStart(today).minusWeeks(1).plusDays(2).atTime(18, 0);
+        Goal original = persist("지난주 목표", GoalType.WEEKLY, GoalStatus.EXPIRED, lastWeekDue);
+
+        // when
+        long rolled = rolloverService.rollover(JobProgress.untracked());
+
+        // then
+        assertThat(rolled).isEqualTo(1);
+        entityManager.clear();
+        List<Goal> goals = goalRepository.findAll();
+        assertThat(goals).hasSize(2);
+        assertThat(reload(original).getStatus()).isEqualTo(GoalStatus.EXPIRED);
+        Goal clone = goals.stream().filter(goal -> !goal.getId().equals(original.getId())).findFirst().orElseThrow();
+        assertThat(clone.getTitle()).isEqualTo("지난주 목표");
+        assertThat(clone.getStatus()).isEqualTo(GoalStatus.ACTIVE);
+        assertThat(clone.getDueDate()).isEqualTo(lastWeekDue.plusWeeks(1));
+        assertThat(clone.isCompleted()).isFalse();
+    }
+
+    private Goal persist(String title, GoalType type, GoalStatus status, LocalDateTime dueDate) {
+        return entityManager.persistAndFlush(Goal.builder()
+                .title(title)
+                .type(type)
+                .status(status)
+                .isCompleted(status == GoalStatus.COMPLETED)
+                .dueDate(dueDate)
+                .createdAt(dueDate.minusDays(1))
+                .build());
+    }
+
+    private Goal reload(Goal goal) {
+        entityManager.clear();
+        return goalRepository.findById(goal.getId()).orElseThrow();
+    }
+}
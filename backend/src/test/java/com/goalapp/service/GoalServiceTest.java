@@ -5,6 +5,7 @@ import com.goalapp.entity.GoalStatus;
 import com.goalapp.entity.GoalType;
 import com.goalapp.exception.GoalNotFoundException;
 import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.RoutineRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +30,27 @@ class GoalServiceTest {
     @Mock
     private GoalRepository goalRepository;
 
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private GoalArchiveService goalArchiveService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @Mock
+    private CompletionSketchService completionSketchService;
+
+    @Mock
+    private GoalProgressSnapshotService progressSnapshotService;
+
+    @Mock
+    private ReviewReportService reviewReportService;
+
     @InjectMocks
     private GoalService goalService;
 
@@ -213,6 +235,7 @@ class GoalServiceTest {
         // Then
         verify(goalRepository, times(1)).findById(1L);
         verify(goalRepository, times(1)).delete(parentGoal);
+        verify(routineRepository).unlinkGoals(anyList());
     }
 
     @Test
@@ -410,4 +433,22 @@ class GoalServiceTest {
         assertEquals(100.0, progress, 0.01);
         verify(goalRepository, times(1)).findByParentGoalId(1L);
     }
+
+    @Test
+    @DisplayName("루틴 연결 목표 진행률 - 기여 횟수 / 목표 횟수")
+    void calculateProgressPercentage_루틴기여() {
+        // Given
+        Goal goal = Goal.builder()
+                .id(5L)
+                .title("책 20권 읽기")
+                .type(GoalType.YEARLY)
+                .progressTarget(20)
+                .progressCurrent(5)
+                .build();
+
+        // When & Then
+        assertEquals(25.0, goalService.calculateProgressPercentage(goal));
+        goal.setProgressCurrent(30);
+        assertEquals(100.0, goalService.calculateProgressPercentage(goal));
+    }
 }
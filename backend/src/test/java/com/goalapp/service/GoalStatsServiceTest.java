@@ -0,0 +1,97 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.entity.DailyStat;
+import com.goalapp.entity.GoalType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("목표 통계 테스트")
+class GoalStatsServiceTest {
+
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @InjectMocks
+    private GoalStatsService goalStatsService;
+
+    @Test
+    @DisplayName("주 단위는 일별 롤업 행을 월요일 기준으로 합침")
+    void getGoalBuckets_주단위() {
+        // given - 2024-03-04(월) ~ 2024-03-10(일)
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+        when(dailyStatsService.findRange(monday, LocalDate.of(2024, 3, 11))).thenReturn(List.of(
+                stat(monday, GoalType.DAILY, 2, 1, 0, 0, 3),
+                stat(monday.plusDays(1), GoalType.DAILY, 1, 1, 2, 1, 0),
+                stat(monday.plusDays(3), GoalType.DAILY, 1, 0, 0, 0, 1),
+                stat(monday.plusDays(6), GoalType.WEEKLY, 0, 0, 1, 0, 0)));
+
+        // when
+        List<GoalStatsBucket> buckets = goalStatsService.getGoalBuckets(BucketUnit.WEEK, monday.plusDays(2), monday.plusDays(6));
+
+        // then
+        // 같은 구간 안에서는 타입 선언 순서 (WEEKLY → DAILY)
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0).getType()).isEqualTo(GoalType.WEEKLY);
+        assertThat(buckets.get(0).getCompleted()).isEqualTo(1);
+        GoalStatsBucket daily = buckets.get(1);
+        assertThat(daily.getBucketStart()).isEqualTo(monday);
+        assertThat(daily.getType()).isEqualTo(GoalType.DAILY);
+        assertThat(daily.getCreated()).isEqualTo(4);
+        assertThat(daily.getCompletionRate()).isEqualTo(50.0);
+        assertThat(daily.getExpired()).isEqualTo(1);
+        assertThat(daily.getRoutineCompletions()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("양 끝 구간은 모두 구간 전체를 집계 (마지막 주도 일요일까지)")
+    void getGoalBuckets_양끝구간() {
+        // given - 수요일 ~ 다음 주 수요일
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+        LocalDate nextSunday = monday.plusDays(13);
+        when(dailyStatsService.findRange(monday, monday.plusWeeks(2))).thenReturn(List.of(
+                stat(monday, GoalType.DAILY, 1, 0, 0, 0, 0),
+                stat(nextSunday, GoalType.DAILY, 1, 0, 0, 0, 0)));
+
+        // when
+        List<GoalStatsBucket> buckets = goalStatsService.getGoalBuckets(BucketUnit.WEEK, monday.plusDays(2), monday.plusDays(9));
+
+        // then
+        assertThat(buckets).extracting(GoalStatsBucket::getBucketStart).containsExactly(monday, monday.plusWeeks(1));
+        assertThat(buckets).extracting(GoalStatsBucket::getCreated).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 거부")
+    void getGoalBuckets_잘못된기간() {
+        assertThatThrownBy(() -> goalStatsService.getGoalBuckets(BucketUnit.DAY,
+                LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(dailyStatsService);
+    }
+
+    private DailyStat stat(LocalDate date, GoalType type, long created, long createdCompleted,
+                           long completed, long expired, long routineCompletions) {
+        return DailyStat.builder()
+                .date(date)
+                .type(type)
+                .createdCount(created)
+                .createdCompletedCount(createdCompleted)
+                .completedCount(completed)
+                .expiredCount(expired)
+                .routineCompletionCount(routineCompletions)
+                .build();
+    }
+}
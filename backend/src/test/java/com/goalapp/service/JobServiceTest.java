@@ -0,0 +1,120 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobRun;
+import com.goalapp.entity.JobRunStatus;
+import com.goalapp.entity.JobTrigger;
+import com.goalapp.entity.JobType;
+import com.goalapp.repository.JobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("작업 서비스 테스트")
+class JobServiceTest {
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    @Mock
+    private Job expireJob;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        // 동기 실행기로 작업 완료까지 한 번에 검증
+        when(expireJob.getType()).thenReturn(JobType.GOAL_EXPIRE);
+        jobService = new JobService(jobRunRepository, List.of(expireJob), new SyncTaskExecutor());
+    }
+
+    @Test
+    void submit_작업실행후성공기록() {
+        // given
+        JobRun run = JobRun.builder()
+                .id(1L)
+                .jobType(JobType.GOAL_EXPIRE)
+                .triggerType(JobTrigger.MANUAL)
+                .status(JobRunStatus.QUEUED)
+                .queuedAt(LocalDateTime.now())
+                .build();
+        when(jobRunRepository.existsByJobTypeAndStatusIn(eq(JobType.GOAL_EXPIRE), anyCollection())).thenReturn(false);
+        when(jobRunRepository.save(any(JobRun.class))).thenReturn(run);
+        when(jobRunRepository.findById(1L)).thenReturn(Optional.of(run));
+        when(expireJob.run(any(JobProgress.class))).thenAnswer(invocation -> {
+            JobProgress progress = invocation.getArgument(0);
+            progress.chunkCompleted(3);
+            return 3L;
+        });
+
+        // when
+        jobService.submit(JobType.GOAL_EXPIRE, JobTrigger.MANUAL);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getProcessedCount()).isEqualTo(3);
+        assertThat(run.getChunkCount()).isEqualTo(1);
+        assertThat(jobService.getProgress(1L)).isEmpty();
+    }
+
+    @Test
+    void submit_이미실행중이면예외() {
+        // given
+        when(jobRunRepository.existsByJobTypeAndStatusIn(eq(JobType.GOAL_EXPIRE), anyCollection())).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.submit(JobType.GOAL_EXPIRE, JobTrigger.MANUAL))
+                .isInstanceOf(IllegalStateException.class);
+        verify(expireJob, never()).run(any());
+    }
+
+    @Test
+    void submit_등록되지않은작업이면예외() {
+        assertThatThrownBy(() -> jobService.submit(JobType.GOAL_RETENTION, JobTrigger.MANUAL))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(jobRunRepository, never()).save(any());
+    }
+
+    @Test
+    void recoverOnStartup_성공이력없는작업도보충실행() {
+        // given - 한 번도 성공한 적 없는 cron 작업
+        JobRun run = JobRun.builder()
+                .id(1L)
+                .jobType(JobType.GOAL_EXPIRE)
+                .triggerType(JobTrigger.CATCH_UP)
+                .status(JobRunStatus.QUEUED)
+                .build();
+        when(jobRunRepository.findTopByJobTypeAndStatusOrderByStartedAtDesc(JobType.GOAL_EXPIRE, JobRunStatus.SUCCEEDED))
+                .thenReturn(Optional.empty());
+        when(jobRunRepository.save(any(JobRun.class))).thenReturn(run);
+
+        // when
+        jobService.recoverOnStartup();
+
+        // then
+        verify(jobRunRepository).save(argThat(saved -> saved.getTriggerType() == JobTrigger.CATCH_UP));
+        verify(expireJob).run(any(JobProgress.class));
+    }
+
+    @Test
+    void isWindowMissed_cron시점경과여부() {
+        LocalDateTime lastRun = LocalDateTime.of(2026, 1, 1, 2, 0, 5);
+
+        // 매일 02:00 작업: 같은 날 10시에는 놓친 실행 없음, 다음 날 03시에는 놓침
+        assertThat(JobService.isWindowMissed(JobType.GOAL_RETENTION, lastRun, lastRun.plusHours(8))).isFalse();
+        assertThat(JobService.isWindowMissed(JobType.GOAL_RETENTION, lastRun, lastRun.plusDays(1).plusHours(1))).isTrue();
+    }
+}
@@ -0,0 +1,110 @@
+package com.goalapp.service;
+
+import com.goalapp.config.ReminderProperties;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalType;
+import com.goalapp.repository.GoalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("알림 발송 서비스 테스트")
+class ReminderServiceTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<ReminderMessage> delivered = new ArrayList<>();
+    private final ReminderProperties properties = new ReminderProperties();
+
+    private Goal dueGoal;
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 2, 9, 0, 30);
+
+    @BeforeEach
+    void setUp() {
+        dueGoal = Goal.builder()
+                .id(1L)
+                .title("독서하기")
+                .type(GoalType.DAILY)
+                .reminderEnabled(true)
+                .reminderFrequency("DAILY")
+                .nextReminderAt(now.minusSeconds(30))
+                .build();
+    }
+
+    @Test
+    void nextFireTime_주기별다음발송시각() {
+        LocalTime nine = LocalTime.of(9, 0);
+        LocalDateTime morning = LocalDateTime.of(2026, 3, 2, 8, 0);
+
+        assertThat(ReminderService.nextFireTime("DAILY", morning, nine)).isEqualTo(LocalDateTime.of(2026, 3, 2, 9, 0));
+        assertThat(ReminderService.nextFireTime(null, now, nine)).isEqualTo(LocalDateTime.of(2026, 3, 3, 9, 0));
+        assertThat(ReminderService.nextFireTime("WEEKLY", now, nine)).isEqualTo(LocalDateTime.of(2026, 3, 9, 9, 0));
+        assertThat(ReminderService.nextFireTime("MONTHLY", now, nine)).isEqualTo(LocalDateTime.of(2026, 4, 2, 9, 0));
+    }
+
+    @Test
+    void dispatchDue_발송성공시다음주기로재스케줄() {
+        // given
+        ReminderService service = serviceWith(delivered::addAll);
+        when(goalRepository.findDueReminders(eq(now), any(Pageable.class))).thenReturn(List.of(dueGoal));
+
+        // when
+        int sent = service.dispatchDue(now);
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        assertThat(delivered).extracting(ReminderMessage::getGoalId).containsExactly(1L);
+        verify(goalRepository).updateReminderSchedule(1L, LocalDateTime.of(2026, 3, 3, 9, 0), 0);
+    }
+
+    @Test
+    void dispatchDue_발송실패시backoff재시도() {
+        // given
+        ReminderService service = serviceWith(reminders -> {
+            throw new IllegalStateException("sink down");
+        });
+        when(goalRepository.findDueReminders(eq(now), any(Pageable.class))).thenReturn(List.of(dueGoal));
+
+        // when
+        int sent = service.dispatchDue(now);
+
+        // then
+        assertThat(sent).isZero();
+        verify(goalRepository).updateReminderSchedule(1L, now.plus(Duration.ofMinutes(1)), 1);
+    }
+
+    @Test
+    void backoff_지수증가후상한() {
+        ReminderService service = serviceWith(delivered::addAll);
+
+        assertThat(service.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(service.backoff(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(service.backoff(10)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private ReminderService serviceWith(ReminderSink sink) {
+        return new ReminderService(goalRepository, sink, properties, new TransactionTemplate(transactionManager));
+    }
+}
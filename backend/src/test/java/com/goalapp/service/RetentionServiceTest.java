@@ -0,0 +1,64 @@
+package com.goalapp.service;
+
+import com.goalapp.config.RetentionProperties.Rule;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.RetentionAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("보존 정책 엔진 테스트")
+class RetentionServiceTest {
+
+    @Test
+    void resolveTypes_타입지정규칙은해당타입만() {
+        Rule dailyDelete = rule(GoalStatus.COMPLETED, GoalType.DAILY, RetentionAction.DELETE);
+
+        assertThat(RetentionService.resolveTypes(dailyDelete, List.of(dailyDelete)))
+                .containsExactly(GoalType.DAILY);
+    }
+
+    @Test
+    void resolveTypes_타입미지정규칙은지정된타입제외() {
+        Rule dailyDelete = rule(GoalStatus.COMPLETED, GoalType.DAILY, RetentionAction.DELETE);
+        Rule completedCompact = rule(GoalStatus.COMPLETED, null, RetentionAction.COMPACT);
+        Rule expiredArchive = rule(GoalStatus.EXPIRED, GoalType.WEEKLY, RetentionAction.ARCHIVE);
+        List<Rule> rules = List.of(dailyDelete, completedCompact, expiredArchive);
+
+        assertThat(RetentionService.resolveTypes(completedCompact, rules))
+                .doesNotContain(GoalType.DAILY)
+                .contains(GoalType.WEEKLY, GoalType.MONTHLY, GoalType.YEARLY);
+    }
+
+    @Test
+    void collectTrees_하위목표까지중복없이() {
+        // 삭제 대상의 하위 목표까지 모아 연결된 루틴을 해제 (함께 선택된 하위 목표는 한 번만)
+        Goal root = goal(1L);
+        Goal child = goal(2L);
+        Goal grandChild = goal(3L);
+        root.getSubGoals().add(child);
+        child.getSubGoals().add(grandChild);
+
+        assertThat(RetentionService.collectTrees(List.of(root, child)))
+                .extracting(Goal::getId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private Goal goal(Long id) {
+        return Goal.builder().id(id).title("목표 " + id).type(GoalType.DAILY).build();
+    }
+
+    private Rule rule(GoalStatus status, GoalType type, RetentionAction action) {
+        Rule rule = new Rule();
+        rule.setStatus(status);
+        rule.setType(type);
+        rule.setAction(action);
+        rule.setAfterDays(30);
+        return rule;
+    }
+}
@@ -0,0 +1,107 @@
+package com.goalapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalapp.entity.ArchivedGoal;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.ReviewPeriod;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.ReviewReportRepository;
+import com.goalapp.repository.RoutineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 회고 리포트 집계 쿼리를 H2에서 직접 실행해 검증 (보존 정책이 만료 목표를 보관/이동한 뒤에 만드는 경우)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("회고 리포트 집계 테스트")
+class ReviewReportBuildTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewReportRepository reportRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ArchivedGoalRepository archivedGoalRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ReviewReportService reviewReportService;
+
+    private final LocalDate monday = LocalDate.of(2024, 3, 4);
+
+    @BeforeEach
+    void setUp() {
+        reviewReportService = new ReviewReportService(reportRepository, goalRepository, archivedGoalRepository,
+                routineRepository, mock(RoutineBitmapService.class), new ObjectMapper().findAndRegisterModules(),
+                transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("만료 후 보관되거나 콜드 테이블로 옮겨진 목표도 마감일이 속한 기간의 만료로 집계")
+    void build_보관된만료목표() {
+        // given - 화요일 마감 목표가 만료된 뒤 보존 정책으로 보관됨
+        Goal archived = persist("보관된 만료 목표", monday.plusDays(1).atTime(18, 0));
+        goalRepository.markGoalsExpired(List.of(archived.getId()), monday.plusDays(2).atStartOfDay());
+        goalRepository.markGoalsArchived(List.of(archived.getId()), monday.plusDays(3).atTime(2, 0));
+        // 만료 후 보관되어 콜드 테이블로 옮겨진 목표
+        archivedGoalRepository.save(ArchivedGoal.builder()
+                .id(archived.getId() + 100)
+                .title("옮겨진 만료 목표")
+                .type(GoalType.DAILY)
+                .status(GoalStatus.ARCHIVED)
+                .dueDate(monday.plusDays(2).atTime(9, 0))
+                .expiredAt(monday.plusDays(2).atTime(10, 0))
+                .createdAt(monday.atStartOfDay())
+                .archivedAt(monday.plusDays(4).atTime(2, 30))
+                .build());
+        // 만료된 적 없이 보관된 목표는 제외
+        Goal neverExpired = persist("그냥 보관한 목표", monday.plusDays(1).atTime(18, 0));
+        goalRepository.markGoalsArchived(List.of(neverExpired.getId()), monday.plusDays(3).atTime(2, 0));
+        entityManager.clear();
+
+        // when
+        ReviewDocument document = reviewReportService.build(ReviewPeriod.WEEK, monday);
+
+        // then
+        assertThat(document.getExpiredGoals()).extracting(ReviewDocument.GoalEntry::getTitle)
+                .containsExactlyInAnyOrder("보관된 만료 목표", "옮겨진 만료 목표");
+        assertThat(document.getExpiredByType()).containsEntry(GoalType.DAILY, 2L);
+    }
+
+    private Goal persist(String title, LocalDateTime dueDate) {
+        return entityManager.persistAndFlush(Goal.builder()
+                .title(title)
+                .type(GoalType.DAILY)
+                .status(GoalStatus.ACTIVE)
+                .dueDate(dueDate)
+                .createdAt(dueDate.minusDays(1))
+                .build());
+    }
+}
@@ -0,0 +1,209 @@
+package com.goalapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalapp.entity.GoalStatus;
+import com.goalapp.entity.GoalType;
+import com.goalapp.entity.ReviewPeriod;
+import com.goalapp.entity.ReviewReport;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutineYearBitmap;
+import com.goalapp.repository.ArchivedGoalRepository;
+import com.goalapp.repository.GoalRepository;
+import com.goalapp.repository.ReviewReportRepository;
+import com.goalapp.repository.RoutineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("회고 리포트 테스트")
+class ReviewReportServiceTest {
+
+    @Mock
+    private ReviewReportRepository reportRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private ArchivedGoalRepository archivedGoalRepository;
+
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private RoutineBitmapService bitmapService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReviewReportService reviewReportService;
+
+    @BeforeEach
+    void setUp() {
+        reviewReportService = new ReviewReportService(reportRepository, goalRepository, archivedGoalRepository,
+                routineRepository, bitmapService, new ObjectMapper().findAndRegisterModules(), transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("이미 만든 리포트는 다시 계산하지 않고 키 조회로 반환")
+    void getReport_저장된리포트() {
+        // given
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+        ReviewReport stored = ReviewReport.builder().period(ReviewPeriod.WEEK).periodStart(monday).etag("abc").build();
+        when(reportRepository.findByPeriodAndPeriodStart(ReviewPeriod.WEEK, monday)).thenReturn(Optional.of(stored));
+
+        // when
+        ReviewReport report = reviewReportService.getReport(ReviewPeriod.WEEK, monday);
+
+        // then
+        assertThat(report).isSameAs(stored);
+        verifyNoInteractions(goalRepository, archivedGoalRepository, routineRepository, bitmapService);
+    }
+
+    @Test
+    @DisplayName("기간 시작일이 아니거나 끝나지 않은 기간은 거부")
+    void getReport_잘못된기간() {
+        assertThatThrownBy(() -> reviewReportService.getReport(ReviewPeriod.WEEK, LocalDate.of(2024, 3, 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        LocalDate thisMonth = ReviewPeriod.MONTH.periodStart(LocalDate.now());
+        assertThatThrownBy(() -> reviewReportService.getReport(ReviewPeriod.MONTH, thisMonth))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(reportRepository);
+    }
+
+    @Test
+    @DisplayName("주간 리포트는 완료 목표와 루틴 주기 달성률을 담음")
+    void build_주간() {
+        // given - 2024-03-04(월) ~ 2024-03-10(일), 매일 루틴 5일 완료
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+        LocalDateTime from = monday.atStartOfDay();
+        LocalDateTime until = monday.plusWeeks(1).atStartOfDay();
+        when(goalRepository.findCompletedRows(from, until)).thenReturn(List.<Object[]>of(
+                new Object[] {1L, "책 읽기", GoalType.DAILY, from.plusHours(9)}));
+        when(archivedGoalRepository.findCompletedRows(from, until)).thenReturn(List.<Object[]>of(
+                new Object[] {2L, "운동", GoalType.WEEKLY, from.plusDays(2)}));
+        when(goalRepository.findExpiredRows(from, until)).thenReturn(List.of());
+        when(archivedGoalRepository.findExpiredRows(from, until)).thenReturn(List.of());
+
+        Routine daily = Routine.builder()
+                .id(10L)
+                .title("아침 조깅")
+                .frequency(RoutineFrequency.DAILY)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 8, 0))
+                .build();
+        Routine monthly = Routine.builder()
+                .id(11L)
+                .title("가계부 정리")
+                .frequency(RoutineFrequency.MONTHLY)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 8, 0))
+                .build();
+        when(routineRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of(daily, monthly));
+        RoutineYearBitmap bitmap = RoutineYearBitmap.empty(10L, 2024);
+        for (int i = 0; i < 5; i++) {
+            bitmap.set(monday.plusDays(i), true);
+        }
+        when(bitmapService.getYears(List.of(10L, 11L), 2024))
+                .thenReturn(Map.of(10L, bitmap, 11L, RoutineYearBitmap.empty(11L, 2024)));
+
+        // when
+        ReviewDocument document = reviewReportService.build(ReviewPeriod.WEEK, monday);
+
+        // then
+        assertThat(document.getCompletedByType()).containsEntry(GoalType.DAILY, 1L).containsEntry(GoalType.WEEKLY, 1L);
+        assertThat(document.getExpiredGoals()).isEmpty();
+        ReviewDocument.RoutineEntry jogging = document.getRoutines().get(0);
+        assertThat(jogging.getCompletions()).isEqualTo(5);
+        assertThat(jogging.getPeriodsDue()).isEqualTo(7);
+        assertThat(jogging.getPeriodsMet()).isEqualTo(5);
+        // 한 주 안에 끝나지 않는 월간 주기는 달성률에서 제외
+        ReviewDocument.RoutineEntry budget = document.getRoutines().get(1);
+        assertThat(budget.getPeriodsDue()).isZero();
+        assertThat(budget.getAdherenceRate()).isNull();
+        assertThat(document.getRoutineAdherenceRate()).isEqualTo(5.0 / 7 * 100);
+        // 기간 직후가 아니면 연속 기록은 담지 않음
+        assertThat(jogging.getStreak()).isNull();
+        verify(reportRepository, never()).findByPeriodAndPeriodStart(any(), any());
+        verify(bitmapService, never()).getYear(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("지난 날짜 루틴 완료는 그 날짜가 속한 끝난 주/월 리포트를 무효화")
+    void routineCompletionsChanged_소급() {
+        // given
+        LocalDate day = LocalDate.of(2024, 3, 6);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        reviewReportService.routineCompletionsChanged(List.of(day));
+
+        // then
+        verify(reportRepository).deleteReport(ReviewPeriod.WEEK, LocalDate.of(2024, 3, 4));
+        verify(reportRepository).deleteReport(ReviewPeriod.MONTH, LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    @DisplayName("진행 중인 기간만 바뀌거나 완료 시각이 그대로인 수정은 리포트를 건드리지 않음")
+    void goalChanged_현재기간() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        GoalSnapshot before = new GoalSnapshot(GoalType.DAILY, GoalStatus.ACTIVE, false, now, now.minusDays(1),
+                null, now.minusDays(1), null);
+        GoalSnapshot completed = new GoalSnapshot(GoalType.DAILY, GoalStatus.COMPLETED, true, now, now.minusDays(1),
+                now, now, null);
+        GoalSnapshot lastYear = new GoalSnapshot(GoalType.DAILY, GoalStatus.COMPLETED, true, null,
+                now.minusYears(1), now.minusYears(1), now.minusYears(1), null);
+
+        // when
+        reviewReportService.goalChanged(before, completed);
+        reviewReportService.goalChanged(lastYear, lastYear);
+
+        // then
+        verifyNoInteractions(reportRepository);
+    }
+
+    @Test
+    @DisplayName("지난 기간의 만료 목표를 완료하면 만료 기준일이 속한 리포트를 무효화")
+    void goalChanged_만료목표완료() {
+        // given - 2024-03-05 마감으로 만료된 목표를 오늘 완료
+        LocalDateTime dueDate = LocalDateTime.of(2024, 3, 5, 18, 0);
+        LocalDateTime now = LocalDateTime.now();
+        GoalSnapshot before = new GoalSnapshot(GoalType.DAILY, GoalStatus.EXPIRED, false, dueDate,
+                dueDate.minusDays(1), null, dueDate, dueDate);
+        GoalSnapshot after = new GoalSnapshot(GoalType.DAILY, GoalStatus.COMPLETED, true, dueDate,
+                dueDate.minusDays(1), now, now, null);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        reviewReportService.goalChanged(before, after);
+
+        // then
+        verify(reportRepository).deleteReport(ReviewPeriod.WEEK, LocalDate.of(2024, 3, 4));
+        verify(reportRepository).deleteReport(ReviewPeriod.MONTH, LocalDate.of(2024, 3, 1));
+    }
+}
@@ -0,0 +1,162 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutineYearBitmap;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutineRepository;
+import com.goalapp.repository.RoutineYearBitmapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 비트맵 생성(INSERT ... 유니크 위반 무시)과 생성 작업을 H2에서 직접 실행해 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("루틴 연도 비트맵 테스트")
+class RoutineBitmapServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private RoutineYearBitmapRepository bitmapRepository;
+
+    @Autowired
+    private RoutineCompletionRepository completionRepository;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final CompletionPartitionService partitionService = mock(CompletionPartitionService.class);
+
+    private final RoutineCompactionService compactionService = mock(RoutineCompactionService.class);
+
+    private RoutineBitmapService bitmapService;
+
+    private final int thisYear = LocalDate.now().getYear();
+
+    private Routine routine;
+
+    @BeforeEach
+    void setUp() {
+        when(partitionService.readableTables()).thenReturn(List.of("routine_completions"));
+        bitmapService = new RoutineBitmapService(bitmapRepository, completionRepository, partitionService,
+                compactionService, checkpointRepository, jdbcTemplate, transactionTemplate, dataSource);
+        routine = routineRepository.save(Routine.builder()
+                .title("아침 조깅")
+                .frequency(RoutineFrequency.DAILY)
+                .isActive(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("생성 작업은 완료 기록이 있는 지난 연도와 올해 비트맵을 만들고, 이후 없는 연도는 완료 기록을 읽지 않음")
+    void backfill_지난연도와올해() {
+        // given
+        LocalDate past = LocalDate.of(thisYear - 2, 5, 17);
+        insertCompletion(past);
+
+        // when
+        long created = bitmapService.backfill(JobProgress.untracked());
+
+        // then
+        assertThat(created).isEqualTo(2);
+        assertThat(bitmapRepository.findByRoutineIdAndYear(routine.getId(), thisYear - 2))
+                .get().extracting(bitmap -> bitmap.isSet(past)).isEqualTo(true);
+        assertThat(bitmapRepository.findByRoutineIdAndYear(routine.getId(), thisYear))
+                .get().extracting(RoutineYearBitmap::cardinality).isEqualTo(0);
+
+        // when - 다시 실행하면 올해만 확인하고, 행이 없는 연도 조회는 빈 비트맵
+        clearInvocations(partitionService, compactionService);
+        long again = bitmapService.backfill(JobProgress.untracked());
+        RoutineYearBitmap empty = bitmapService.getYear(routine.getId(), thisYear - 5);
+
+        // then
+        assertThat(again).isZero();
+        assertThat(empty.cardinality()).isZero();
+        verify(partitionService, never()).readableTables();
+        verify(partitionService, never()).findCompletions(any(), any(), any());
+        verifyNoInteractions(compactionService);
+    }
+
+    @Test
+    @DisplayName("비트맵이 없는 연도의 첫 갱신은 기존 완료 기록으로 채운 행을 만듦")
+    void mark_첫갱신() {
+        // given
+        LocalDate earlier = LocalDate.of(thisYear - 1, 3, 2);
+        LocalDate today = LocalDate.of(thisYear - 1, 3, 9);
+        insertCompletion(earlier);
+        insertCompletion(today);
+
+        // when
+        bitmapService.mark(routine.getId(), today);
+
+        // then
+        RoutineYearBitmap bitmap = bitmapRepository.findByRoutineIdAndYear(routine.getId(), thisYear - 1).orElseThrow();
+        assertThat(bitmap.completedDates()).containsExactly(earlier, today);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 먼저 만든 행에는 INSERT가 무시되고 갱신은 그 행에 반영")
+    void mark_먼저만든행() {
+        // given - 다른 요청이 먼저 만든 행
+        LocalDate other = LocalDate.of(thisYear, 1, 5);
+        LocalDate mine = LocalDate.of(thisYear, 1, 6);
+        RoutineYearBitmap concurrent = RoutineYearBitmap.empty(routine.getId(), thisYear);
+        concurrent.set(other, true);
+        bitmapRepository.saveAndFlush(concurrent);
+        entityManager.clear();
+
+        // when
+        bitmapService.initialize(routine.getId());
+        bitmapService.mark(routine.getId(), mine);
+
+        // then
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(bitmapRepository.findAll()).hasSize(1);
+        assertThat(bitmapRepository.findByRoutineIdAndYear(routine.getId(), thisYear).orElseThrow().completedDates())
+                .containsExactly(other, mine);
+    }
+
+    private void insertCompletion(LocalDate date) {
+        jdbcTemplate.update("INSERT INTO routine_completions (routine_id, completed_at, completion_date) " +
+                        "VALUES (:routineId, :completedAt, :date)",
+                new MapSqlParameterSource("routineId", routine.getId())
+                        .addValue("completedAt", Timestamp.valueOf(date.atTime(7, 30)))
+                        .addValue("date", Date.valueOf(date)));
+    }
+}
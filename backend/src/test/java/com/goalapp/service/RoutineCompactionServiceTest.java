@@ -0,0 +1,124 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.CompletionPartition;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.repository.CompletionPartitionRepository;
+import com.goalapp.repository.RoutineMonthlySummaryRepository;
+import com.goalapp.repository.RoutineRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 봉인과 압축의 순서를 H2에서 두 작업을 실제로 실행해 검증
+ * (파티션 테이블 DDL이 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리)
+ */
+@DataJpaTest(properties = {"jobs.partitions.hot-years=2", "jobs.compaction.after-days=365"})
+@ActiveProfiles("test")
+@Import({CompletionPartitionService.class, RoutineCompactionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("루틴 완료 기록 봉인/압축 순서 테스트")
+class RoutineCompactionServiceTest {
+
+    @Autowired
+    private CompletionPartitionService partitionService;
+
+    @Autowired
+    private RoutineCompactionService compactionService;
+
+    @Autowired
+    private CompletionPartitionRepository partitionRepository;
+
+    @Autowired
+    private RoutineMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int thisYear = LocalDate.now().getYear();
+
+    private Routine routine;
+
+    @BeforeEach
+    void setUp() {
+        routine = routineRepository.save(Routine.builder()
+                .title("아침 조깅")
+                .frequency(RoutineFrequency.DAILY)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (CompletionPartition partition : partitionRepository.findAll()) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.getTableName());
+        }
+        partitionRepository.deleteAll();
+        summaryRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM routine_completions");
+        routineRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("압축은 hot 기록을 건드리지 않고, 봉인된 연도만 월 요약으로 접음")
+    void compact_봉인후압축() {
+        // given - hot 보존 2년: 4년 전 기록은 봉인 대상, 2년 전 기록은 hot에 남음 (둘 다 압축 기준일보다 오래됨)
+        LocalDate sealable = LocalDate.of(thisYear - 4, 3, 10);
+        LocalDate hot = LocalDate.of(thisYear - 2, 3, 10);
+        insertCompletion(sealable, 77L);
+        insertCompletion(hot, null);
+
+        // when - 봉인 전에 압축이 먼저 돌아도
+        long compactedBeforeSeal = compactionService.compact(JobProgress.untracked());
+
+        // then - 아무것도 압축되지 않음
+        assertThat(compactedBeforeSeal).isZero();
+        assertThat(count("routine_completions")).isEqualTo(2);
+
+        // when - 봉인
+        long sealed = partitionService.sealExpiredYears(JobProgress.untracked());
+
+        // then - 기여 목표까지 그대로 옮겨짐
+        String table = CompletionPartition.tableNameFor(thisYear - 4);
+        assertThat(sealed).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT contributed_goal_id FROM " + table, Long.class)).isEqualTo(77L);
+        assertThat(partitionService.sealedTables()).containsExactly(table);
+
+        // when - 봉인 후 압축
+        long compacted = compactionService.compact(JobProgress.untracked());
+
+        // then - 봉인된 기록만 요약으로 접히고 hot 기록은 남음
+        assertThat(compacted).isEqualTo(1);
+        assertThat(count(table)).isZero();
+        assertThat(count("routine_completions")).isEqualTo(1);
+        assertThat(compactionService.findCompactedDates(routine.getId())).containsExactly(sealable);
+    }
+
+    private void insertCompletion(LocalDate date, Long contributedGoalId) {
+        jdbcTemplate.update("INSERT INTO routine_completions (routine_id, completed_at, completion_date, contributed_goal_id) " +
+                        "VALUES (?, ?, ?, ?)",
+                routine.getId(), Timestamp.valueOf(date.atTime(7, 30)), Date.valueOf(date), contributedGoalId);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.goalapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("루틴 완료 기록 삽입 테스트")
+class RoutineCompletionWriterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DataSource dataSource;
+
+    private RoutineCompletionWriter completionWriter;
+
+    @BeforeEach
+    void setUp() {
+        completionWriter = new RoutineCompletionWriter(jdbcTemplate, dataSource);
+    }
+
+    @Test
+    @DisplayName("배치 결과가 SUCCESS_NO_INFO면 삽입으로 세지 않고 이번 요청 시각으로 쓰인 행인지 다시 확인")
+    void insertAllIfAbsent_건별결과없음() throws Exception {
+        // given - 3/4는 이번 배치가 씀, 3/5는 같은 순간 다른 요청이 먼저 씀
+        LocalTime timeOfDay = LocalTime.of(21, 30, 15, 123_456_789);
+        List<CompletionEntry> entries = List.of(
+                new CompletionEntry(1L, LocalDate.of(2024, 3, 4), null),
+                new CompletionEntry(1L, LocalDate.of(2024, 3, 5), null));
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        ResultSet ours = row(1L, LocalDate.of(2024, 3, 4), timeOfDay.withNano(123_456_000));
+        ResultSet theirs = row(1L, LocalDate.of(2024, 3, 5), LocalTime.of(21, 30, 14));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(ours);
+            handler.processRow(theirs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT"), any(MapSqlParameterSource.class), any(RowCallbackHandler.class));
+
+        // when
+        boolean[] inserted = completionWriter.insertAllIfAbsent(entries, timeOfDay, Map.of());
+
+        // then
+        assertThat(inserted).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("드라이버가 건별 결과를 주면 다시 조회하지 않음")
+    void insertAllIfAbsent_건별결과() {
+        // given
+        List<CompletionEntry> entries = List.of(
+                new CompletionEntry(1L, LocalDate.of(2024, 3, 4), null),
+                new CompletionEntry(2L, LocalDate.of(2024, 3, 4), null));
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] {1, 0});
+
+        // when
+        boolean[] inserted = completionWriter.insertAllIfAbsent(entries, LocalTime.NOON, Map.of());
+
+        // then
+        assertThat(inserted).containsExactly(true, false);
+        verify(jdbcTemplate, never()).query(anyString(), any(MapSqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(Long routineId, LocalDate date, LocalTime time) throws Exception {
+        // 시각이 다른 행은 키 컬럼을 읽지 않으므로 lenient
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(rs.getLong("routine_id")).thenReturn(routineId);
+        lenient().when(rs.getDate("completion_date")).thenReturn(Date.valueOf(date));
+        when(rs.getTimestamp("completed_at")).thenReturn(Timestamp.valueOf(date.atTime(time)));
+        return rs;
+    }
+}
@@ -0,0 +1,195 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutinePeriodCounter;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutinePeriodCounterRepository;
+import com.goalapp.repository.RoutineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("루틴 주기 카운터 테스트")
+class RoutineCounterServiceTest {
+
+    @Mock
+    private RoutinePeriodCounterRepository counterRepository;
+
+    @Mock
+    private RoutineCompletionRepository completionRepository;
+
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private CompletionPartitionService partitionService;
+
+    @Mock
+    private RoutineCompactionService compactionService;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DataSource dataSource;
+
+    private RoutineCounterService counterService;
+
+    private final LocalDate weekStart = LocalDate.of(2024, 3, 4);
+
+    private final Routine routine = Routine.builder()
+            .id(1L)
+            .title("운동")
+            .frequency(RoutineFrequency.WEEKLY)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        // DataSource 메타데이터를 읽지 못하면 표준 SQL 경로(H2와 같음)
+        counterService = new RoutineCounterService(counterRepository, completionRepository, routineRepository,
+                partitionService, compactionService, checkpointRepository, transactionTemplate, jdbcTemplate, dataSource);
+    }
+
+    @Test
+    @DisplayName("카운터 행이 있으면 증감만 하고 새 행을 만들지 않음")
+    void decrement_기존행() {
+        // given
+        when(counterRepository.adjustCount(eq(1L), eq(weekStart), eq(-1), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        counterService.decrement(routine, weekStart);
+
+        // then
+        verifyNoInteractions(jdbcTemplate, completionRepository);
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 해당 주기 완료 기록 수로 INSERT")
+    void increment_행없음() {
+        // given
+        when(counterRepository.adjustCount(eq(1L), eq(weekStart), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(completionRepository.countByRoutineIdAndCompletedAtGreaterThanEqualAndCompletedAtLessThan(
+                1L, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay())).thenReturn(3L);
+
+        // when
+        counterService.increment(routine, weekStart);
+
+        // then
+        verify(jdbcTemplate).update(startsWith("INSERT"), argThat((MapSqlParameterSource params) ->
+                Integer.valueOf(3).equals(params.getValue("count"))));
+    }
+
+    @Test
+    @DisplayName("동시에 다른 요청이 행을 먼저 만들면 유니크 위반 대신 그 행에 증감을 반영")
+    void increment_동시생성() {
+        // given
+        when(counterRepository.adjustCount(eq(1L), eq(weekStart), eq(1), any(LocalDateTime.class)))
+                .thenReturn(0)
+                .thenReturn(1);
+        when(completionRepository.countByRoutineIdAndCompletedAtGreaterThanEqualAndCompletedAtLessThan(
+                anyLong(), any(), any())).thenReturn(1L);
+        when(jdbcTemplate.update(startsWith("INSERT"), any(MapSqlParameterSource.class)))
+                .thenThrow(new DuplicateKeyException("uk_routine_period_counters_routine_period"));
+
+        // when
+        counterService.increment(routine, weekStart);
+
+        // then
+        verify(counterRepository, times(2)).adjustCount(eq(1L), eq(weekStart), eq(1), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("조회 시 카운터 행이 없으면 해당 주기 완료 기록 수로 만들고 그 수를 반환")
+    void getCount_행없음() {
+        // given
+        when(counterRepository.findByRoutineIdAndPeriodStart(1L, weekStart)).thenReturn(Optional.empty());
+        when(completionRepository.countByRoutineIdAndCompletedAtGreaterThanEqualAndCompletedAtLessThan(
+                1L, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay())).thenReturn(2L);
+
+        // when
+        int count = counterService.getCount(routine, weekStart);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        verify(jdbcTemplate).update(startsWith("INSERT"), argThat((MapSqlParameterSource params) ->
+                Integer.valueOf(2).equals(params.getValue("count")) && Integer.valueOf(0).equals(params.getValue("delta"))));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 카운터 행이 없는 루틴은 완료 기록을 한 번에 집계 (행은 만들지 않음)")
+    void getCurrentCounts_행없음() {
+        // given (수요일, 루틴 2는 카운터 행이 있음)
+        LocalDate wednesday = weekStart.plusDays(2);
+        Routine daily = Routine.builder().id(2L).title("물 마시기").frequency(RoutineFrequency.DAILY).build();
+        when(counterRepository.findByRoutineIdInAndPeriodStartIn(any(), any())).thenReturn(List.of(
+                RoutinePeriodCounter.builder().routineId(2L).periodStart(wednesday).completionCount(1).build()));
+        when(completionRepository.countCompletionsByPeriod(eq(Set.of(1L)), any(), any(), any(), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[] {1L, 1L, 2L, 2L}));
+
+        // when
+        Map<Long, Integer> counts = counterService.getCurrentCounts(List.of(routine, daily), wednesday);
+
+        // then - 주간 루틴은 이번 주 완료 수
+        assertThat(counts).containsEntry(1L, 2).containsEntry(2L, 1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("부팅 시 체크포인트가 있으면 누적 통계를 다시 채우지 않음")
+    void backfillOnStartup_체크포인트있음() {
+        // given
+        when(checkpointRepository.existsById("routine-counter-backfill")).thenReturn(true);
+
+        // when
+        counterService.backfillOnStartup();
+
+        // then
+        verify(routineRepository, never()).findChunkAfter(anyLong(), any());
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("부팅 시 체크포인트가 없고 루틴도 없으면 재구성 없이 체크포인트만 남김")
+    void backfillOnStartup_루틴없음() {
+        // given
+        when(checkpointRepository.existsById("routine-counter-backfill")).thenReturn(false);
+        when(routineRepository.count()).thenReturn(0L);
+
+        // when
+        counterService.backfillOnStartup();
+
+        // then
+        verify(routineRepository, never()).findChunkAfter(anyLong(), any());
+        verify(checkpointRepository).save(argThat((JobCheckpoint checkpoint) ->
+                "routine-counter-backfill".equals(checkpoint.getName())));
+    }
+}
@@ -1,25 +1,41 @@
 package com.goalapp.service;
 
+import com.goalapp.dto.request.CompletionCursor;
+import com.goalapp.entity.BucketUnit;
+import com.goalapp.entity.Goal;
+import com.goalapp.entity.GoalType;
 import com.goalapp.entity.Routine;
 import com.goalapp.entity.RoutineCompletion;
 import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.entity.RoutineMonthlySummary;
+import com.goalapp.entity.RoutineYearBitmap;
+import com.goalapp.repository.GoalRepository;
 import com.goalapp.repository.RoutineCompletionRepository;
 import com.goalapp.repository.RoutineRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +47,36 @@ class RoutineServiceTest {
     @Mock
     private RoutineCompletionRepository completionRepository;
 
+    @Mock
+    private RoutineCounterService counterService;
+
+    @Mock
+    private RoutineCompletionWriter completionWriter;
+
+    @Mock
+    private RoutineBitmapService bitmapService;
+
+    @Mock
+    private RoutineStreakService streakService;
+
+    @Mock
+    private CompletionPartitionService partitionService;
+
+    @Mock
+    private RoutineCompactionService compactionService;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private DailyStatsService dailyStatsService;
+
+    @Mock
+    private ReviewReportService reviewReportService;
+
     @InjectMocks
     private RoutineService routineService;
 
@@ -146,14 +192,41 @@ class RoutineServiceTest {
     @Test
     void deleteRoutine_성공() {
         // given
-        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
-        doNothing().when(routineRepository).delete(testRoutine);
+        when(routineRepository.existsById(1L)).thenReturn(true);
 
         // when
         routineService.deleteRoutine(1L);
 
         // then
-        verify(routineRepository).delete(testRoutine);
+        InOrder inOrder = inOrder(counterService, completionRepository, routineRepository);
+        inOrder.verify(counterService).deleteCounters(1L);
+        inOrder.verify(completionRepository).deleteAllByRoutineId(1L);
+        inOrder.verify(routineRepository).deleteRoutineById(1L);
+        verify(routineRepository, never()).delete(any(Routine.class));
+    }
+
+    @Test
+    void deleteRoutine_존재하지않음() {
+        // given
+        when(routineRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> routineService.deleteRoutine(99L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(completionRepository, never()).deleteAllByRoutineId(anyLong());
+    }
+
+    @Test
+    void deactivateRoutine_성공() {
+        // given
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(routineRepository.save(testRoutine)).thenReturn(testRoutine);
+
+        // when
+        Routine result = routineService.deactivateRoutine(1L);
+
+        // then
+        assertThat(result.isActive()).isFalse();
     }
 
     @Test
@@ -174,7 +247,6 @@ class RoutineServiceTest {
     void completeRoutine_성공() {
         // given
         when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
-        when(completionRepository.findTodayCompletion(1L)).thenReturn(Optional.empty());
 
         RoutineCompletion completion = RoutineCompletion.builder()
                 .id(1L)
@@ -182,7 +254,8 @@ class RoutineServiceTest {
                 .note("완료!")
                 .build();
 
-        when(completionRepository.save(any(RoutineCompletion.class))).thenReturn(completion);
+        when(completionWriter.insertIfAbsent(eq(1L), any(), eq(LocalDate.now()), eq("완료!"), isNull())).thenReturn(true);
+        when(completionRepository.findByRoutineIdAndCompletionDate(1L, LocalDate.now())).thenReturn(Optional.of(completion));
 
         // when
         RoutineCompletion result = routineService.completeRoutine(1L, "완료!");
@@ -190,7 +263,10 @@ class RoutineServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getNote()).isEqualTo("완료!");
-        verify(completionRepository).save(any(RoutineCompletion.class));
+        verify(routineRepository).incrementCompletionCount(eq(1L), any());
+        verify(counterService).increment(testRoutine, LocalDate.now());
+        verify(bitmapService).mark(1L, LocalDate.now());
+        verify(streakService).onCompleted(testRoutine, LocalDate.now(), 1);
     }
 
     @Test
@@ -203,14 +279,136 @@ class RoutineServiceTest {
                 .routine(testRoutine)
                 .build();
 
-        when(completionRepository.findTodayCompletion(1L)).thenReturn(Optional.of(existingCompletion));
+        // 동시 요청 등으로 오늘 기록이 이미 있으면 삽입되지 않음
+        when(completionWriter.insertIfAbsent(eq(1L), any(), eq(LocalDate.now()), any(), any())).thenReturn(false);
+        when(completionRepository.findByRoutineIdAndCompletionDate(1L, LocalDate.now()))
+                .thenReturn(Optional.of(existingCompletion));
 
         // when
         RoutineCompletion result = routineService.completeRoutine(1L, "완료!");
 
         // then
         assertThat(result).isEqualTo(existingCompletion);
-        verify(completionRepository, never()).save(any());
+        verify(routineRepository, never()).incrementCompletionCount(anyLong(), any());
+        verify(counterService, never()).increment(any(), any());
+    }
+
+    @Test
+    void completeRoutinesBatch_요청중복과_기존기록은_건너뜀() {
+        // given
+        when(compactionService.getCompactedBefore()).thenReturn(LocalDate.now().minusYears(1).withDayOfMonth(1));
+        LocalDate day1 = LocalDate.now().minusDays(3);
+        LocalDate day2 = LocalDate.now().minusDays(2);
+        List<CompletionEntry> entries = List.of(
+                new CompletionEntry(1L, day1, null),
+                new CompletionEntry(1L, day1, "중복"),
+                new CompletionEntry(1L, day2, null));
+
+        when(routineRepository.findAllById(Set.of(1L))).thenReturn(List.of(testRoutine));
+        List<Object[]> existing = List.<Object[]>of(new Object[] {1L, day1.atTime(8, 0)});
+        when(completionRepository.findCompletionTimes(eq(Set.of(1L)), any(), any())).thenReturn(existing);
+        when(completionWriter.insertAllIfAbsent(any(), any(), any())).thenReturn(new boolean[] {true});
+
+        // when
+        int inserted = routineService.completeRoutinesBatch(entries);
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        verify(completionWriter).insertAllIfAbsent(eq(List.of(new CompletionEntry(1L, day2, null))), any(), eq(Map.of()));
+        verify(routineRepository).addCompletionCount(eq(1L), eq(1L), any());
+        verify(counterService).add(testRoutine, day2, 1);
+        verify(bitmapService).markAll(1L, List.of(day2));
+    }
+
+    @Test
+    void completeRoutinesBatch_미래날짜_거부() {
+        // given
+        when(compactionService.getCompactedBefore()).thenReturn(LocalDate.now().minusYears(1).withDayOfMonth(1));
+        List<CompletionEntry> entries = List.of(new CompletionEntry(1L, LocalDate.now().plusDays(1), null));
+
+        // when & then
+        assertThatThrownBy(() -> routineService.completeRoutinesBatch(entries))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(completionWriter);
+    }
+
+    @Test
+    void completeRoutinesBatch_봉인된연도_거부() {
+        // given
+        when(compactionService.getCompactedBefore()).thenReturn(LocalDate.now().minusYears(1).withDayOfMonth(1));
+        LocalDate sealedDay = LocalDate.now().minusYears(3);
+        when(partitionService.getPartitionedYears()).thenReturn(Set.of(sealedDay.getYear()));
+        List<CompletionEntry> entries = List.of(new CompletionEntry(1L, sealedDay, null));
+
+        // when & then
+        assertThatThrownBy(() -> routineService.completeRoutinesBatch(entries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("봉인된 연도");
+        verifyNoInteractions(completionWriter);
+    }
+
+    @Test
+    void completeRoutinesBatch_압축된기간_거부() {
+        // given
+        when(compactionService.getCompactedBefore()).thenReturn(LocalDate.now().minusYears(1).withDayOfMonth(1));
+        List<CompletionEntry> entries = List.of(new CompletionEntry(1L, LocalDate.now().minusYears(1).minusMonths(1), null));
+
+        // when & then
+        assertThatThrownBy(() -> routineService.completeRoutinesBatch(entries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("압축된 기간");
+        verifyNoInteractions(completionWriter);
+    }
+
+    @Test
+    void getCompletionBuckets_압축된달은_요약날짜를_합침() {
+        // given
+        LocalDate from = LocalDate.of(2023, 3, 1);
+        LocalDate to = LocalDate.of(2023, 3, 31);
+        when(compactionService.findCompactedDates(1L, from, to.plusDays(1)))
+                .thenReturn(List.of(LocalDate.of(2023, 3, 2), LocalDate.of(2023, 3, 20)));
+
+        // when
+        Map<LocalDate, Long> buckets = routineService.getCompletionBuckets(1L, BucketUnit.MONTH, from, to);
+
+        // then
+        assertThat(buckets).containsExactly(Map.entry(from, 2L));
+    }
+
+    @Test
+    void yearBitmap_비트설정과_완료날짜() {
+        // given
+        RoutineYearBitmap bitmap = RoutineYearBitmap.empty(1L, 2024);
+
+        // when
+        bitmap.set(LocalDate.of(2024, 1, 1), true);
+        bitmap.set(LocalDate.of(2024, 12, 31), true);  // 윤년 366번째 날
+        bitmap.set(LocalDate.of(2024, 3, 1), true);
+        bitmap.set(LocalDate.of(2024, 3, 1), false);
+
+        // then
+        assertThat(bitmap.getDays()).hasSize(RoutineYearBitmap.BYTES);
+        assertThat(bitmap.isSet(LocalDate.of(2024, 12, 31))).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+        assertThat(bitmap.completedDates()).containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    void monthlySummary_완료수와_일자비트마스크() {
+        // given
+        RoutineMonthlySummary summary = RoutineMonthlySummary.empty(1L, LocalDate.of(2024, 1, 15));
+
+        // when
+        summary.add(LocalDate.of(2024, 1, 1));
+        summary.add(LocalDate.of(2024, 1, 31));
+
+        // then
+        assertThat(summary.getMonth()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(summary.getCompletionCount()).isEqualTo(2);
+        assertThat(summary.isSet(LocalDate.of(2024, 1, 31))).isTrue();
+        assertThat(summary.completedDates()).containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        assertThatThrownBy(() -> summary.add(LocalDate.of(2024, 2, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -219,9 +417,12 @@ class RoutineServiceTest {
         RoutineCompletion completion = RoutineCompletion.builder()
                 .id(1L)
                 .routine(testRoutine)
+                .completedAt(LocalDateTime.now())
                 .build();
 
-        when(completionRepository.findTodayCompletion(1L)).thenReturn(Optional.of(completion));
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(completionRepository.findFirstByRoutineIdAndCompletedAtGreaterThanEqualOrderByCompletedAtDesc(eq(1L), any()))
+                .thenReturn(Optional.of(completion));
         doNothing().when(completionRepository).delete(completion);
 
         // when
@@ -229,17 +430,218 @@ class RoutineServiceTest {
 
         // then
         verify(completionRepository).delete(completion);
+        verify(routineRepository).decrementCompletionCount(1L);
+        verify(counterService).decrement(testRoutine, LocalDate.now());
+        verify(bitmapService).unmark(1L, completion.getCompletedAt().toLocalDate());
     }
 
     @Test
-    void isCompletedToday_완료됨() {
+    void completeRoutine_연결된목표_진행도증가() {
         // given
+        testRoutine.setGoalId(10L);
+        RoutineCompletion completion = RoutineCompletion.builder().id(1L).contributedGoalId(10L).build();
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(completionWriter.insertIfAbsent(eq(1L), any(), eq(LocalDate.now()), any(), eq(10L))).thenReturn(true);
+        when(completionRepository.findByRoutineIdAndCompletionDate(1L, LocalDate.now())).thenReturn(Optional.of(completion));
+
+        // when
+        routineService.completeRoutine(1L, null);
+
+        // then
+        verify(goalRepository).adjustProgress(10L, 1);
+    }
+
+    @Test
+    void uncompleteRoutine_완료당시_목표에서_진행도차감() {
+        // given: 완료 후 다른 목표로 연결이 바뀐 경우
+        testRoutine.setGoalId(20L);
         RoutineCompletion completion = RoutineCompletion.builder()
+                .id(1L)
+                .completedAt(LocalDateTime.now())
+                .contributedGoalId(10L)
+                .build();
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(completionRepository.findFirstByRoutineIdAndCompletedAtGreaterThanEqualOrderByCompletedAtDesc(eq(1L), any()))
+                .thenReturn(Optional.of(completion));
+
+        // when
+        routineService.uncompleteRoutine(1L);
+
+        // then
+        verify(goalRepository).adjustProgress(10L, -1);
+        verify(goalRepository, never()).adjustProgress(eq(20L), anyInt());
+    }
+
+    @Test
+    void linkGoal_목표횟수설정과_연결() {
+        // given
+        Goal goal = Goal.builder().id(10L).title("책 20권 읽기").type(GoalType.YEARLY).build();
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(goalRepository.findById(10L)).thenReturn(Optional.of(goal));
+        when(routineRepository.save(testRoutine)).thenReturn(testRoutine);
+
+        // when
+        Routine result = routineService.linkGoal(1L, 10L, 20);
+
+        // then
+        assertThat(result.getGoalId()).isEqualTo(10L);
+        assertThat(goal.getProgressTarget()).isEqualTo(20);
+        verify(goalRepository).save(goal);
+    }
+
+    @Test
+    void linkGoal_목표횟수없는목표_거부() {
+        // given
+        Goal goal = Goal.builder().id(10L).title("건강").type(GoalType.YEARLY).build();
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(goalRepository.findById(10L)).thenReturn(Optional.of(goal));
+
+        // when & then
+        assertThatThrownBy(() -> routineService.linkGoal(1L, 10L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(routineRepository, never()).save(any());
+    }
+
+    @Test
+    void completeRoutine_주간루틴_목표달성시_중복생성안함() {
+        // given
+        testRoutine.setFrequency(RoutineFrequency.WEEKLY);
+        RoutineCompletion mondayCompletion = RoutineCompletion.builder()
                 .id(1L)
                 .routine(testRoutine)
                 .build();
+        LocalDate weekStart = RoutineFrequency.WEEKLY.periodStart(LocalDate.now());
 
-        when(completionRepository.findTodayCompletion(1L)).thenReturn(Optional.of(completion));
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(counterService.getCount(testRoutine, weekStart)).thenReturn(1);
+        when(completionRepository.findFirstByRoutineIdAndCompletedAtGreaterThanEqualOrderByCompletedAtDesc(
+                1L, weekStart.atStartOfDay())).thenReturn(Optional.of(mondayCompletion));
+
+        // when
+        RoutineCompletion result = routineService.completeRoutine(1L, null);
+
+        // then
+        assertThat(result).isEqualTo(mondayCompletion);
+        verifyNoInteractions(completionWriter);
+        verify(counterService, never()).increment(any(), any());
+    }
+
+    @Test
+    void completeRoutine_목표횟수_미달이면_완료추가() {
+        // given
+        testRoutine.setFrequency(RoutineFrequency.WEEKLY);
+        testRoutine.setTargetCount(3);
+        LocalDate weekStart = RoutineFrequency.WEEKLY.periodStart(LocalDate.now());
+        RoutineCompletion completion = RoutineCompletion.builder()
+                .id(2L)
+                .routine(testRoutine)
+                .build();
+
+        when(routineRepository.findById(1L)).thenReturn(Optional.of(testRoutine));
+        when(counterService.getCount(testRoutine, weekStart)).thenReturn(1);
+        when(completionWriter.insertIfAbsent(eq(1L), any(), eq(LocalDate.now()), any(), any())).thenReturn(true);
+        when(completionRepository.findByRoutineIdAndCompletionDate(1L, LocalDate.now())).thenReturn(Optional.of(completion));
+
+        // when
+        RoutineCompletion result = routineService.completeRoutine(1L, null);
+
+        // then
+        assertThat(result).isEqualTo(completion);
+        verify(counterService).increment(testRoutine, weekStart);
+    }
+
+    @Test
+    void createRoutine_목표횟수_주기한도초과() {
+        // given
+        testRoutine.setFrequency(RoutineFrequency.WEEKLY);
+        testRoutine.setTargetCount(8);
+
+        // when & then
+        assertThatThrownBy(() -> routineService.createRoutine(testRoutine))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("목표 횟수");
+    }
+
+    @Test
+    void getPeriodStatuses_주기별_달성여부() {
+        // given
+        LocalDate wednesday = LocalDate.of(2025, 1, 15);
+        Routine daily = Routine.builder().id(1L).title("매일").frequency(RoutineFrequency.DAILY).build();
+        Routine weekly = Routine.builder().id(2L).title("주 3회").frequency(RoutineFrequency.WEEKLY).targetCount(3).build();
+        Routine monthly = Routine.builder().id(3L).title("월간").frequency(RoutineFrequency.MONTHLY).build();
+        List<Routine> routines = List.of(daily, weekly, monthly);
+
+        // 매일 루틴은 오늘 완료, 주 3회 루틴은 이번 주 2회 완료
+        when(counterService.getCurrentCounts(routines, wednesday)).thenReturn(Map.of(1L, 1, 2L, 2));
+        when(completionRepository.findCompletedRoutineIds(any(), any(), any())).thenReturn(Set.of(1L));
+
+        // when
+        List<RoutinePeriodStatus> statuses = routineService.getPeriodStatuses(routines, wednesday);
+
+        // then
+        assertThat(statuses).extracting(RoutinePeriodStatus::isSatisfied).containsExactly(true, false, false);
+        assertThat(statuses).extracting(RoutinePeriodStatus::isShownToday).containsExactly(true, true, true);
+        assertThat(statuses).extracting(RoutinePeriodStatus::getPeriodCompletions).containsExactly(1L, 2L, 0L);
+        assertThat(statuses.get(1).getPeriodStart()).isEqualTo(LocalDate.of(2025, 1, 13));
+        assertThat(statuses.get(1).getPeriodEnd()).isEqualTo(LocalDate.of(2025, 1, 20));
+        assertThat(statuses.get(2).getPeriodStart()).isEqualTo(LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    void getCompletionBuckets_주단위는_일별집계를_월요일기준으로_합침() {
+        // given (2025-01-13 월요일)
+        List<Object[]> rows = List.of(
+                new Object[] {LocalDate.of(2025, 1, 13), 1L},
+                new Object[] {LocalDate.of(2025, 1, 15), 1L},
+                new Object[] {LocalDate.of(2025, 1, 20), 1L});
+        when(completionRepository.countByDay(1L,
+                LocalDate.of(2025, 1, 13).atStartOfDay(), LocalDate.of(2025, 1, 22).atStartOfDay()))
+                .thenReturn(rows);
+
+        // when
+        Map<LocalDate, Long> buckets = routineService.getCompletionBuckets(
+                1L, BucketUnit.WEEK, LocalDate.of(2025, 1, 14), LocalDate.of(2025, 1, 21));
+
+        // then
+        assertThat(buckets).containsExactly(
+                Map.entry(LocalDate.of(2025, 1, 13), 2L),
+                Map.entry(LocalDate.of(2025, 1, 20), 1L));
+    }
+
+    @Test
+    void getRoutineCompletionPage_커서이후_조회() {
+        // given
+        LocalDateTime completedAt = LocalDateTime.of(2025, 1, 15, 9, 0);
+        CompletionCursor cursor = CompletionCursor.decode(new CompletionCursor(completedAt, 10L).encode());
+
+        // when
+        routineService.getRoutineCompletionPage(1L, cursor, 20);
+
+        // then
+        verify(completionRepository).findPageBefore(1L, completedAt, 10L, PageRequest.of(0, 21));
+    }
+
+    @Test
+    void getRoutineCompletionPage_hot기록이_모자라면_파티션에서_이어서_조회() {
+        // given
+        RoutineCompletion hot = RoutineCompletion.builder()
+                .id(30L).completedAt(LocalDateTime.of(2025, 1, 2, 9, 0)).build();
+        RoutineCompletion sealed = RoutineCompletion.builder()
+                .id(7L).completedAt(LocalDateTime.of(2022, 12, 30, 9, 0)).build();
+        when(completionRepository.findFirstPage(1L, PageRequest.of(0, 3))).thenReturn(List.of(hot));
+        when(partitionService.findPageBefore(1L, hot.getCompletedAt(), 30L, 2)).thenReturn(List.of(sealed));
+
+        // when
+        List<RoutineCompletion> page = routineService.getRoutineCompletionPage(1L, null, 2);
+
+        // then
+        assertThat(page).containsExactly(hot, sealed);
+    }
+
+    @Test
+    void isCompletedToday_완료됨() {
+        // given
+        when(bitmapService.isCompletedOn(1L, LocalDate.now())).thenReturn(true);
 
         // when
         boolean result = routineService.isCompletedToday(1L);
@@ -251,7 +653,7 @@ class RoutineServiceTest {
     @Test
     void isCompletedToday_미완료() {
         // given
-        when(completionRepository.findTodayCompletion(1L)).thenReturn(Optional.empty());
+        when(bitmapService.isCompletedOn(1L, LocalDate.now())).thenReturn(false);
 
         // when
         boolean result = routineService.isCompletedToday(1L);
@@ -260,6 +662,33 @@ class RoutineServiceTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void getCompletedRoutineIds_주간_구간() {
+        // given
+        LocalDate wednesday = LocalDate.of(2025, 1, 15);
+        when(completionRepository.findCompletedRoutineIds(any(), any(), any())).thenReturn(Set.of(2L));
+
+        // when
+        Set<Long> result = routineService.getCompletedRoutineIds(List.of(1L, 2L), RoutineFrequency.WEEKLY, wednesday);
+
+        // then
+        assertThat(result).containsExactly(2L);
+        verify(completionRepository).findCompletedRoutineIds(
+                List.of(1L, 2L),
+                LocalDate.of(2025, 1, 13).atStartOfDay(),
+                LocalDate.of(2025, 1, 20).atStartOfDay());
+    }
+
+    @Test
+    void getCompletedRoutineIds_빈_목록은_조회하지_않음() {
+        // when
+        Set<Long> result = routineService.getCompletedRoutineIds(List.of(), RoutineFrequency.DAILY, LocalDate.now());
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(completionRepository);
+    }
+
     @Test
     void getRoutinesByFrequency_성공() {
         // given
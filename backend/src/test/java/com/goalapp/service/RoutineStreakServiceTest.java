@@ -0,0 +1,189 @@
+package com.goalapp.service;
+
+import com.goalapp.entity.JobCheckpoint;
+import com.goalapp.entity.Routine;
+import com.goalapp.entity.RoutineFrequency;
+import com.goalapp.repository.JobCheckpointRepository;
+import com.goalapp.repository.RoutineCompletionRepository;
+import com.goalapp.repository.RoutineRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("루틴 연속 달성 기록 테스트")
+class RoutineStreakServiceTest {
+
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private RoutineCompletionRepository completionRepository;
+
+    @Mock
+    private CompletionPartitionService partitionService;
+
+    @Mock
+    private RoutineCompactionService compactionService;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private RoutineStreakService streakService;
+
+    @Test
+    @DisplayName("직전 주기에 이어서 목표를 채우면 연속 기록 +1")
+    void onCompleted_직전주기에_이어짐() {
+        // given (2025-01-13 월요일)
+        Routine routine = weekly(2, 3, 5, LocalDate.of(2025, 1, 6));
+
+        // when
+        streakService.onCompleted(routine, LocalDate.of(2025, 1, 13), 2);
+
+        // then
+        verify(routineRepository).updateStreak(1L, 4, 5, LocalDate.of(2025, 1, 13));
+    }
+
+    @Test
+    @DisplayName("한 주기를 건너뛰면 연속 기록은 1부터 다시 시작")
+    void onCompleted_주기를_건너뜀() {
+        // given
+        Routine routine = weekly(1, 3, 5, LocalDate.of(2024, 12, 30));
+
+        // when
+        streakService.onCompleted(routine, LocalDate.of(2025, 1, 13), 1);
+
+        // then
+        verify(routineRepository).updateStreak(1L, 1, 5, LocalDate.of(2025, 1, 13));
+    }
+
+    @Test
+    @DisplayName("목표 횟수에 아직 못 미치면 변경 없음")
+    void onCompleted_목표미달() {
+        // given
+        Routine routine = weekly(3, 3, 5, LocalDate.of(2025, 1, 6));
+
+        // when
+        streakService.onCompleted(routine, LocalDate.of(2025, 1, 13), 2);
+
+        // then
+        verify(routineRepository, never()).updateStreak(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("취소로 이번 주기가 미달성이 되면 연속 기록 -1 (최장 기록 유지)")
+    void onUncompleted_현재기록_감소() {
+        // given
+        Routine routine = weekly(1, 4, 6, LocalDate.of(2025, 1, 13));
+
+        // when
+        streakService.onUncompleted(routine, LocalDate.of(2025, 1, 13), 0);
+
+        // then
+        verify(routineRepository).updateStreak(1L, 3, 6, LocalDate.of(2025, 1, 6));
+    }
+
+    @Test
+    @DisplayName("완료 날짜 스트림으로 주간 목표 연속 기록 계산")
+    void streakCalculator_주간목표() {
+        // given: 주 2회 목표, 1/6주 달성, 1/13주 1회(미달), 1/20주·1/27주 달성
+        StreakCalculator calculator = new StreakCalculator(RoutineFrequency.WEEKLY, 2);
+
+        // when
+        for (LocalDate date : new LocalDate[] {
+                LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 8),
+                LocalDate.of(2025, 1, 14),
+                LocalDate.of(2025, 1, 20), LocalDate.of(2025, 1, 20), LocalDate.of(2025, 1, 22),
+                LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 31)}) {
+            calculator.accept(date);
+        }
+        calculator.finish();
+
+        // then
+        assertThat(calculator.getCurrentStreak()).isEqualTo(2);
+        assertThat(calculator.getLongestStreak()).isEqualTo(2);
+        assertThat(calculator.getLastSatisfiedPeriod()).isEqualTo(LocalDate.of(2025, 1, 27));
+    }
+
+    @Test
+    @DisplayName("압축된 완료 날짜는 원본 기록과 날짜 순으로 합쳐 계산")
+    void streakCalculator_압축날짜_병합() {
+        // given: 1/1~1/2는 월 요약, 1/2(중복)~1/4는 원본 기록
+        StreakCalculator calculator = new StreakCalculator(RoutineFrequency.DAILY, 1);
+        calculator.preload(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2)));
+
+        // when
+        calculator.accept(LocalDate.of(2025, 1, 2));
+        calculator.accept(LocalDate.of(2025, 1, 3));
+        calculator.accept(LocalDate.of(2025, 1, 4));
+        calculator.finish();
+
+        // then
+        assertThat(calculator.getCurrentStreak()).isEqualTo(4);
+        assertThat(calculator.getLongestStreak()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("부팅 시 체크포인트가 없으면 전체 재계산 후 체크포인트를 남김")
+    void backfillOnStartup_체크포인트없음() {
+        // given
+        when(checkpointRepository.existsById("routine-streak-backfill")).thenReturn(false);
+        when(routineRepository.count()).thenReturn(3L);
+
+        // when
+        streakService.backfillOnStartup();
+
+        // then - 완료 기록 스트리밍까지 실행
+        verify(transactionTemplate).executeWithoutResult(any());
+        verify(checkpointRepository).save(argThat((JobCheckpoint checkpoint) ->
+                "routine-streak-backfill".equals(checkpoint.getName())));
+    }
+
+    @Test
+    @DisplayName("부팅 시 체크포인트가 있으면 재계산하지 않음")
+    void backfillOnStartup_체크포인트있음() {
+        // given
+        when(checkpointRepository.existsById("routine-streak-backfill")).thenReturn(true);
+
+        // when
+        streakService.backfillOnStartup();
+
+        // then
+        verifyNoInteractions(transactionTemplate, jdbcTemplate);
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    private Routine weekly(int targetCount, int currentStreak, int longestStreak, LocalDate lastStreakPeriod) {
+        return Routine.builder()
+                .id(1L)
+                .title("주간 루틴")
+                .frequency(RoutineFrequency.WEEKLY)
+                .targetCount(targetCount)
+                .currentStreak(currentStreak)
+                .longestStreak(longestStreak)
+                .lastStreakPeriod(lastStreakPeriod)
+                .build();
+    }
+}
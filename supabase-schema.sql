@@ -1,5 +1,7 @@
 -- Supabase 데이터베이스 스키마 및 초기 데이터
 -- 이 파일을 Supabase SQL Editor에서 실행하세요
+-- supabase 프로필은 ddl-auto: validate 이므로 엔티티를 바꾸면 이 파일도 함께 바꿔야 합니다.
+-- 모든 문장은 여러 번 실행해도 안전합니다. 기존 DB에 다시 실행하면 빠진 테이블/컬럼/인덱스만 추가합니다 (2번 참고).
 
 -- ===== 1. 테이블 생성 =====
 
@@ -9,19 +11,243 @@ CREATE TABLE IF NOT EXISTS goals (
     title VARCHAR(255) NOT NULL,
     description TEXT,
     type VARCHAR(50) NOT NULL CHECK (type IN ('LIFETIME', 'LIFETIME_SUB', 'YEARLY', 'MONTHLY', 'WEEKLY', 'DAILY')),
-    status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE' CHECK (status IN ('ACTIVE', 'COMPLETED', 'ARCHIVED')),
+    status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE'
+        CONSTRAINT goals_status_check CHECK (status IN ('ACTIVE', 'COMPLETED', 'EXPIRED', 'ARCHIVED', 'FAILED', 'POSTPONED')),
     parent_goal_id BIGINT REFERENCES goals(id) ON DELETE CASCADE,
     due_date TIMESTAMP,
     completed_at TIMESTAMP,
+    expired_at TIMESTAMP,
     is_completed BOOLEAN NOT NULL DEFAULT false,
     priority INTEGER NOT NULL DEFAULT 1,
     reminder_enabled BOOLEAN NOT NULL DEFAULT false,
     reminder_frequency VARCHAR(50),
+    next_reminder_at TIMESTAMP,
+    reminder_attempts INTEGER NOT NULL DEFAULT 0,
+    progress_target INTEGER,
+    progress_current INTEGER NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
--- ===== 2. 인덱스 생성 =====
+-- 보관 목표 콜드 테이블 (GOAL_ARCHIVE_MOVE 작업이 goals에서 id 그대로 옮김)
+CREATE TABLE IF NOT EXISTS goals_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50),
+    parent_goal_id BIGINT,
+    due_date TIMESTAMP,
+    completed_at TIMESTAMP,
+    expired_at TIMESTAMP,
+    is_completed BOOLEAN NOT NULL DEFAULT false,
+    priority INTEGER NOT NULL DEFAULT 1,
+    reminder_enabled BOOLEAN NOT NULL DEFAULT false,
+    reminder_frequency VARCHAR(255),
+    next_reminder_at TIMESTAMP,
+    reminder_attempts INTEGER NOT NULL DEFAULT 0,
+    progress_target INTEGER,
+    progress_current INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+
+-- 루틴
+CREATE TABLE IF NOT EXISTS routines (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    frequency VARCHAR(50) NOT NULL,
+    target_count INTEGER NOT NULL DEFAULT 1,
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    goal_id BIGINT,
+    completion_count BIGINT NOT NULL DEFAULT 0,
+    last_completed_at TIMESTAMP,
+    current_streak INTEGER NOT NULL DEFAULT 0,
+    longest_streak INTEGER NOT NULL DEFAULT 0,
+    last_streak_period DATE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+-- 루틴 완료 기록 (hot 테이블, 지난 연도는 routine_completions_y{연도} 파티션으로 봉인 - 앱이 생성)
+CREATE TABLE IF NOT EXISTS routine_completions (
+    id BIGSERIAL PRIMARY KEY,
+    routine_id BIGINT NOT NULL REFERENCES routines(id) ON DELETE CASCADE,
+    completed_at TIMESTAMP NOT NULL,
+    completion_date DATE,
+    note VARCHAR(500),
+    contributed_goal_id BIGINT,
+    CONSTRAINT uk_routine_completions_routine_date UNIQUE (routine_id, completion_date)
+);
+
+-- 루틴 주기별 완료 카운터
+CREATE TABLE IF NOT EXISTS routine_period_counters (
+    id BIGSERIAL PRIMARY KEY,
+    routine_id BIGINT NOT NULL,
+    period_start DATE NOT NULL,
+    completion_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_routine_period_counters_routine_period UNIQUE (routine_id, period_start)
+);
+
+-- 루틴 연도별 완료 비트맵 (366비트)
+CREATE TABLE IF NOT EXISTS routine_year_bitmaps (
+    id BIGSERIAL PRIMARY KEY,
+    routine_id BIGINT NOT NULL,
+    bitmap_year INTEGER NOT NULL,
+    days BYTEA NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_routine_year_bitmaps_routine_year UNIQUE (routine_id, bitmap_year)
+);
+
+-- 루틴 완료 기록 연도별 파티션 카탈로그
+CREATE TABLE IF NOT EXISTS completion_partitions (
+    id BIGSERIAL PRIMARY KEY,
+    partition_year INTEGER NOT NULL,
+    table_name VARCHAR(63) NOT NULL,
+    state VARCHAR(20) NOT NULL,
+    row_count BIGINT NOT NULL DEFAULT 0,
+    sealed_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_completion_partitions_year UNIQUE (partition_year)
+);
+
+-- 오래된 루틴 완료 기록의 월별 요약 (압축 후 원본 대신 사용)
+CREATE TABLE IF NOT EXISTS routine_monthly_summaries (
+    id BIGSERIAL PRIMARY KEY,
+    routine_id BIGINT NOT NULL,
+    summary_month DATE NOT NULL,
+    completion_count INTEGER NOT NULL,
+    day_mask INTEGER NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_routine_monthly_summaries_routine_month UNIQUE (routine_id, summary_month)
+);
+
+-- 백그라운드 작업 실행 이력 / 체크포인트
+CREATE TABLE IF NOT EXISTS job_runs (
+    id BIGSERIAL PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    trigger_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    queued_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    message VARCHAR(1000)
+);
+
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    name VARCHAR(150) PRIMARY KEY,
+    watermark TIMESTAMP,
+    last_id BIGINT,
+    updated_at TIMESTAMP
+);
+
+-- 일별/타입별 통계 롤업
+CREATE TABLE IF NOT EXISTS daily_stats (
+    id BIGSERIAL PRIMARY KEY,
+    stat_date DATE NOT NULL,
+    goal_type VARCHAR(50) NOT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    created_completed_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    expired_count BIGINT NOT NULL DEFAULT 0,
+    routine_completion_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_daily_stats_date_type UNIQUE (stat_date, goal_type)
+);
+
+-- 완료 시점 분위수 스케치 (완료 월 × 타입 × 지표)
+CREATE TABLE IF NOT EXISTS completion_sketches (
+    id BIGSERIAL PRIMARY KEY,
+    sketch_month DATE NOT NULL,
+    goal_type VARCHAR(50) NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    sample_count BIGINT NOT NULL DEFAULT 0,
+    data BYTEA NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_completion_sketches_month_type_metric UNIQUE (sketch_month, goal_type, metric)
+);
+
+-- 목표 진행률 일별 스냅샷 (바뀐 날만 저장)
+CREATE TABLE IF NOT EXISTS goal_progress_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    goal_id BIGINT NOT NULL,
+    snapshot_date DATE NOT NULL,
+    done_count INTEGER NOT NULL,
+    total_count INTEGER NOT NULL,
+    CONSTRAINT uk_goal_progress_snapshots_goal_date UNIQUE (goal_id, snapshot_date)
+);
+
+-- 주간/월간 회고 리포트 (gzip JSON)
+CREATE TABLE IF NOT EXISTS review_reports (
+    id BIGSERIAL PRIMARY KEY,
+    review_period VARCHAR(50) NOT NULL,
+    period_start DATE NOT NULL,
+    period_end DATE NOT NULL,
+    content BYTEA NOT NULL,
+    etag VARCHAR(32) NOT NULL,
+    generated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_review_reports_period_start UNIQUE (review_period, period_start)
+);
+
+-- ===== 2. 기존 DB 업그레이드 =====
+-- 위 CREATE TABLE IF NOT EXISTS는 이미 있는 테이블을 바꾸지 않으므로, 예전 스키마의 테이블에 빠진 컬럼을 추가
+
+ALTER TABLE goals DROP CONSTRAINT IF EXISTS goals_status_check;
+ALTER TABLE goals ADD CONSTRAINT goals_status_check
+    CHECK (status IN ('ACTIVE', 'COMPLETED', 'EXPIRED', 'ARCHIVED', 'FAILED', 'POSTPONED'));
+
+ALTER TABLE goals ADD COLUMN IF NOT EXISTS next_reminder_at TIMESTAMP;
+ALTER TABLE goals ADD COLUMN IF NOT EXISTS reminder_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE goals ADD COLUMN IF NOT EXISTS progress_target INTEGER;
+ALTER TABLE goals ADD COLUMN IF NOT EXISTS progress_current INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE goals ADD COLUMN IF NOT EXISTS expired_at TIMESTAMP;
+
+ALTER TABLE goals_archive ADD COLUMN IF NOT EXISTS expired_at TIMESTAMP;
+
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS target_count INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS goal_id BIGINT;
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS completion_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS last_completed_at TIMESTAMP;
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS current_streak INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS longest_streak INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE routines ADD COLUMN IF NOT EXISTS last_streak_period DATE;
+
+ALTER TABLE routine_completions ADD COLUMN IF NOT EXISTS completion_date DATE;
+ALTER TABLE routine_completions ADD COLUMN IF NOT EXISTS contributed_goal_id BIGINT;
+
+-- ddl-auto: update로 만든 job_runs에는 작업 종류 CHECK 제약이 생겨 새 작업 종류를 막으므로 제거 (JobTypeConverter 참고)
+ALTER TABLE job_runs DROP CONSTRAINT IF EXISTS job_runs_job_type_check;
+
+-- 완료 날짜 채우기 (앱 부팅 시 RoutineCompletionWriter와 같은 규칙: 같은 날 중복 기록은 가장 먼저 만든 것만)
+UPDATE routine_completions SET completion_date = CAST(completed_at AS DATE)
+WHERE completion_date IS NULL
+  AND NOT EXISTS (SELECT 1 FROM routine_completions o WHERE o.routine_id = routine_completions.routine_id
+                  AND o.completion_date = CAST(routine_completions.completed_at AS DATE))
+  AND id = (SELECT MIN(d.id) FROM routine_completions d WHERE d.routine_id = routine_completions.routine_id
+            AND d.completion_date IS NULL AND CAST(d.completed_at AS DATE) = CAST(routine_completions.completed_at AS DATE));
+
+-- 만료 시각 채우기 (앱 부팅 시 GoalExpirationService와 같은 규칙: 마지막 수정 시각을 만료 시각으로 봄)
+-- 이미 보관된 목표는 만료였는지 알 수 없어 채우지 않는다.
+UPDATE goals SET expired_at = COALESCE(updated_at, created_at) WHERE status = 'EXPIRED' AND expired_at IS NULL;
+UPDATE goals_archive SET expired_at = COALESCE(updated_at, created_at) WHERE status = 'EXPIRED' AND expired_at IS NULL;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_routine_completions_routine_date') THEN
+        ALTER TABLE routine_completions
+            ADD CONSTRAINT uk_routine_completions_routine_date UNIQUE (routine_id, completion_date);
+    END IF;
+END $$;
+
+-- 누적 완료 수/주기 카운터, 연속 기록, 일별 통계, 완료 시간 스케치, 연도별 비트맵은
+-- 앱이 부팅 시/매일 작업으로 기존 완료 기록에 맞춰 채운다.
+
+-- ===== 3. 인덱스 생성 =====
 
 -- 부모-자식 관계 조회 최적화
 CREATE INDEX IF NOT EXISTS idx_goals_parent_goal_id ON goals(parent_goal_id);
@@ -35,17 +261,59 @@ CREATE INDEX IF NOT EXISTS idx_goals_status ON goals(status);
 -- 마감일 조회 최적화
 CREATE INDEX IF NOT EXISTS idx_goals_due_date ON goals(due_date);
 
--- ===== 3. RLS (Row Level Security) 설정 =====
+-- 보존 정책/알림/통계 조회
+CREATE INDEX IF NOT EXISTS idx_goals_status_updated_at ON goals(status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_goals_next_reminder_at ON goals(next_reminder_at);
+CREATE INDEX IF NOT EXISTS idx_goals_created_at ON goals(created_at);
+CREATE INDEX IF NOT EXISTS idx_goals_completed_at ON goals(completed_at);
+
+-- 보관 목표 (status, archived_at, id 는 보관 목록 키셋 페이지용)
+CREATE INDEX IF NOT EXISTS idx_goals_archive_parent_goal_id ON goals_archive(parent_goal_id);
+CREATE INDEX IF NOT EXISTS idx_goals_archive_archived_at ON goals_archive(archived_at);
+CREATE INDEX IF NOT EXISTS idx_goals_archive_status_archived_at ON goals_archive(status, archived_at, id);
+CREATE INDEX IF NOT EXISTS idx_goals_archive_created_at ON goals_archive(created_at);
+CREATE INDEX IF NOT EXISTS idx_goals_archive_completed_at ON goals_archive(completed_at);
+
+-- 루틴
+CREATE INDEX IF NOT EXISTS idx_routines_goal_id ON routines(goal_id);
+CREATE INDEX IF NOT EXISTS idx_routine_completions_routine_completed_at ON routine_completions(routine_id, completed_at);
+CREATE INDEX IF NOT EXISTS idx_routine_completions_completed_at ON routine_completions(completed_at);
+
+-- 작업 이력
+CREATE INDEX IF NOT EXISTS idx_job_runs_type_started_at ON job_runs(job_type, started_at);
+
+-- ===== 4. RLS (Row Level Security) 설정 =====
 -- 현재는 인증 없이 모든 접근 허용 (추후 인증 시스템 추가 시 수정)
 
 ALTER TABLE goals ENABLE ROW LEVEL SECURITY;
 
 -- 모든 사용자가 모든 작업 허용 (임시 정책)
+DROP POLICY IF EXISTS "Enable all access for goals" ON goals;
 CREATE POLICY "Enable all access for goals" ON goals
     FOR ALL USING (true)
     WITH CHECK (true);
 
--- ===== 4. 초기 테스트 데이터 삽입 =====
+-- 나머지 테이블은 백엔드만 사용하므로 정책 없이 RLS만 켜서 anon 접근을 막음 (백엔드 연결은 RLS 우회)
+ALTER TABLE goals_archive ENABLE ROW LEVEL SECURITY;
+ALTER TABLE routines ENABLE ROW LEVEL SECURITY;
+ALTER TABLE routine_completions ENABLE ROW LEVEL SECURITY;
+ALTER TABLE routine_period_counters ENABLE ROW LEVEL SECURITY;
+ALTER TABLE routine_year_bitmaps ENABLE ROW LEVEL SECURITY;
+ALTER TABLE completion_partitions ENABLE ROW LEVEL SECURITY;
+ALTER TABLE routine_monthly_summaries ENABLE ROW LEVEL SECURITY;
+ALTER TABLE job_runs ENABLE ROW LEVEL SECURITY;
+ALTER TABLE job_checkpoints ENABLE ROW LEVEL SECURITY;
+ALTER TABLE daily_stats ENABLE ROW LEVEL SECURITY;
+ALTER TABLE completion_sketches ENABLE ROW LEVEL SECURITY;
+ALTER TABLE goal_progress_snapshots ENABLE ROW LEVEL SECURITY;
+ALTER TABLE review_reports ENABLE ROW LEVEL SECURITY;
+
+-- ===== 5. 초기 테스트 데이터 삽입 =====
+-- 빈 DB에만 삽입 (업그레이드로 다시 실행할 때는 건너뜀)
+
+DO $$
+BEGIN
+IF NOT EXISTS (SELECT 1 FROM goals) THEN
 
 -- 평생 목표들
 INSERT INTO goals (title, description, type, status, due_date, is_completed, priority, reminder_enabled, created_at, updated_at) 
@@ -93,7 +361,10 @@ VALUES ('Controller 작성', 'GoalController REST API 구현', 'DAILY', 'COMPLET
 INSERT INTO goals (title, description, type, status, parent_goal_id, due_date, is_completed, priority, reminder_enabled, reminder_frequency, created_at, updated_at) 
 VALUES ('독립 일간 목표', '책 30분 읽기', 'DAILY', 'ACTIVE', NULL, '2025-10-12 23:59:59', false, 2, true, 'DAILY', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
--- ===== 5. 확인 쿼리 =====
+END IF;
+END $$;
+
+-- ===== 6. 확인 쿼리 =====
 
 -- 데이터가 정상적으로 삽입되었는지 확인
 SELECT 'goals 테이블 레코드 수:' as info, COUNT(*) as count FROM goals;